@@ -0,0 +1,80 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.schedule.BusyHeatmapCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.IsTagInPersonPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Tag;
+import seedu.address.model.schedule.BusyHistogram;
+import seedu.address.model.schedule.DayOccupancy;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * Benchmarks the busy heatmap of a week over the persons sharing a tag, which is a sixth of the address book, and
+ * the counting of every schedule in the address book with and without the parallel reduction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BusyHeatmapBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private Model model;
+    private BusyHeatmapCommand weekCommand;
+    private List<Schedule> schedules;
+    private LocalDate startDate;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(SyntheticDataUtil.getAddressBook(size), new UserPrefs());
+        startDate = SyntheticDataUtil.START_DATE.plusDays(3);
+        weekCommand = new BusyHeatmapCommand(new IsTagInPersonPredicate(new Tag(SyntheticDataUtil.SAMPLE_TAG)),
+                startDate, startDate.plusDays(6));
+        schedules = model.getAddressBook().getPersonList().stream().map(Person::getSchedule)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public CommandResult week() throws CommandException {
+        return weekCommand.execute(model);
+    }
+
+    @Benchmark
+    public BusyHistogram allSchedulesParallel() {
+        return BusyHistogram.of(schedules, startDate, startDate.plusDays(6), DayOccupancy.DEFAULT_SLOT_MINUTES);
+    }
+
+    @Benchmark
+    public BusyHistogram allSchedulesSequential() {
+        BusyHistogram histogram = new BusyHistogram(startDate, startDate.plusDays(6),
+                DayOccupancy.DEFAULT_SLOT_MINUTES);
+        schedules.forEach(histogram::addSchedule);
+        return histogram;
+    }
+}
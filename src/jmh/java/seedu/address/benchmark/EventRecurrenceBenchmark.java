@@ -0,0 +1,67 @@
+package seedu.address.benchmark;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.schedule.Event;
+import seedu.address.model.schedule.EventDescription;
+import seedu.address.model.schedule.RecurFrequency;
+
+/**
+ * Benchmarks the recurrence arithmetic of a single event.
+ * Run with {@code -prof gc} to check that the epoch day variants do not allocate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventRecurrenceBenchmark {
+
+    private Event event;
+    private Event equalEvent;
+    private long relativeEpochDay;
+
+    @Setup
+    public void setUp() {
+        // an event that ends on the day after it starts, which is the costliest case
+        event = new Event(new EventDescription("Tutorial"), SyntheticDataUtil.START_DATE, LocalTime.of(23, 0),
+                Duration.ofHours(3), RecurFrequency.WEEKLY);
+        equalEvent = new Event(event.getEventDescription(), event.getDate().plusDays(70), event.getTime(),
+                event.getDuration(), event.getRecurFrequency());
+        relativeEpochDay = event.getDate().plusDays(100).toEpochDay();
+    }
+
+    @Benchmark
+    public long getClosestStartEpochDay() {
+        return event.getClosestStartEpochDay(relativeEpochDay);
+    }
+
+    @Benchmark
+    public long getClosestEndEpochDay() {
+        return event.getClosestEndEpochDay(relativeEpochDay);
+    }
+
+    @Benchmark
+    public boolean willDateCollide() {
+        return event.willDateCollide(relativeEpochDay);
+    }
+
+    @Benchmark
+    public boolean equals() {
+        return event.equals(equalEvent);
+    }
+}
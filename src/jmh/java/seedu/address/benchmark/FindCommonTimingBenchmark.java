@@ -0,0 +1,64 @@
+package seedu.address.benchmark;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.schedule.FindCommonTimingCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.IsTagInPersonPredicate;
+import seedu.address.model.person.Tag;
+
+/**
+ * Benchmarks {@code FindCommonTimingCommand} over the persons sharing a tag, which is a sixth of the address book.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindCommonTimingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private Model model;
+    private FindCommonTimingCommand singleDayCommand;
+    private FindCommonTimingCommand dateRangeCommand;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(SyntheticDataUtil.getAddressBook(size), new UserPrefs());
+        IsTagInPersonPredicate predicate = new IsTagInPersonPredicate(new Tag(SyntheticDataUtil.SAMPLE_TAG));
+        LocalDate date = SyntheticDataUtil.START_DATE.plusDays(3);
+        singleDayCommand = new FindCommonTimingCommand(predicate, date);
+        dateRangeCommand = new FindCommonTimingCommand(predicate, date, date.plusDays(6), Duration.ofHours(1));
+    }
+
+    @Benchmark
+    public CommandResult singleDay() throws CommandException {
+        return singleDayCommand.execute(model);
+    }
+
+    @Benchmark
+    public CommandResult dateRange() throws CommandException {
+        return dateRangeCommand.execute(model);
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Benchmarks reading and writing a whole address book with {@code JsonAddressBookStorage}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private Path folder;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage readStorage;
+    private JsonAddressBookStorage writeStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("benchmark");
+        addressBook = SyntheticDataUtil.getAddressBook(size);
+        readStorage = new JsonAddressBookStorage(folder.resolve("read.json"));
+        readStorage.saveAddressBook(addressBook);
+        writeStorage = new JsonAddressBookStorage(folder.resolve("write.json"));
+    }
+
+    /**
+     * Deletes the files written by the benchmarks.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(readStorage.getAddressBookFilePath());
+        Files.deleteIfExists(writeStorage.getAddressBookFilePath());
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> read() throws DataConversionException {
+        return readStorage.readAddressBook();
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        writeStorage.saveAddressBook(addressBook);
+    }
+}
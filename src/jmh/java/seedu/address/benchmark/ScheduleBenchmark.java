@@ -0,0 +1,98 @@
+package seedu.address.benchmark;
+
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.IsPersonFreePredicate;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * Benchmarks the queries on the schedules of every person in an address book.
+ *
+ * Schedules cache the results of these queries, so each query is benchmarked both on schedules that have not been
+ * queried before, which measures the computation, and on schedules that have, which measures the cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScheduleBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private Person[] persons;
+    private IsPersonFreePredicate predicate;
+
+    @Setup
+    public void setUp() {
+        persons = SyntheticDataUtil.getPersons(size);
+        predicate = new IsPersonFreePredicate(LocalTime.of(12, 0), SyntheticDataUtil.START_DATE.plusDays(3),
+                Collections.emptySet());
+    }
+
+    @Benchmark
+    public void isPersonFree(FreshPersons freshPersons, Blackhole blackhole) {
+        for (Person person : freshPersons.persons) {
+            blackhole.consume(predicate.test(person));
+        }
+    }
+
+    @Benchmark
+    public void isPersonFreeCached(Blackhole blackhole) {
+        for (Person person : persons) {
+            blackhole.consume(predicate.test(person));
+        }
+    }
+
+    @Benchmark
+    public void getUpcomingSchedule(FreshPersons freshPersons, Blackhole blackhole) {
+        for (Person person : freshPersons.persons) {
+            blackhole.consume(person.getSchedule().getUpcomingSchedule(1));
+        }
+    }
+
+    @Benchmark
+    public void getUpcomingScheduleCached(Blackhole blackhole) {
+        for (Person person : persons) {
+            blackhole.consume(person.getSchedule().getUpcomingSchedule(1));
+        }
+    }
+
+    /**
+     * Copies of the benchmarked persons with new schedules, made before every invocation so that nothing is cached.
+     */
+    @State(Scope.Thread)
+    public static class FreshPersons {
+        private Person[] persons;
+
+        @Setup(Level.Invocation)
+        public void setUp(ScheduleBenchmark benchmark) {
+            persons = new Person[benchmark.persons.length];
+            for (int i = 0; i < persons.length; i++) {
+                Person person = benchmark.persons[i];
+                persons[i] = new Person(person.getName(), person.getPhone(), person.getTelegram(),
+                        person.getGithub(), person.getEmail(), person.getAddress(),
+                        new Schedule(person.getSchedule().getEvents()), person.getTags());
+            }
+        }
+    }
+}
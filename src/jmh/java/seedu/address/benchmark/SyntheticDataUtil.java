@@ -0,0 +1,77 @@
+package seedu.address.benchmark;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.schedule.Event;
+import seedu.address.model.schedule.EventDescription;
+import seedu.address.model.schedule.RecurFrequency;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Contains utility methods for generating address books of any size for benchmarks.
+ * Every person is a copy of one of the persons in {@link SampleDataUtil} with a unique name and phone number, and a
+ * schedule of events around {@link #START_DATE}. The same size always gives the same address book.
+ */
+public class SyntheticDataUtil {
+
+    public static final LocalDate START_DATE = LocalDate.of(2022, 3, 14);
+    public static final String SAMPLE_TAG = "friends";
+    public static final int EVENTS_PER_PERSON = 8;
+
+    private static final long SEED = 2103;
+    private static final int DAYS_SPREAD = 14;
+    private static final int FIRST_START_HOUR = 8;
+    private static final int START_HALF_HOURS = 24;
+    private static final int MAX_DURATION_HALF_HOURS = 6;
+
+    /**
+     * Returns {@code size} distinct persons.
+     */
+    public static Person[] getPersons(int size) {
+        Person[] samplePersons = SampleDataUtil.getSamplePersons();
+        Random random = new Random(SEED);
+        Person[] persons = new Person[size];
+        for (int i = 0; i < size; i++) {
+            Person samplePerson = samplePersons[i % samplePersons.length];
+            persons[i] = new Person(new Name(samplePerson.getName().value + " " + i),
+                    new Phone(String.format("%08d", i)), samplePerson.getTelegram(), samplePerson.getGithub(),
+                    samplePerson.getEmail(), samplePerson.getAddress(), getSchedule(random),
+                    samplePerson.getTags());
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of {@code size} persons.
+     */
+    public static AddressBook getAddressBook(int size) {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : getPersons(size)) {
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+
+    private static Schedule getSchedule(Random random) {
+        RecurFrequency[] recurFrequencies = RecurFrequency.values();
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < EVENTS_PER_PERSON; i++) {
+            LocalDate date = START_DATE.plusDays(random.nextInt(DAYS_SPREAD));
+            LocalTime time = LocalTime.of(FIRST_START_HOUR, 0).plusMinutes(30L * random.nextInt(START_HALF_HOURS));
+            Duration duration = Duration.ofMinutes(30L * (1 + random.nextInt(MAX_DURATION_HALF_HOURS)));
+            RecurFrequency recurFrequency = recurFrequencies[random.nextInt(recurFrequencies.length)];
+            events.add(new Event(new EventDescription("Event " + i), date, time, duration, recurFrequency));
+        }
+        return new Schedule(events);
+    }
+}
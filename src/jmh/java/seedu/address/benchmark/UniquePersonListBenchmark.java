@@ -0,0 +1,73 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Benchmarks adding persons to, and looking persons up in, a {@code UniquePersonList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private Person[] persons;
+    private UniquePersonList personList;
+    private Person presentPerson;
+    private Person absentPerson;
+
+    @Setup
+    public void setUp() {
+        Person[] generatedPersons = SyntheticDataUtil.getPersons(size + 1);
+        persons = new Person[size];
+        System.arraycopy(generatedPersons, 0, persons, 0, size);
+        personList = new UniquePersonList();
+        for (Person person : persons) {
+            personList.add(person);
+        }
+        presentPerson = persons[size / 2];
+        absentPerson = generatedPersons[size];
+    }
+
+    /**
+     * Adds every person to an empty list.
+     */
+    @Benchmark
+    public UniquePersonList add() {
+        UniquePersonList list = new UniquePersonList();
+        for (Person person : persons) {
+            list.add(person);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return personList.contains(presentPerson);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return personList.contains(absentPerson);
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -30,8 +32,33 @@ public class AppParameters {
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the application command-line parameters given when the GUI is not started, whose named parameters have
+     * the same {@code --name=value} form as those given to JavaFX. The other parameters are ignored.
+     */
+    public static AppParameters parse(List<String> rawParameters) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String rawParameter : rawParameters) {
+            if (isNamedParameter(rawParameter)) {
+                int separator = rawParameter.indexOf('=');
+                namedParameters.put(rawParameter.substring(2, separator), rawParameter.substring(separator + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    /**
+     * Returns true if {@code rawParameter} is a named parameter of the form {@code --name=value}.
+     */
+    public static boolean isNamedParameter(String rawParameter) {
+        return rawParameter.startsWith("--") && rawParameter.indexOf('=') > 2;
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -0,0 +1,101 @@
+package seedu.address;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+
+/**
+ * Runs commands read from a stream, one command per line, without the GUI, e.g. from a shell pipeline.
+ *
+ * The result of each command is written to the output stream, and the error of each command that fails is written
+ * to the error stream. A command that shows the persons who match a predicate, such as {@code whoIsFree}, is
+ * followed by the names of the persons it shows, one per line, as nothing else shows them. Blank lines are skipped,
+ * and the commands after an {@code exit} command are not run.
+ */
+public class HeadlessEngine {
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_INPUT_FAILED = 2;
+
+    private final Logic logic;
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+    private final BufferedReader in;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a HeadlessEngine that runs the commands read from {@code in} with {@code logic}.
+     */
+    public HeadlessEngine(Logic logic, BufferedReader in, PrintStream out, PrintStream err) {
+        requireAllNonNull(logic, in, out, err);
+        this.logic = logic;
+        this.in = in;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Runs every command until the end of the input or an {@code exit} command.
+     * Returns the exit status, which is {@code EXIT_SUCCESS} if every command succeeded,
+     * {@code EXIT_COMMAND_FAILED} if any command failed, or {@code EXIT_INPUT_FAILED} if the input could not be read.
+     */
+    public int run() {
+        int status = EXIT_SUCCESS;
+        try {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+
+                try {
+                    CommandResult result = logic.execute(line);
+                    out.println(result.getFeedbackToUser());
+                    if (isFilterCommand(line)) {
+                        printFilteredPersons();
+                    }
+                    if (result.isExit()) {
+                        break;
+                    }
+                } catch (CommandException | ParseException e) {
+                    err.println(e.getMessage());
+                    status = EXIT_COMMAND_FAILED;
+                }
+            }
+        } catch (IOException ioe) {
+            err.println("Could not read the commands: " + ioe.getMessage());
+            return EXIT_INPUT_FAILED;
+        }
+        out.flush();
+        return status;
+    }
+
+    /**
+     * Returns true if {@code commandText}, which has just been executed, is a {@code FilterCommand}.
+     */
+    private boolean isFilterCommand(String commandText) {
+        try {
+            return addressBookParser.parseCommand(commandText) instanceof FilterCommand;
+        } catch (ParseException pe) {
+            // not reached, as the command has just been parsed successfully by the logic
+            return false;
+        }
+    }
+
+    private void printFilteredPersons() {
+        for (Person person : logic.getFilteredPersonList()) {
+            out.println(person.getName());
+        }
+    }
+}
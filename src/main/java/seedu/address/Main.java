@@ -1,6 +1,19 @@
 package seedu.address;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILEPATH;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import javafx.application.Application;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunScriptCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The main entry point to the application.
@@ -17,9 +30,62 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given {@code --script FILE}, the commands in the file are run without starting the GUI instead, and given
+ * {@code --headless}, the commands read from the standard input are run without starting the GUI. Both use the config
+ * file given by {@code --config=FILE}, as the GUI does, or the default config file otherwise.
  */
 public class Main {
+
+    public static final String SCRIPT_OPTION = "--script";
+    public static final String HEADLESS_OPTION = "--headless";
+
     public static void main(String[] args) {
+        List<String> unnamedArgs = Arrays.stream(args)
+                .filter(arg -> !AppParameters.isNamedParameter(arg))
+                .collect(Collectors.toList());
+        if (unnamedArgs.size() == 2 && unnamedArgs.get(0).equals(SCRIPT_OPTION)) {
+            System.exit(runScript(unnamedArgs.get(1), AppParameters.parse(Arrays.asList(args)).getConfigPath()));
+        }
+        if (unnamedArgs.size() == 1 && unnamedArgs.get(0).equals(HEADLESS_OPTION)) {
+            System.exit(runHeadless(AppParameters.parse(Arrays.asList(args)).getConfigPath()));
+        }
         Application.launch(MainApp.class, args);
     }
+
+    /**
+     * Runs the commands in the file at {@code filePath} as a {@code RunScriptCommand}, and prints the result.
+     * The config file at {@code configFilePath} is used, or the default config file if it is null.
+     * Returns the exit status, which is {@code EXIT_SUCCESS} if the script was run, even if some of its commands
+     * failed.
+     */
+    private static int runScript(String filePath, Path configFilePath) {
+        // saved before each command returns, so that a failure to save fails the command and the exit status
+        AppCore core = AppCore.init(configFilePath, false);
+        try {
+            CommandResult result = core.getLogic()
+                    .execute(RunScriptCommand.COMMAND_WORD + " " + PREFIX_FILEPATH + filePath);
+            System.out.println(result.getFeedbackToUser());
+            return HeadlessEngine.EXIT_SUCCESS;
+        } catch (CommandException | ParseException e) {
+            System.err.println(e.getMessage());
+            return HeadlessEngine.EXIT_COMMAND_FAILED;
+        } finally {
+            core.stop();
+        }
+    }
+
+    /**
+     * Runs the commands read from the standard input with a {@code HeadlessEngine}, and returns its exit status.
+     * The config file at {@code configFilePath} is used, or the default config file if it is null.
+     */
+    private static int runHeadless(Path configFilePath) {
+        AppCore core = AppCore.init(configFilePath, false);
+        try {
+            BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+            return new HeadlessEngine(core.getLogic(), in, System.out, System.err).run();
+        } finally {
+            core.stop();
+        }
+    }
 }
@@ -15,6 +15,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean journalEnabled = false;
+    private boolean binarySnapshotEnabled = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +34,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    public boolean isBinarySnapshotEnabled() {
+        return binarySnapshotEnabled;
+    }
+
+    public void setBinarySnapshotEnabled(boolean binarySnapshotEnabled) {
+        this.binarySnapshotEnabled = binarySnapshotEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +62,14 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && journalEnabled == o.journalEnabled
+                && binarySnapshotEnabled == o.binarySnapshotEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, journalEnabled, binarySnapshotEnabled);
     }
 
     @Override
@@ -57,6 +77,8 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nJournal enabled : " + journalEnabled);
+        sb.append("\nBinary snapshot enabled : " + binarySnapshotEnabled);
         return sb.toString();
     }
 
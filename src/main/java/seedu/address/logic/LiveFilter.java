@@ -0,0 +1,156 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Filters the persons list of a {@code Model} by predicates on a single background thread, so that the persons
+ * can be filtered as a command is typed without the caller waiting for every person to be tested.
+ *
+ * Each filter tests a snapshot of the persons it is given, usually found from an index of the address book, or of
+ * the whole persons list, which is cheap as persons are immutable. Starting a filter
+ * cancels the filter before it, and the persons found are only shown, in a single update of the filtered list, if
+ * no other filter has been started and the address book has not been modified since. The filtered list is updated
+ * by the publisher, which should run it on the thread that the list is used on.
+ *
+ * The predicate of the filtered list before the first filter is remembered, so that the persons shown before the
+ * filters can be shown again by {@link #restore()} when they are no longer wanted.
+ */
+public class LiveFilter {
+
+    private static final Logger logger = LogsCenter.getLogger(LiveFilter.class);
+
+    private final Model model;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "live-filter");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Executor publisher = Runnable::run;
+
+    // the number of filters started or cancelled so far, used to drop the results of stale filters
+    private volatile long generation;
+    private Future<?> pendingFilter;
+    // the predicate of the filtered list before the first filter since the last cancel, if any
+    private Predicate<Person> predicateBeforeFilters;
+
+    public LiveFilter(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    /**
+     * Sets the executor that updates the filtered list with the persons found by each filter.
+     */
+    public void setPublisher(Executor publisher) {
+        requireNonNull(publisher);
+        this.publisher = publisher;
+    }
+
+    /**
+     * Filters the persons list by {@code predicate} in the background, replacing any filter that has not finished.
+     * Every person is tested, so {@link #filter(Predicate, Collection)} should be used instead where the persons that
+     * may match are known.
+     */
+    public void filter(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        filter(predicate, model.getAddressBook().getPersonList());
+    }
+
+    /**
+     * Filters the persons list by {@code predicate} in the background, replacing any filter that has not finished,
+     * given that only the persons in {@code candidates} may match it, so that only they are tested.
+     * The candidates are copied before this returns, so they may be a view of an index of the address book.
+     */
+    public synchronized void filter(Predicate<Person> predicate, Collection<Person> candidates) {
+        requireNonNull(predicate);
+        requireNonNull(candidates);
+        Predicate<Person> predicateBefore = predicateBeforeFilters;
+        cancel();
+        predicateBeforeFilters = predicateBefore != null ? predicateBefore : model.getFilteredPersonPredicate();
+        long filterGeneration = generation;
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        long version = addressBook.getVersion();
+        List<Person> snapshot = new ArrayList<>(candidates);
+        pendingFilter = executor.submit(() -> {
+            List<Person> matchingPersons = new ArrayList<>();
+            for (Person person : snapshot) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                if (predicate.test(person)) {
+                    matchingPersons.add(person);
+                }
+            }
+            publisher.execute(() -> {
+                if (filterGeneration != generation || version != model.getAddressBook().getVersion()) {
+                    return;
+                }
+                // the persons found are looked up rather than tested again on the thread that the list is used on
+                model.updateFilteredPersonList(predicate, matchingPersons);
+            });
+        });
+    }
+
+    /**
+     * Cancels the filter that has not finished, if any, and shows the persons that were shown before the first
+     * filter since the last cancel again, unless another filter is started or cancelled first.
+     */
+    public synchronized void restore() {
+        Predicate<Person> predicateBefore = predicateBeforeFilters;
+        cancel();
+        if (predicateBefore == null) {
+            return;
+        }
+        // still remembered, as the next filter may start before the persons are shown again
+        predicateBeforeFilters = predicateBefore;
+        long restoreGeneration = generation;
+        publisher.execute(() -> {
+            if (restoreGeneration == generation) {
+                model.updateFilteredPersonList(predicateBefore);
+            }
+        });
+    }
+
+    /**
+     * Cancels the filter that has not finished, if any, so that its result is never shown, and keeps whatever the
+     * filtered list shows as the list to restore to.
+     */
+    public synchronized void cancel() {
+        predicateBeforeFilters = null;
+        generation++;
+        if (pendingFilter != null) {
+            pendingFilter.cancel(true);
+            pendingFilter = null;
+        }
+    }
+
+    /**
+     * Waits until every filter started so far has finished or has been cancelled, and has been handed to the
+     * publisher.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            logger.warning("Error waiting for filters to finish: " + ee.getCause());
+        }
+    }
+}
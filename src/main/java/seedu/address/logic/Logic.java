@@ -1,14 +1,15 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListView;
 
 /**
  * API of the Logic component
@@ -23,6 +24,19 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Shows the persons that {@code commandText} would show if it is a command that only filters the persons list,
+     * by filtering the persons list in the background. Any earlier preview that has not been shown is cancelled.
+     * If {@code commandText} is not a valid filter command, such as when it is empty, the persons shown before the
+     * first preview are shown again.
+     */
+    void previewFilter(String commandText);
+
+    /**
+     * Sets the executor that updates the filtered list of persons with the result of each preview.
+     */
+    void setPreviewPublisher(Executor previewPublisher);
+
     /**
      * Returns the AddressBook.
      *
@@ -31,11 +45,11 @@ public interface Logic {
     ReadOnlyAddressBook getAddressBook();
 
     /** Returns an unmodifiable view of the filtered list of persons */
-    ObservableList<Person> getFilteredPersonList();
+    PersonListView getFilteredPersonList();
 
     /** Returns an unmodifiable view of a particular person
      */
-    ObservableList<Person> getViewedPersonList();
+    PersonListView getViewedPersonList();
 
     /**
      * Returns the user prefs' address book file path.
@@ -51,4 +65,15 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler that is given an error message when data saved in the background fails to be written.
+     * The handler may be called from a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Waits until the data changed by every command executed so far has been saved.
+     */
+    void flushSaves();
 }
@@ -1,20 +1,25 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListView;
+import seedu.address.storage.BackgroundAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -27,24 +32,53 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    // saves the address book in the background, or null if the address book is saved before each command returns
+    private final BackgroundAddressBookSaver backgroundSaver;
+    private Consumer<String> saveFailureHandler = message -> { };
+    private final LiveFilter liveFilter;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the
+     * address book before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, false);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * If {@code isSavingInBackground} is true, commands return without waiting for the address book to be saved,
+     * and failures to save are reported to the handler set by {@link #setSaveFailureHandler(Consumer)} instead.
+     */
+    public LogicManager(Model model, Storage storage, boolean isSavingInBackground) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        liveFilter = new LiveFilter(model);
+        if (isSavingInBackground) {
+            backgroundSaver = new BackgroundAddressBookSaver(storage);
+            backgroundSaver.setFailureHandler(ioe -> saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+        } else {
+            backgroundSaver = null;
+        }
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        // a preview that has not been shown yet would otherwise replace the result of the command
+        liveFilter.cancel();
+
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        if (backgroundSaver != null) {
+            backgroundSaver.save(model.getAddressBook());
+            return commandResult;
+        }
+
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (IOException ioe) {
@@ -54,18 +88,42 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public void previewFilter(String commandText) {
+        requireNonNull(commandText);
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            liveFilter.restore();
+            return;
+        }
+
+        if (command instanceof FilterCommand) {
+            FilterCommand filterCommand = (FilterCommand) command;
+            liveFilter.filter(filterCommand.getPreviewPredicate(), filterCommand.getPreviewCandidates(model));
+        } else {
+            liveFilter.restore();
+        }
+    }
+
+    @Override
+    public void setPreviewPublisher(Executor previewPublisher) {
+        liveFilter.setPublisher(previewPublisher);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
     @Override
-    public ObservableList<Person> getFilteredPersonList() {
+    public PersonListView getFilteredPersonList() {
         return model.getFilteredPersonList();
     }
 
     @Override
-    public ObservableList<Person> getViewedPersonList() {
+    public PersonListView getViewedPersonList() {
         return model.getViewSchedulePerson();
     }
 
@@ -83,4 +141,17 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public void flushSaves() {
+        if (backgroundSaver != null) {
+            backgroundSaver.flush();
+        }
+    }
 }
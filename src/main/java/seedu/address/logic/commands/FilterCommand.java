@@ -0,0 +1,36 @@
+package seedu.address.logic.commands;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents a command that shows the persons who match a predicate, whose result can therefore be previewed by
+ * filtering the persons by the predicate before the command is executed.
+ */
+public interface FilterCommand {
+
+    /**
+     * Returns the predicate that the persons shown by the command match.
+     */
+    Predicate<Person> getPredicate();
+
+    /**
+     * Returns the predicate that the persons shown by the preview of the command match, while it is still being
+     * typed. This is the predicate of the command by default.
+     */
+    default Predicate<Person> getPreviewPredicate() {
+        return getPredicate();
+    }
+
+    /**
+     * Returns the persons in {@code model} that may match the predicate of the preview, which are the only persons
+     * that the preview tests. These are all the persons by default.
+     * The returned persons are only meant to be used until the address book is next changed.
+     */
+    default Collection<Person> getPreviewCandidates(Model model) {
+        return model.getAddressBook().getPersonList();
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILEPATH;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+/**
+ * Runs the commands in a text file, one command per line, as a single batch.
+ *
+ * The commands are executed against a copy of the address book, and the persons of the model are then replaced
+ * once, so that the persons list shown changes once and the address book is saved once however many commands there
+ * are. Commands that fail do not stop the script, and are reported with their line numbers.
+ */
+public class RunScriptCommand extends Command {
+
+    public static final String COMMAND_WORD = "runScript";
+    public static final String COMMAND_WORD_LOWER = "runscript";
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a text file, one command "
+            + "per line. Blank lines and lines starting with " + COMMENT_PREFIX + " are skipped.\n"
+            + "Parameters: "
+            + PREFIX_FILEPATH + "FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FILEPATH + "contacts.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s, of which %3$d failed";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s";
+    public static final String MESSAGE_NESTED_SCRIPT = "A script cannot run another script";
+    public static final String MESSAGE_FILE_NOT_READABLE = "Could not read the script %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates a RunScriptCommand to run the commands in the file at {@code filePath}.
+     */
+    public RunScriptCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(filePath);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_READABLE, filePath, ioe), ioe);
+        }
+
+        Model batch = new ModelManager(model.getAddressBook(), model.getUserPrefs());
+        AddressBookParser parser = new AddressBookParser();
+        int commandCount = 0;
+        List<String> failures = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            commandCount++;
+            try {
+                Command command = parser.parseCommand(line);
+                if (command instanceof RunScriptCommand) {
+                    throw new CommandException(MESSAGE_NESTED_SCRIPT);
+                }
+                command.execute(batch);
+            } catch (CommandException | ParseException e) {
+                failures.add(String.format(MESSAGE_LINE_FAILED, i + 1, e.getMessage()));
+            }
+        }
+
+        model.setAddressBook(batch.getAddressBook());
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        StringBuilder sb = new StringBuilder(String.format(MESSAGE_SUCCESS, commandCount, filePath, failures.size()));
+        for (String failure : failures) {
+            sb.append('\n').append(failure);
+        }
+        return new CommandResult(sb.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunScriptCommand // instanceof handles nulls
+                && filePath.equals(((RunScriptCommand) other).filePath)); // state check
+    }
+}
@@ -2,17 +2,26 @@ package seedu.address.logic.commands.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
  */
-public class FindCommand extends Command {
+public class FindCommand extends Command implements FilterCommand {
 
     public static final String COMMAND_WORD = "find";
 
@@ -27,10 +36,42 @@ public class FindCommand extends Command {
         this.predicate = predicate;
     }
 
+    @Override
+    public NameContainsKeywordsPredicate getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Returns the predicate that matches the names with a word that starts with any of the keywords, as the last
+     * keyword may not have been typed in full yet.
+     */
+    @Override
+    public Predicate<Person> getPreviewPredicate() {
+        return predicate.toPrefixPredicate();
+    }
+
+    /**
+     * Returns the persons with a name word that starts with any of the keywords, found from the name index.
+     */
+    @Override
+    public Collection<Person> getPreviewCandidates(Model model) {
+        Set<Person> personsWithPrefixes = new HashSet<>();
+        for (String keyword : predicate.getKeywords()) {
+            personsWithPrefixes.addAll(model.getPersonsWithNamePrefix(keyword));
+        }
+        return personsWithPrefixes;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        // the matching persons are looked up in the name index, so that no names are checked; the list checks only
+        // the names of the persons added or edited after the search
+        List<Person> matchingPersons = new ArrayList<>();
+        for (String keyword : predicate.getKeywords()) {
+            matchingPersons.addAll(model.getPersonsWithNameWord(keyword));
+        }
+        model.updateFilteredPersonList(predicate, matchingPersons);
         model.updateViewSchedulePerson(Model.PREDICATE_SHOW_NO_PERSONS);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
@@ -4,17 +4,22 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.Collection;
+import java.util.Set;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.IsTagInPersonPredicate;
+import seedu.address.model.person.Person;
 
 /**
  * Command that lists all contacts who share the same tag.
  */
-public class ViewGroupCommand extends Command {
+public class ViewGroupCommand extends Command implements FilterCommand {
 
     public static final String COMMAND_WORD = "viewGroup";
     public static final String COMMAND_WORD_LOWER = "viewgroup";
@@ -31,14 +36,28 @@ public class ViewGroupCommand extends Command {
         this.predicate = predicate;
     }
 
+    @Override
+    public IsTagInPersonPredicate getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Returns the persons with the tag, found from the tag index.
+     */
+    @Override
+    public Collection<Person> getPreviewCandidates(Model model) {
+        return model.getPersonsWithTag(predicate.getTag());
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
-        if (model.getFilteredPersonList().isEmpty()) {
+        Set<Person> personsWithTag = model.getPersonsWithTag(predicate.getTag());
+        if (personsWithTag.isEmpty()) {
             model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
             throw new CommandException(TAG_NOT_PRESENT_ERROR_MESSAGE);
         }
+        model.updateFilteredPersonList(predicate, personsWithTag);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -5,6 +5,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NO_CONFLICTS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RECUR_FREQUENCY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 import static seedu.address.model.schedule.Event.DURATION_RECUR_FREQ_MESSAGE_CONSTRAINTS;
@@ -13,6 +14,7 @@ import static seedu.address.model.schedule.Schedule.MESSAGE_DUPLICATE_EVENT;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -22,6 +24,8 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.SamePersonPredicate;
+import seedu.address.model.schedule.ConflictDetector;
+import seedu.address.model.schedule.ConflictDetector.Conflict;
 import seedu.address.model.schedule.Event;
 import seedu.address.model.schedule.Schedule;
 
@@ -39,7 +43,8 @@ public class AddEventCommand extends Command {
             + PREFIX_DATE + "DATE "
             + "[" + PREFIX_TIME + "TIME] "
             + "[" + PREFIX_DURATION + "DURATION] "
-            + "[" + PREFIX_RECUR_FREQUENCY + "RECUR_FREQUENCY]\n"
+            + "[" + PREFIX_RECUR_FREQUENCY + "RECUR_FREQUENCY] "
+            + "[" + PREFIX_NO_CONFLICTS + "]\n"
             + "Example: " + COMMAND_WORD + " "
             + "1 "
             + PREFIX_EVENT_DESCRIPTION + "CS2103T Tutorial "
@@ -49,17 +54,28 @@ public class AddEventCommand extends Command {
             + PREFIX_RECUR_FREQUENCY + "W";
 
     public static final String MESSAGE_SUCCESS = "Added %1$s to %2$s's schedule";
+    public static final String MESSAGE_CONFLICTING_EVENT = "The event overlaps other events in the schedule:\n%1$s";
 
     private final Event eventToAdd;
     private final Index targetIndex;
+    private final boolean isRejectingConflicts;
 
     /**
      * Creates an AddCommand to add the specified {@code Person}
      */
     public AddEventCommand(Index targetIndex, Event event) {
+        this(targetIndex, event, false);
+    }
+
+    /**
+     * Creates an AddCommand to add the specified {@code Person}, which fails if {@code isRejectingConflicts} is true
+     * and the event overlaps any other event in the schedule.
+     */
+    public AddEventCommand(Index targetIndex, Event event, boolean isRejectingConflicts) {
         requireAllNonNull(targetIndex, event);
         this.targetIndex = targetIndex;
         this.eventToAdd = event;
+        this.isRejectingConflicts = isRejectingConflicts;
     }
 
     @Override
@@ -77,7 +93,7 @@ public class AddEventCommand extends Command {
 
         Person personToEdit = lastShownList.get(targetIndex.getZeroBased());
         Schedule scheduleToEdit = personToEdit.getSchedule();
-        Schedule updatedSchedule = createEditedSchedule(scheduleToEdit, eventToAdd);
+        Schedule updatedSchedule = createEditedSchedule(scheduleToEdit, eventToAdd, isRejectingConflicts);
 
         model.setSchedule(personToEdit, updatedSchedule);
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
@@ -87,9 +103,10 @@ public class AddEventCommand extends Command {
 
     /**
      * Creates and returns a {@code Schedule} with the details of {@code eventToEdit}
-     * with an added {@code eventToAdd}.
+     * with an added {@code eventToAdd}, which must not overlap other events if {@code isRejectingConflicts} is true.
      */
-    private static Schedule createEditedSchedule(Schedule scheduleToEdit, Event eventToAdd) throws CommandException {
+    private static Schedule createEditedSchedule(Schedule scheduleToEdit, Event eventToAdd,
+            boolean isRejectingConflicts) throws CommandException {
         assert scheduleToEdit != null;
 
         if (scheduleToEdit.hasEvent(eventToAdd)) {
@@ -99,7 +116,35 @@ public class AddEventCommand extends Command {
         ArrayList<Event> updatedEvents = new ArrayList<>(scheduleEvents);
         updatedEvents.add(eventToAdd);
         Collections.sort(updatedEvents);
-        return new Schedule(updatedEvents);
+        Schedule updatedSchedule = new Schedule(updatedEvents);
+        if (isRejectingConflicts) {
+            checkConflicts(updatedSchedule, indexOf(updatedEvents, eventToAdd));
+        }
+        return updatedSchedule;
+    }
+
+    /**
+     * Returns the index of {@code event} itself, rather than of an equal event, in {@code events}.
+     */
+    static int indexOf(List<Event> events, Event event) {
+        int index = 0;
+        while (events.get(index) != event) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Checks that the event at {@code eventIndex} in {@code schedule} does not overlap any other event in it.
+     *
+     * @throws CommandException listing the overlapping events if it does.
+     */
+    static void checkConflicts(Schedule schedule, int eventIndex) throws CommandException {
+        List<Conflict> conflicts = ConflictDetector.findConflictsWith(schedule, eventIndex);
+        if (!conflicts.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_CONFLICTING_EVENT, conflicts.stream()
+                    .map(Conflict::toString).collect(Collectors.joining("\n"))));
+        }
     }
 
     @Override
@@ -117,6 +162,7 @@ public class AddEventCommand extends Command {
         // state check
         AddEventCommand e = (AddEventCommand) other;
         return targetIndex.equals(e.targetIndex)
-                && eventToAdd.equals(e.eventToAdd);
+                && eventToAdd.equals(e.eventToAdd)
+                && isRejectingConflicts == e.isRejectingConflicts;
     }
 }
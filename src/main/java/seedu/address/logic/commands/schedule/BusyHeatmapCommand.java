@@ -0,0 +1,126 @@
+package seedu.address.logic.commands.schedule;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.IsTagInPersonPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.BusyHistogram;
+import seedu.address.model.schedule.DayOccupancy;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * Shows how many of the contacts who share a tag are busy at each time of a day or a range of days.
+ */
+public class BusyHeatmapCommand extends Command {
+
+    public static final String COMMAND_WORD = "busyHeatmap";
+    public static final String COMMAND_WORD_LOWER = "busyheatmap";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how many contacts who share the same tag are busy at each time "
+            + "of a date, or of every date from a start date to an end date\n"
+            + "Parameters: "
+            + PREFIX_TAG + "TAG "
+            + PREFIX_DATE + "DATE "
+            + "[" + PREFIX_DATE + "END_DATE]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_TAG + "friends "
+            + PREFIX_DATE + "2022-02-14 "
+            + PREFIX_DATE + "2022-02-20";
+    public static final String MESSAGE_HEATMAP = "Number of the %1$d contacts who are busy from %2$s to %3$s:\n";
+    private static final String COLUMN_SEPARATOR = " | ";
+    private static final LocalTime END_OF_DAY = LocalTime.of(23, 59);
+
+    private final IsTagInPersonPredicate predicate;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * @param predicate predicate indicating whether tag is present in list of people
+     * @param startDate first date of the heatmap
+     * @param endDate last date of the heatmap, which is not before {@code startDate}
+     */
+    public BusyHeatmapCommand(IsTagInPersonPredicate predicate, LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(predicate, startDate, endDate);
+        this.predicate = predicate;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        Set<Person> personsWithTag = model.getPersonsWithTag(predicate.getTag());
+        if (personsWithTag.isEmpty()) {
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            throw new CommandException(FindCommonTimingCommand.TAG_NOT_PRESENT_ERROR_MESSAGE);
+        }
+        model.updateFilteredPersonList(predicate, personsWithTag);
+
+        List<Schedule> schedules = personsWithTag.stream().map(Person::getSchedule).collect(Collectors.toList());
+        BusyHistogram histogram = BusyHistogram.of(schedules, startDate, endDate, DayOccupancy.DEFAULT_SLOT_MINUTES);
+        return new CommandResult(formatHistogram(histogram));
+    }
+
+    /**
+     * Returns {@code histogram} as a table with a column for each day and a row for each time range, in which
+     * consecutive slots with the same counts on every day are merged into one row.
+     */
+    private static String formatHistogram(BusyHistogram histogram) {
+        StringBuilder sb = new StringBuilder(String.format(MESSAGE_HEATMAP, histogram.getScheduleCount(),
+                histogram.getStartDate(), histogram.getEndDate()));
+        sb.append("Time");
+        for (int day = 0; day < histogram.getDayCount(); day++) {
+            sb.append(COLUMN_SEPARATOR).append(histogram.getStartDate().plusDays(day));
+        }
+        sb.append('\n');
+
+        int rowStart = 0;
+        while (rowStart < histogram.getSlotsPerDay()) {
+            int rowEnd = rowStart + 1;
+            while (rowEnd < histogram.getSlotsPerDay() && hasSameCounts(histogram, rowStart, rowEnd)) {
+                rowEnd++;
+            }
+            LocalTime endTime = rowEnd == histogram.getSlotsPerDay()
+                    ? END_OF_DAY
+                    : LocalTime.MIDNIGHT.plusMinutes((long) rowEnd * histogram.getSlotMinutes());
+            sb.append(LocalTime.MIDNIGHT.plusMinutes((long) rowStart * histogram.getSlotMinutes()))
+                    .append('-').append(endTime);
+            for (int day = 0; day < histogram.getDayCount(); day++) {
+                sb.append(COLUMN_SEPARATOR).append(histogram.getBusyCount(day, rowStart));
+            }
+            sb.append('\n');
+            rowStart = rowEnd;
+        }
+        return sb.toString();
+    }
+
+    private static boolean hasSameCounts(BusyHistogram histogram, int firstSlot, int secondSlot) {
+        for (int day = 0; day < histogram.getDayCount(); day++) {
+            if (histogram.getBusyCount(day, firstSlot) != histogram.getBusyCount(day, secondSlot)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BusyHeatmapCommand // instanceof handles nulls
+                && predicate.equals(((BusyHeatmapCommand) other).predicate)
+                && startDate.equals(((BusyHeatmapCommand) other).startDate)
+                && endDate.equals(((BusyHeatmapCommand) other).endDate)); // state check
+    }
+}
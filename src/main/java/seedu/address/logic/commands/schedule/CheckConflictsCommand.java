@@ -0,0 +1,93 @@
+package seedu.address.logic.commands.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SamePersonPredicate;
+import seedu.address.model.schedule.ConflictDetector;
+import seedu.address.model.schedule.ConflictDetector.Conflict;
+
+/**
+ * Lists the events in the schedule of a {@code Person} that overlap each other within a range of dates.
+ */
+public class CheckConflictsCommand extends Command {
+
+    public static final String COMMAND_WORD = "checkConflicts";
+    public static final String COMMAND_WORD_LOWER = "checkconflicts";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the overlapping events in the schedule of the person identified by the index number used in "
+            + "the displayed person list, from a start date (today by default) to an end date ("
+            + ConflictDetector.DEFAULT_HORIZON_DAYS + " days later by default).\n"
+            + "Parameters: INDEX (must be a positive integer) "
+            + "[" + PREFIX_DATE + "START_DATE] "
+            + "[" + PREFIX_DATE + "END_DATE]\n"
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "Example: " + COMMAND_WORD + " 1 "
+            + PREFIX_DATE + "2022-02-14 "
+            + PREFIX_DATE + "2022-05-14";
+    public static final String MESSAGE_NO_CONFLICTS = "There are no overlapping events in %1$s's schedule "
+            + "from %2$s to %3$s.";
+    public static final String MESSAGE_CONFLICTS = "%1$d pairs of events overlap in %2$s's schedule "
+            + "from %3$s to %4$s:\n";
+
+    private final Index targetIndex;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * @param targetIndex of the person whose schedule is checked
+     * @param startDate first date to check
+     * @param endDate last date to check, which is not before {@code startDate}
+     */
+    public CheckConflictsCommand(Index targetIndex, LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(targetIndex, startDate, endDate);
+        this.targetIndex = targetIndex;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+        Person targetPerson = lastShownList.get(targetIndex.getZeroBased());
+
+        // the schedule is shown so that the events can be found by their numbers
+        model.updateViewSchedulePerson(new SamePersonPredicate(targetPerson));
+        List<Conflict> conflicts = ConflictDetector.findConflicts(targetPerson.getSchedule(), startDate, endDate);
+        if (conflicts.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_CONFLICTS, targetPerson.getName(), startDate,
+                    endDate));
+        }
+
+        StringBuilder sb = new StringBuilder(String.format(MESSAGE_CONFLICTS, conflicts.size(),
+                targetPerson.getName(), startDate, endDate));
+        for (Conflict conflict : conflicts) {
+            sb.append(String.format("%s\n", conflict));
+        }
+        return new CommandResult(sb.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CheckConflictsCommand // instanceof handles nulls
+                && targetIndex.equals(((CheckConflictsCommand) other).targetIndex)
+                && startDate.equals(((CheckConflictsCommand) other).startDate)
+                && endDate.equals(((CheckConflictsCommand) other).endDate)); // state check
+    }
+}
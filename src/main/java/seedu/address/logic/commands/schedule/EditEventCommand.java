@@ -6,6 +6,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAY
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NO_CONFLICTS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RECUR_FREQUENCY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 import static seedu.address.model.schedule.Event.DURATION_RECUR_FREQ_MESSAGE_CONSTRAINTS;
@@ -48,7 +49,8 @@ public class EditEventCommand extends Command {
             + "[" + PREFIX_DATE + "DATE] "
             + "[" + PREFIX_TIME + "TIME] "
             + "[" + PREFIX_DURATION + "DURATION] "
-            + "[" + PREFIX_RECUR_FREQUENCY + "RECUR_FREQUENCY]\n"
+            + "[" + PREFIX_RECUR_FREQUENCY + "RECUR_FREQUENCY] "
+            + "[" + PREFIX_NO_CONFLICTS + "]\n"
             + "Example: " + COMMAND_WORD + " 1 2 "
             + PREFIX_TIME + "10:00";
 
@@ -58,6 +60,7 @@ public class EditEventCommand extends Command {
     private final Index targetIndex;
     private final Index targetEventIndex;
     private final EditEventDescriptor editEventDescriptor;
+    private final boolean isRejectingConflicts;
     private Event editedEvent; // this is to retrieve the correct edited event for display message
 
     /**
@@ -66,9 +69,21 @@ public class EditEventCommand extends Command {
      * @param editEventDescriptor details to edit the event with
      */
     public EditEventCommand(Index targetIndex, Index targetEventIndex, EditEventDescriptor editEventDescriptor) {
+        this(targetIndex, targetEventIndex, editEventDescriptor, false);
+    }
+
+    /**
+     * @param targetIndex of the person in the filtered person list to edit
+     * @param targetEventIndex of the event in the schedule to edit
+     * @param editEventDescriptor details to edit the event with
+     * @param isRejectingConflicts whether the edited event must not overlap other events in the schedule
+     */
+    public EditEventCommand(Index targetIndex, Index targetEventIndex, EditEventDescriptor editEventDescriptor,
+            boolean isRejectingConflicts) {
         this.targetIndex = targetIndex;
         this.targetEventIndex = targetEventIndex;
         this.editEventDescriptor = editEventDescriptor;
+        this.isRejectingConflicts = isRejectingConflicts;
     }
 
     @Override
@@ -116,10 +131,14 @@ public class EditEventCommand extends Command {
             throw new CommandException(DURATION_RECUR_FREQ_MESSAGE_CONSTRAINTS);
         }
 
-        editedEvent = updatedEvent;
         updatedEvents.add(targetEventIndex.getZeroBased(), updatedEvent);
         Collections.sort(updatedEvents);
-        return new Schedule(updatedEvents);
+        Schedule updatedSchedule = new Schedule(updatedEvents);
+        if (isRejectingConflicts) {
+            AddEventCommand.checkConflicts(updatedSchedule, AddEventCommand.indexOf(updatedEvents, updatedEvent));
+        }
+        editedEvent = updatedEvent;
+        return updatedSchedule;
     }
 
     /**
@@ -155,6 +174,7 @@ public class EditEventCommand extends Command {
         EditEventCommand e = (EditEventCommand) other;
         return targetIndex.equals(e.targetIndex)
                 && targetEventIndex.equals(e.targetEventIndex)
-                && editEventDescriptor.equals(e.editEventDescriptor);
+                && editEventDescriptor.equals(e.editEventDescriptor)
+                && isRejectingConflicts == e.isRejectingConflicts;
     }
 }
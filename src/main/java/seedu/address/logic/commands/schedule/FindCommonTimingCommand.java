@@ -1,14 +1,17 @@
 package seedu.address.logic.commands.schedule;
 
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -19,7 +22,8 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.IsTagInPersonPredicate;
 import seedu.address.model.person.Person;
-import seedu.address.model.schedule.Event;
+import seedu.address.model.schedule.DayOccupancy;
+import seedu.address.model.schedule.DayOccupancy.FreeRange;
 import seedu.address.model.schedule.Schedule;
 
 
@@ -32,17 +36,32 @@ public class FindCommonTimingCommand extends Command {
     public static final String COMMAND_WORD_LOWER = "findcommontiming";
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Retrieves common free timings of contacts "
-            + "who share the same tag\n"
+            + "who share the same tag, on a date or from a start date to an end date\n"
             + "Parameters: "
             + PREFIX_TAG + "TAG "
-            + PREFIX_DATE + "DATE\n"
+            + PREFIX_DATE + "DATE "
+            + "[" + PREFIX_DATE + "END_DATE] "
+            + "[" + PREFIX_DURATION + "MINIMUM_DURATION]\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_TAG + "friends "
-            + PREFIX_DATE + "2022-02-14";
+            + PREFIX_DATE + "2022-02-14\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_TAG + "friends "
+            + PREFIX_DATE + "2022-02-14 "
+            + PREFIX_DATE + "2022-02-20 "
+            + PREFIX_DURATION + "2h";
     public static final String TAG_NOT_PRESENT_ERROR_MESSAGE =
             "Please ensure there is at least one contact with this tag!";
+    public static final String MESSAGE_WHOLE_DAY_FREE = "The whole day is free for these contacts!";
+    public static final String MESSAGE_NO_FREE_TIMINGS = "There are no free timings available!";
+    public static final String MESSAGE_RANKED_FREE_TIMINGS =
+            "Common free timings from %1$s to %2$s, longest first (showing %3$d of %4$d):\n";
+    public static final int MAX_RANKED_FREE_TIMINGS_SHOWN = 20;
+    private static final LocalTime END_OF_DAY = LocalTime.of(23, 59);
     private final IsTagInPersonPredicate predicate;
-    private final LocalDate date;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Duration minimumDuration;
 
     /**
      * Constructor for findCommonTiming object.
@@ -50,101 +69,98 @@ public class FindCommonTimingCommand extends Command {
      * @param date date of findCommonTiming
      */
     public FindCommonTimingCommand(IsTagInPersonPredicate predicate, LocalDate date) {
-        this.predicate = predicate;
-        this.date = date;
+        this(predicate, date, date, Duration.ZERO);
     }
 
     /**
-     * Helper function that blocks time slots according to an event that a person has(if it falls on the desired day).
-     * @param timeSlots array representing 30-minute blocks
-     * @param event event that needs to be accounted for
+     * Constructor for a findCommonTiming object over a range of dates.
+     * @param predicate predicate indicating whether tag is present in list of people
+     * @param startDate first date of findCommonTiming
+     * @param endDate last date of findCommonTiming, which is not before {@code startDate}
+     * @param minimumDuration shortest free timing to list
      */
-    public void blockTimeSlots(int[] timeSlots, Event event) {
-        List<Event> listOfSameDayEvents = event.getEventsAtDate(date);
-        for (Event eventAtCurrentDate : listOfSameDayEvents) {
-            System.out.println(eventAtCurrentDate);
-            LocalTime startTime = eventAtCurrentDate.getTime();
-
-            int hours = startTime.getHour();
-            int minutes = startTime.getMinute();
-            int startSlot = hours * 2;
-            if (minutes >= 30) {
-                startSlot += 1;
-            }
-
-            LocalTime endTime = eventAtCurrentDate.getEndTime();
-
-            int endHours = endTime.getHour();
-            int endMinutes = endTime.getMinute();
-            int endSlot = endHours * 2;
-            if (endMinutes > 30) {
-                endSlot += 2;
-            } else if (endMinutes > 0) {
-                endSlot += 1;
-            }
+    public FindCommonTimingCommand(IsTagInPersonPredicate predicate, LocalDate startDate, LocalDate endDate,
+                                   Duration minimumDuration) {
+        requireAllNonNull(predicate, startDate, endDate, minimumDuration);
+        this.predicate = predicate;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.minimumDuration = minimumDuration;
+    }
 
-            if (endTime.equals(LocalTime.of(0, 0))) {
-                endSlot = 48;
-            }
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        // the persons with the tag are found from the tag index, and shown without testing the other persons
+        Set<Person> personsWithTag = model.getPersonsWithTag(predicate.getTag());
+        if (personsWithTag.isEmpty()) {
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            throw new CommandException(TAG_NOT_PRESENT_ERROR_MESSAGE);
+        }
+        model.updateFilteredPersonList(predicate, personsWithTag);
 
-            for (int j = startSlot; j < endSlot; j++) {
-                //set as busy
-                timeSlots[j] = 1;
+        if (startDate.equals(endDate) && minimumDuration.isZero()) {
+            DayOccupancy occupancy = new DayOccupancy(startDate, DayOccupancy.DEFAULT_SLOT_MINUTES);
+            for (Person person : personsWithTag) {
+                occupancy.addSchedule(person.getSchedule());
             }
+            return new CommandResult(formatFreeRanges(occupancy));
         }
+
+        List<Schedule> schedules = personsWithTag.stream().map(Person::getSchedule).collect(Collectors.toList());
+        List<DayOccupancy> occupancies = DayOccupancy.ofDateRange(schedules, startDate, endDate,
+                DayOccupancy.DEFAULT_SLOT_MINUTES);
+        return new CommandResult(formatRankedFreeRanges(occupancies));
     }
 
-    @Override
-    public CommandResult execute(Model model) throws CommandException {
-        int[] timeSlots = new int[48];
-        model.updateFilteredPersonList(predicate);
-        List<Person> listOfPersons = model.getFilteredPersonList();
-        for (Person person : listOfPersons) {
-            Schedule scheduleToCheck = person.getSchedule();
-            for (Event event : scheduleToCheck.getEvents()) {
-                if (event.willDateCollide(date)) {
-                    blockTimeSlots(timeSlots, event);
-                }
-            }
+    /**
+     * Returns the free timings in {@code occupancy}, one range per line.
+     */
+    private static String formatFreeRanges(DayOccupancy occupancy) {
+        if (occupancy.isWholeDayFree()) {
+            return MESSAGE_WHOLE_DAY_FREE;
+        } else if (occupancy.isWholeDayBusy()) {
+            return MESSAGE_NO_FREE_TIMINGS;
         }
 
-        int toggle = timeSlots[0];
-        LocalTime startTime = LocalTime.of(0, 0);
-        Duration duration = Duration.ofMinutes(0);
         StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < timeSlots.length; i++) {
-            // Check if current slot is free
-            if (timeSlots[i] == toggle) {
-                duration = duration.plusMinutes(30);
-            } else {
-                if (toggle == 0) { // startTime - endTime(startTime + duration)
-                    toggle = 1;
-                    sb.append(startTime);
-                    startTime = startTime.plus(duration);
-                    sb.append(String.format("-%s\n", startTime));
-                } else {
-                    toggle = 0;
-                    startTime = startTime.plus(duration);
+        for (FreeRange freeRange : occupancy.getFreeRanges()) {
+            sb.append(String.format("%s\n", formatFreeRange(freeRange)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the free timings of at least {@code minimumDuration} in {@code occupancies}, longest first.
+     * Free timings of the same length are listed in chronological order.
+     */
+    private String formatRankedFreeRanges(List<DayOccupancy> occupancies) {
+        List<DatedFreeRange> freeRanges = new ArrayList<>();
+        for (DayOccupancy occupancy : occupancies) {
+            for (FreeRange freeRange : occupancy.getFreeRanges()) {
+                if (freeRange.getLengthInMinutes() >= minimumDuration.toMinutes()) {
+                    freeRanges.add(new DatedFreeRange(occupancy.getDate(), freeRange));
                 }
-                duration = duration.ofMinutes(30);
-            }
-            if (i == timeSlots.length - 1 && toggle == 0) {
-                sb.append(startTime);
-                sb.append(String.format("-%s\n", LocalTime.of(23, 59)));
             }
         }
-        Set<Integer> distinct = Arrays.stream(timeSlots).boxed().collect(Collectors.toSet());
-        boolean allEqual = distinct.size() == 1;
-        if (timeSlots[0] == 0 && allEqual) {
-            sb.replace(0, 25, "The whole day is free for these contacts!");
-        } else if (allEqual) {
-            sb.replace(0, 25, "There are no free timings available!");
+        if (freeRanges.isEmpty()) {
+            return MESSAGE_NO_FREE_TIMINGS;
         }
-        if (listOfPersons.isEmpty()) {
-            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-            throw new CommandException(TAG_NOT_PRESENT_ERROR_MESSAGE);
+
+        // the sort is stable, so ranges of the same length stay in chronological order
+        freeRanges.sort(Comparator.comparingInt((DatedFreeRange range) -> range.freeRange.getLengthInMinutes())
+                .reversed());
+        int shown = Math.min(freeRanges.size(), MAX_RANKED_FREE_TIMINGS_SHOWN);
+        StringBuilder sb = new StringBuilder(String.format(MESSAGE_RANKED_FREE_TIMINGS, startDate, endDate,
+                shown, freeRanges.size()));
+        for (DatedFreeRange range : freeRanges.subList(0, shown)) {
+            sb.append(String.format("%s %s\n", range.date, formatFreeRange(range.freeRange)));
         }
-        return new CommandResult(sb.toString());
+        return sb.toString();
+    }
+
+    private static String formatFreeRange(FreeRange freeRange) {
+        LocalTime endTime = freeRange.isUntilEndOfDay() ? END_OF_DAY : freeRange.getEndTime();
+        return String.format("%s-%s", freeRange.getStartTime(), endTime);
     }
 
     @Override
@@ -152,6 +168,21 @@ public class FindCommonTimingCommand extends Command {
         return other == this // short circuit if same object
                 || (other instanceof FindCommonTimingCommand // instanceof handles nulls
                 && predicate.equals(((FindCommonTimingCommand) other).predicate)
-                && date.equals(((FindCommonTimingCommand) other).date)); // state check
+                && startDate.equals(((FindCommonTimingCommand) other).startDate)
+                && endDate.equals(((FindCommonTimingCommand) other).endDate)
+                && minimumDuration.equals(((FindCommonTimingCommand) other).minimumDuration)); // state check
+    }
+
+    /**
+     * A free timing on a particular date.
+     */
+    private static class DatedFreeRange {
+        private final LocalDate date;
+        private final FreeRange freeRange;
+
+        DatedFreeRange(LocalDate date, FreeRange freeRange) {
+            this.date = date;
+            this.freeRange = freeRange;
+        }
     }
 }
@@ -0,0 +1,130 @@
+package seedu.address.logic.commands.schedule;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUORUM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.IsTagInPersonPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.DayOccupancy;
+import seedu.address.model.schedule.MeetingSuggester;
+import seedu.address.model.schedule.MeetingSuggester.MeetingSlot;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * Suggests the best times for the contacts who share a tag to meet, which are the times that the most of them are
+ * free for.
+ */
+public class SuggestMeetingCommand extends Command {
+
+    public static final String COMMAND_WORD = "suggestMeeting";
+    public static final String COMMAND_WORD_LOWER = "suggestmeeting";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Suggests the best times for a meeting of contacts who share the same tag, "
+            + "on a date or from a start date to an end date, optionally only if a percentage of them can attend\n"
+            + "Parameters: "
+            + PREFIX_TAG + "TAG "
+            + PREFIX_DATE + "DATE "
+            + "[" + PREFIX_DATE + "END_DATE] "
+            + PREFIX_DURATION + "DURATION "
+            + "[" + PREFIX_QUORUM + "QUORUM_PERCENTAGE]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_TAG + "friends "
+            + PREFIX_DATE + "2022-02-14 "
+            + PREFIX_DATE + "2022-02-20 "
+            + PREFIX_DURATION + "1h30m "
+            + PREFIX_QUORUM + "80";
+    public static final String MESSAGE_SUGGESTIONS = "Best times for a meeting of %1$s from %2$s to %3$s "
+            + "(showing %4$d):\n";
+    public static final String MESSAGE_NO_SUGGESTIONS = "There are no timings at which enough contacts are free!";
+    public static final int MAX_SUGGESTIONS = 5;
+    public static final int NO_QUORUM = 0;
+    private static final DateTimeFormatter START_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final DateTimeFormatter END_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final IsTagInPersonPredicate predicate;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Duration duration;
+    private final int quorumPercentage;
+
+    /**
+     * @param predicate predicate indicating whether tag is present in list of people
+     * @param startDate first date of the meeting
+     * @param endDate last date of the meeting, which is not before {@code startDate}
+     * @param duration length of the meeting
+     * @param quorumPercentage smallest percentage of the contacts that must be free for the meeting, or
+     *                         {@code NO_QUORUM} if any number of them can be
+     */
+    public SuggestMeetingCommand(IsTagInPersonPredicate predicate, LocalDate startDate, LocalDate endDate,
+                                 Duration duration, int quorumPercentage) {
+        requireAllNonNull(predicate, startDate, endDate, duration);
+        checkArgument(quorumPercentage >= NO_QUORUM && quorumPercentage <= 100);
+        this.predicate = predicate;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.duration = duration;
+        this.quorumPercentage = quorumPercentage;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        Set<Person> personsWithTag = model.getPersonsWithTag(predicate.getTag());
+        if (personsWithTag.isEmpty()) {
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            throw new CommandException(FindCommonTimingCommand.TAG_NOT_PRESENT_ERROR_MESSAGE);
+        }
+        model.updateFilteredPersonList(predicate, personsWithTag);
+
+        List<Schedule> schedules = personsWithTag.stream().map(Person::getSchedule).collect(Collectors.toList());
+        // a meeting needs at least one attendee even without a quorum
+        int minimumAttendance = Math.max(1, (schedules.size() * quorumPercentage + 99) / 100);
+        List<MeetingSlot> suggestions = MeetingSuggester.suggest(schedules, startDate, endDate,
+                DayOccupancy.DEFAULT_SLOT_MINUTES, duration, minimumAttendance, MAX_SUGGESTIONS);
+        if (suggestions.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_SUGGESTIONS);
+        }
+
+        StringBuilder sb = new StringBuilder(String.format(MESSAGE_SUGGESTIONS, formatDuration(duration), startDate,
+                endDate, suggestions.size()));
+        for (MeetingSlot suggestion : suggestions) {
+            sb.append(String.format("%s-%s (%d of %d contacts free)\n", suggestion.getStart().format(START_FORMATTER),
+                    suggestion.getEnd().format(suggestion.getEnd().toLocalDate().equals(
+                            suggestion.getStart().toLocalDate()) ? END_FORMATTER : START_FORMATTER),
+                    suggestion.getAttendance(), schedules.size()));
+        }
+        return new CommandResult(sb.toString());
+    }
+
+    private static String formatDuration(Duration duration) {
+        return duration.toMinutesPart() == 0
+                ? String.format("%dh", duration.toHours())
+                : String.format("%dh%02dm", duration.toHours(), duration.toMinutesPart());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SuggestMeetingCommand // instanceof handles nulls
+                && predicate.equals(((SuggestMeetingCommand) other).predicate)
+                && startDate.equals(((SuggestMeetingCommand) other).startDate)
+                && endDate.equals(((SuggestMeetingCommand) other).endDate)
+                && duration.equals(((SuggestMeetingCommand) other).duration)
+                && quorumPercentage == ((SuggestMeetingCommand) other).quorumPercentage); // state check
+    }
+}
@@ -5,11 +5,21 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Tag;
 import seedu.address.model.schedule.IsPersonFreePredicate;
 
 /**
@@ -18,7 +28,7 @@ import seedu.address.model.schedule.IsPersonFreePredicate;
  * If no date is given, the command assumes today's date.
  * Persons without schedule is considered free at all times.
  */
-public class WhoIsFreeCommand extends Command {
+public class WhoIsFreeCommand extends Command implements FilterCommand {
 
     public static final String COMMAND_WORD = "whoIsFree";
     public static final String COMMAND_WORD_LOWER = "whoisfree";
@@ -41,15 +51,61 @@ public class WhoIsFreeCommand extends Command {
         this.predicate = predicate;
     }
 
+    @Override
+    public IsPersonFreePredicate getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Returns the persons with any of the tags, found from the tag index, or all the persons if there are no tags.
+     */
+    @Override
+    public Collection<Person> getPreviewCandidates(Model model) {
+        if (predicate.getTags().isEmpty()) {
+            return model.getAddressBook().getPersonList();
+        }
+        return findPersonsWithTags(model);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (predicate.getTags().isEmpty()) {
+            model.updateFilteredPersonList(predicate);
+        } else {
+            model.updateFilteredPersonList(predicate, findFreePersonsWithTags(model));
+        }
         model.updateViewSchedulePerson(Model.PREDICATE_SHOW_NO_PERSONS);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Returns the persons with any of the tags who are free, checking the schedules of only the persons found from
+     * the tag index.
+     */
+    private List<Person> findFreePersonsWithTags(Model model) {
+        List<Person> freePersons = new ArrayList<>();
+        for (Person person : findPersonsWithTags(model)) {
+            if (predicate.isFree(person)) {
+                freePersons.add(person);
+            }
+        }
+        return freePersons;
+    }
+
+    /**
+     * Returns the persons with any of the tags, found from the tag index.
+     */
+    private Set<Person> findPersonsWithTags(Model model) {
+        // the persons are compared by identity, as they are the same objects as in the address book
+        Set<Person> personsWithTags = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Tag tag : predicate.getTags()) {
+            personsWithTags.addAll(model.getPersonsWithTag(tag));
+        }
+        return personsWithTags;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -9,6 +9,7 @@ import java.util.regex.Pattern;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.RunScriptCommand;
 import seedu.address.logic.commands.person.AddCommand;
 import seedu.address.logic.commands.person.ClearCommand;
 import seedu.address.logic.commands.person.DeleteCommand;
@@ -19,12 +20,15 @@ import seedu.address.logic.commands.person.SetUserCommand;
 import seedu.address.logic.commands.person.ViewGroupCommand;
 import seedu.address.logic.commands.person.ViewScheduleCommand;
 import seedu.address.logic.commands.schedule.AddEventCommand;
+import seedu.address.logic.commands.schedule.BusyHeatmapCommand;
+import seedu.address.logic.commands.schedule.CheckConflictsCommand;
 import seedu.address.logic.commands.schedule.ClearScheduleCommand;
 import seedu.address.logic.commands.schedule.DeleteEventCommand;
 import seedu.address.logic.commands.schedule.EditEventCommand;
 import seedu.address.logic.commands.schedule.ExportScheduleCommand;
 import seedu.address.logic.commands.schedule.FindCommonTimingCommand;
 import seedu.address.logic.commands.schedule.ImportScheduleCommand;
+import seedu.address.logic.commands.schedule.SuggestMeetingCommand;
 import seedu.address.logic.commands.schedule.WhoIsFreeCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.person.AddCommandParser;
@@ -35,12 +39,15 @@ import seedu.address.logic.parser.person.SetUserCommandParser;
 import seedu.address.logic.parser.person.ViewGroupCommandParser;
 import seedu.address.logic.parser.person.ViewScheduleCommandParser;
 import seedu.address.logic.parser.schedule.AddEventCommandParser;
+import seedu.address.logic.parser.schedule.BusyHeatmapCommandParser;
+import seedu.address.logic.parser.schedule.CheckConflictsCommandParser;
 import seedu.address.logic.parser.schedule.ClearScheduleCommandParser;
 import seedu.address.logic.parser.schedule.DeleteEventCommandParser;
 import seedu.address.logic.parser.schedule.EditEventCommandParser;
 import seedu.address.logic.parser.schedule.ExportScheduleCommandParser;
 import seedu.address.logic.parser.schedule.FindCommonTimingCommandParser;
 import seedu.address.logic.parser.schedule.ImportScheduleCommandParser;
+import seedu.address.logic.parser.schedule.SuggestMeetingCommandParser;
 import seedu.address.logic.parser.schedule.WhoIsFreeCommandParser;
 
 
@@ -109,6 +116,14 @@ public class AddressBookParser {
             return new SetUserCommandParser().parse(arguments);
         case FindCommonTimingCommand.COMMAND_WORD_LOWER:
             return new FindCommonTimingCommandParser().parse(arguments);
+        case BusyHeatmapCommand.COMMAND_WORD_LOWER:
+            return new BusyHeatmapCommandParser().parse(arguments);
+        case SuggestMeetingCommand.COMMAND_WORD_LOWER:
+            return new SuggestMeetingCommandParser().parse(arguments);
+        case CheckConflictsCommand.COMMAND_WORD_LOWER:
+            return new CheckConflictsCommandParser().parse(arguments);
+        case RunScriptCommand.COMMAND_WORD_LOWER:
+            return new RunScriptCommandParser().parse(arguments);
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
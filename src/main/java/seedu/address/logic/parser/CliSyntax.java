@@ -13,7 +13,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_EVENT_DESCRIPTION = new Prefix("ed/");
     public static final Prefix PREFIX_GITHUB = new Prefix("gh/");
     public static final Prefix PREFIX_NAME = new Prefix("n/");
+    public static final Prefix PREFIX_NO_CONFLICTS = new Prefix("nc/");
     public static final Prefix PREFIX_PHONE = new Prefix("p/");
+    public static final Prefix PREFIX_QUORUM = new Prefix("q/");
     public static final Prefix PREFIX_RECUR_FREQUENCY = new Prefix("r/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_TELEGRAM = new Prefix("tg/");
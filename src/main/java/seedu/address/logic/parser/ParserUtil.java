@@ -36,6 +36,7 @@ import seedu.address.model.schedule.RecurFrequency;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_FLAG_WITH_VALUE = "%1$s does not take a value.";
 
     private static final String DATE_REGEX = "\\d{4}-\\d{2}-\\d{2}";
     private static final String TIME_REGEX = "\\d{2}:\\d{2}";
@@ -358,4 +359,21 @@ public class ParserUtil {
         }
         return Paths.get(filePath);
     }
+
+    /**
+     * Returns true if the flag {@code prefix}, which takes no value, is given in {@code argMultimap}.
+     *
+     * @throws ParseException if the flag is given with a value.
+     */
+    public static boolean parseFlag(ArgumentMultimap argMultimap, Prefix prefix) throws ParseException {
+        requireNonNull(argMultimap);
+        requireNonNull(prefix);
+        List<String> values = argMultimap.getAllValues(prefix);
+        for (String value : values) {
+            if (!value.trim().isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_FLAG_WITH_VALUE, prefix));
+            }
+        }
+        return !values.isEmpty();
+    }
 }
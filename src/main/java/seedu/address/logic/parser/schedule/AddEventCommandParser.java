@@ -6,6 +6,7 @@ import static seedu.address.logic.commands.schedule.AddEventCommand.MESSAGE_USAG
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NO_CONFLICTS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RECUR_FREQUENCY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 import static seedu.address.model.schedule.Event.DEFAULT_DURATION;
@@ -45,7 +46,7 @@ public class AddEventCommandParser implements Parser<AddEventCommand> {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_EVENT_DESCRIPTION, PREFIX_DATE,
-                        PREFIX_TIME, PREFIX_DURATION, PREFIX_RECUR_FREQUENCY);
+                        PREFIX_TIME, PREFIX_DURATION, PREFIX_RECUR_FREQUENCY, PREFIX_NO_CONFLICTS);
 
         boolean hasEventDescription = arePrefixesPresent(argMultimap, PREFIX_EVENT_DESCRIPTION);
         boolean hasEventDate = arePrefixesPresent(argMultimap, PREFIX_DATE);
@@ -78,7 +79,7 @@ public class AddEventCommandParser implements Parser<AddEventCommand> {
                 PREFIX_RECUR_FREQUENCY).orElse(DEFAULT_RECURRENCE));
         Event event = new Event(eventDescription, date, time, duration, recurFrequency);
 
-        return new AddEventCommand(index, event);
+        return new AddEventCommand(index, event, ParserUtil.parseFlag(argMultimap, PREFIX_NO_CONFLICTS));
     }
 
     /**
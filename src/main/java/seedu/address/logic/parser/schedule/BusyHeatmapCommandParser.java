@@ -0,0 +1,60 @@
+package seedu.address.logic.parser.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.schedule.FindCommonTimingCommandParser.MESSAGE_END_DATE_BEFORE_START_DATE;
+import static seedu.address.logic.parser.schedule.FindCommonTimingCommandParser.MESSAGE_RANGE_TOO_LONG;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import seedu.address.logic.commands.schedule.BusyHeatmapCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.IsTagInPersonPredicate;
+import seedu.address.model.person.Tag;
+
+/**
+ * Parses input arguments and creates a new BusyHeatmapCommand object.
+ */
+public class BusyHeatmapCommandParser implements Parser<BusyHeatmapCommand> {
+
+    /** The heatmap has a column for each day, so it is limited to a week to stay readable. */
+    public static final int MAX_DAYS_IN_HEATMAP = 7;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BusyHeatmapCommand
+     * and returns a BusyHeatmapCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public BusyHeatmapCommand parse(String userInput) throws ParseException {
+        requireNonNull(userInput);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(userInput, PREFIX_TAG, PREFIX_DATE);
+
+        List<String> dates = argMultimap.getAllValues(PREFIX_DATE);
+        boolean hasTagPrefix = argMultimap.getValue(PREFIX_TAG).isPresent();
+        if (!argMultimap.getPreamble().isEmpty() || !hasTagPrefix || dates.isEmpty() || dates.size() > 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    BusyHeatmapCommand.MESSAGE_USAGE));
+        }
+
+        Tag tag = ParserUtil.parseTag(argMultimap.getValue(PREFIX_TAG).get());
+        LocalDate startDate = ParserUtil.parseDate(dates.get(0));
+        LocalDate endDate = dates.size() == 2 ? ParserUtil.parseDate(dates.get(1)) : startDate;
+        if (endDate.isBefore(startDate)) {
+            throw new ParseException(MESSAGE_END_DATE_BEFORE_START_DATE);
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_DAYS_IN_HEATMAP) {
+            throw new ParseException(String.format(MESSAGE_RANGE_TOO_LONG, MAX_DAYS_IN_HEATMAP));
+        }
+
+        return new BusyHeatmapCommand(new IsTagInPersonPredicate(tag), startDate, endDate);
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.logic.parser.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.schedule.FindCommonTimingCommandParser.MAX_DAYS_IN_RANGE;
+import static seedu.address.logic.parser.schedule.FindCommonTimingCommandParser.MESSAGE_END_DATE_BEFORE_START_DATE;
+import static seedu.address.logic.parser.schedule.FindCommonTimingCommandParser.MESSAGE_RANGE_TOO_LONG;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.schedule.CheckConflictsCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.schedule.ConflictDetector;
+
+/**
+ * Parses input arguments and creates a new CheckConflictsCommand object.
+ */
+public class CheckConflictsCommandParser implements Parser<CheckConflictsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the CheckConflictsCommand
+     * and returns a CheckConflictsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public CheckConflictsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE);
+
+        Index index;
+        try {
+            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    CheckConflictsCommand.MESSAGE_USAGE), pe);
+        }
+
+        List<String> dates = argMultimap.getAllValues(PREFIX_DATE);
+        if (dates.size() > 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    CheckConflictsCommand.MESSAGE_USAGE));
+        }
+        LocalDate startDate = dates.isEmpty() ? LocalDate.now() : ParserUtil.parseDate(dates.get(0));
+        LocalDate endDate = dates.size() == 2
+                ? ParserUtil.parseDate(dates.get(1))
+                : startDate.plusDays(ConflictDetector.DEFAULT_HORIZON_DAYS);
+        if (endDate.isBefore(startDate)) {
+            throw new ParseException(MESSAGE_END_DATE_BEFORE_START_DATE);
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_DAYS_IN_RANGE) {
+            throw new ParseException(String.format(MESSAGE_RANGE_TOO_LONG, MAX_DAYS_IN_RANGE));
+        }
+
+        return new CheckConflictsCommand(index, startDate, endDate);
+    }
+}
@@ -5,6 +5,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NO_CONFLICTS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RECUR_FREQUENCY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 import static seedu.address.model.schedule.RecurFrequency.DEFAULT_RECURRENCE;
@@ -35,7 +36,7 @@ public class EditEventCommandParser implements Parser<EditEventCommand> {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_EVENT_DESCRIPTION, PREFIX_DATE, PREFIX_TIME,
-                        PREFIX_DURATION, PREFIX_RECUR_FREQUENCY);
+                        PREFIX_DURATION, PREFIX_RECUR_FREQUENCY, PREFIX_NO_CONFLICTS);
 
         List<Index> indices;
 
@@ -72,6 +73,7 @@ public class EditEventCommandParser implements Parser<EditEventCommand> {
             throw new ParseException(EditEventCommand.MESSAGE_NOT_EDITED);
         }
 
-        return new EditEventCommand(indices.get(0), indices.get(1), editEventDescriptor);
+        return new EditEventCommand(indices.get(0), indices.get(1), editEventDescriptor,
+                ParserUtil.parseFlag(argMultimap, PREFIX_NO_CONFLICTS));
     }
 }
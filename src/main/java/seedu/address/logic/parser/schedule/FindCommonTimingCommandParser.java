@@ -3,9 +3,13 @@ package seedu.address.logic.parser.schedule;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import seedu.address.logic.commands.schedule.FindCommonTimingCommand;
 import seedu.address.logic.parser.ArgumentMultimap;
@@ -21,6 +25,10 @@ import seedu.address.model.person.Tag;
  */
 public class FindCommonTimingCommandParser implements Parser<FindCommonTimingCommand> {
 
+    public static final int MAX_DAYS_IN_RANGE = 366;
+    public static final String MESSAGE_END_DATE_BEFORE_START_DATE = "The end date should not be before the start date!";
+    public static final String MESSAGE_RANGE_TOO_LONG = "The date range should span at most %d days!";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommonTimingCommand
      * and returns a FindCommonTimingCommand object for execution.
@@ -29,23 +37,28 @@ public class FindCommonTimingCommandParser implements Parser<FindCommonTimingCom
     @Override
     public FindCommonTimingCommand parse(String userInput) throws ParseException {
         requireNonNull(userInput);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(userInput, PREFIX_TAG, PREFIX_DATE);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(userInput, PREFIX_TAG, PREFIX_DATE, PREFIX_DURATION);
 
+        List<String> dates = argMultimap.getAllValues(PREFIX_DATE);
         boolean hasTagPrefix = argMultimap.getValue(PREFIX_TAG).isPresent();
-        boolean hasDatePrefix = argMultimap.getValue(PREFIX_DATE).isPresent();
-        if (!argMultimap.getPreamble().isEmpty()) {
+        if (!argMultimap.getPreamble().isEmpty() || !hasTagPrefix || dates.isEmpty() || dates.size() > 2) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     FindCommonTimingCommand.MESSAGE_USAGE));
         }
 
-        if (hasTagPrefix && hasDatePrefix) {
-            Tag tag = ParserUtil.parseTag((argMultimap.getValue(PREFIX_TAG).get()));
-            LocalDate date = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
-
-            return new FindCommonTimingCommand(new IsTagInPersonPredicate(tag), date);
-        } else {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommonTimingCommand.MESSAGE_USAGE));
+        Tag tag = ParserUtil.parseTag((argMultimap.getValue(PREFIX_TAG).get()));
+        LocalDate startDate = ParserUtil.parseDate(dates.get(0));
+        LocalDate endDate = dates.size() == 2 ? ParserUtil.parseDate(dates.get(1)) : startDate;
+        if (endDate.isBefore(startDate)) {
+            throw new ParseException(MESSAGE_END_DATE_BEFORE_START_DATE);
         }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_DAYS_IN_RANGE) {
+            throw new ParseException(String.format(MESSAGE_RANGE_TOO_LONG, MAX_DAYS_IN_RANGE));
+        }
+        Duration minimumDuration = argMultimap.getValue(PREFIX_DURATION).isPresent()
+                ? ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get())
+                : Duration.ZERO;
+
+        return new FindCommonTimingCommand(new IsTagInPersonPredicate(tag), startDate, endDate, minimumDuration);
     }
 }
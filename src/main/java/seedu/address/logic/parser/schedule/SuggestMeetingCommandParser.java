@@ -0,0 +1,89 @@
+package seedu.address.logic.parser.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUORUM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.schedule.FindCommonTimingCommandParser.MAX_DAYS_IN_RANGE;
+import static seedu.address.logic.parser.schedule.FindCommonTimingCommandParser.MESSAGE_END_DATE_BEFORE_START_DATE;
+import static seedu.address.logic.parser.schedule.FindCommonTimingCommandParser.MESSAGE_RANGE_TOO_LONG;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import seedu.address.logic.commands.schedule.SuggestMeetingCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.IsTagInPersonPredicate;
+import seedu.address.model.person.Tag;
+
+/**
+ * Parses input arguments and creates a new SuggestMeetingCommand object.
+ */
+public class SuggestMeetingCommandParser implements Parser<SuggestMeetingCommand> {
+
+    public static final String MESSAGE_INVALID_QUORUM =
+            "Quorum should be a whole percentage from 1 to 100, such as 80 or 80%";
+    private static final String QUORUM_VALIDATION_REGEX = "\\d{1,3}%?";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SuggestMeetingCommand
+     * and returns a SuggestMeetingCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public SuggestMeetingCommand parse(String userInput) throws ParseException {
+        requireNonNull(userInput);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(userInput, PREFIX_TAG, PREFIX_DATE, PREFIX_DURATION,
+                PREFIX_QUORUM);
+
+        List<String> dates = argMultimap.getAllValues(PREFIX_DATE);
+        boolean hasTagPrefix = argMultimap.getValue(PREFIX_TAG).isPresent();
+        boolean hasDurationPrefix = argMultimap.getValue(PREFIX_DURATION).isPresent();
+        if (!argMultimap.getPreamble().isEmpty() || !hasTagPrefix || !hasDurationPrefix || dates.isEmpty()
+                || dates.size() > 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    SuggestMeetingCommand.MESSAGE_USAGE));
+        }
+
+        Tag tag = ParserUtil.parseTag(argMultimap.getValue(PREFIX_TAG).get());
+        LocalDate startDate = ParserUtil.parseDate(dates.get(0));
+        LocalDate endDate = dates.size() == 2 ? ParserUtil.parseDate(dates.get(1)) : startDate;
+        if (endDate.isBefore(startDate)) {
+            throw new ParseException(MESSAGE_END_DATE_BEFORE_START_DATE);
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_DAYS_IN_RANGE) {
+            throw new ParseException(String.format(MESSAGE_RANGE_TOO_LONG, MAX_DAYS_IN_RANGE));
+        }
+        Duration duration = ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get());
+        int quorumPercentage = argMultimap.getValue(PREFIX_QUORUM).isPresent()
+                ? parseQuorum(argMultimap.getValue(PREFIX_QUORUM).get())
+                : SuggestMeetingCommand.NO_QUORUM;
+
+        return new SuggestMeetingCommand(new IsTagInPersonPredicate(tag), startDate, endDate, duration,
+                quorumPercentage);
+    }
+
+    /**
+     * Parses a {@code quorum} percentage, with or without a trailing "%", into an {@code int}.
+     * @throws ParseException if the given {@code quorum} is invalid.
+     */
+    private static int parseQuorum(String quorum) throws ParseException {
+        String trimmedQuorum = quorum.trim();
+        if (!trimmedQuorum.matches(QUORUM_VALIDATION_REGEX)) {
+            throw new ParseException(MESSAGE_INVALID_QUORUM);
+        }
+        int percentage = Integer.parseInt(trimmedQuorum.replace("%", ""));
+        if (percentage < 1 || percentage > 100) {
+            throw new ParseException(MESSAGE_INVALID_QUORUM);
+        }
+        return percentage;
+    }
+}
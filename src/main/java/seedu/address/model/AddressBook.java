@@ -3,18 +3,27 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Set;
 
-import javafx.collections.ObservableList;
+import seedu.address.model.person.NameIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListView;
+import seedu.address.model.person.Tag;
+import seedu.address.model.person.TagIndex;
 import seedu.address.model.person.UniquePersonList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * The persons are also indexed by their tags and name words, and every operation that changes the persons updates
+ * the indexes.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final TagIndex tagIndex = new TagIndex();
+    private final NameIndex nameIndex = new NameIndex();
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -45,6 +54,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        tagIndex.clear();
+        nameIndex.clear();
+        persons.forEach(tagIndex::add);
+        persons.forEach(nameIndex::add);
+        version++;
     }
 
     /**
@@ -72,6 +86,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        tagIndex.add(p);
+        nameIndex.add(p);
+        version++;
     }
 
     /**
@@ -80,6 +97,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void insertPerson(Person p, Integer index) {
         persons.insert(p, index);
+        tagIndex.add(p);
+        nameIndex.add(p);
+        version++;
     }
 
     /**
@@ -91,6 +111,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        tagIndex.remove(target);
+        tagIndex.add(editedPerson);
+        nameIndex.remove(target);
+        nameIndex.add(editedPerson);
+        version++;
     }
 
     /**
@@ -99,19 +124,54 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        tagIndex.remove(key);
+        nameIndex.remove(key);
+        version++;
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons in the address book with {@code tag}.
+     * The view is only meant to be used until the address book is next changed.
+     */
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return tagIndex.getPersonsWithTag(tag);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons in the address book whose names contain {@code word}, ignoring
+     * case. The view is only meant to be used until the address book is next changed.
+     */
+    public Set<Person> getPersonsWithNameWord(String word) {
+        requireNonNull(word);
+        return nameIndex.getPersonsWithWord(word);
+    }
+
+    /**
+     * Returns the persons in the address book whose names contain a word that starts with {@code prefix}, ignoring
+     * case.
+     */
+    public Set<Person> getPersonsWithNamePrefix(String prefix) {
+        requireNonNull(prefix);
+        return nameIndex.getPersonsWithWordPrefix(prefix);
     }
 
     //// util methods
 
     @Override
     public String toString() {
-        return persons.asUnmodifiableObservableList().size() + " persons";
+        return persons.asUnmodifiableList().size() + " persons";
         // TODO: refine later
     }
 
     @Override
-    public ObservableList<Person> getPersonList() {
-        return persons.asUnmodifiableObservableList();
+    public PersonListView getPersonList() {
+        return persons.asUnmodifiableList();
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
     }
 
     @Override
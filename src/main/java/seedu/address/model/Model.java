@@ -1,11 +1,14 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListView;
+import seedu.address.model.person.Tag;
 import seedu.address.model.schedule.Schedule;
 
 /**
@@ -93,21 +96,50 @@ public interface Model {
      */
     void setSchedule(Person target, Schedule updatedSchedule);
 
+    /**
+     * Returns the persons in the address book with {@code tag}, found without checking the tags of every person.
+     * The returned set is only meant to be used until the address book is next changed.
+     */
+    Set<Person> getPersonsWithTag(Tag tag);
+
+    /**
+     * Returns the persons in the address book whose names contain {@code word}, ignoring case, found without
+     * checking the name of every person.
+     * The returned set is only meant to be used until the address book is next changed.
+     */
+    Set<Person> getPersonsWithNameWord(String word);
+
+    /**
+     * Returns the persons in the address book whose names contain a word that starts with {@code prefix}, ignoring
+     * case, found without checking the name of every person.
+     */
+    Set<Person> getPersonsWithNamePrefix(String prefix);
+
     /** Returns an unmodifiable view of the filtered person list */
-    ObservableList<Person> getFilteredPersonList();
+    PersonListView getFilteredPersonList();
 
     /** Returns an unmodifiable view of a particular person */
-    ObservableList<Person> getViewSchedulePerson();
+    PersonListView getViewSchedulePerson();
 
     /** Returns true if the {@code person} is currently viewed */
     boolean isPersonViewed(Person person);
 
+    /** Returns the predicate that the filtered person list is filtered by */
+    Predicate<Person> getFilteredPersonPredicate();
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, given that the persons
+     * matching it are exactly {@code matchingPersons}, so that the other persons need not be tested.
+     * @throws NullPointerException if {@code predicate} or {@code matchingPersons} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Collection<Person> matchingPersons);
+
     /**
      * Updates the filter of the viewed person list.
      * @param predicate
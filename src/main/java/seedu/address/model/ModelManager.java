@@ -4,14 +4,17 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.FilteredPersonList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListView;
+import seedu.address.model.person.Tag;
 import seedu.address.model.schedule.Schedule;
 
 /**
@@ -22,8 +25,8 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
-    private final FilteredList<Person> viewedPerson;
+    private final FilteredPersonList filteredPersons;
+    private final FilteredPersonList viewedPerson;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -35,8 +38,8 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        viewedPerson = new FilteredList<>(this.addressBook.getPersonList(), PREDICATE_SHOW_NO_PERSONS);
+        filteredPersons = new FilteredPersonList(this.addressBook.getPersonList(), PREDICATE_SHOW_ALL_PERSONS);
+        viewedPerson = new FilteredPersonList(this.addressBook.getPersonList(), PREDICATE_SHOW_NO_PERSONS);
     }
 
     public ModelManager() {
@@ -130,6 +133,24 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, updatedPerson);
     }
 
+    @Override
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return addressBook.getPersonsWithTag(tag);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithNameWord(String word) {
+        requireNonNull(word);
+        return addressBook.getPersonsWithNameWord(word);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithNamePrefix(String prefix) {
+        requireNonNull(prefix);
+        return addressBook.getPersonsWithNamePrefix(prefix);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -137,23 +158,38 @@ public class ModelManager implements Model {
      * {@code versionedAddressBook}
      */
     @Override
-    public ObservableList<Person> getFilteredPersonList() {
+    public PersonListView getFilteredPersonList() {
         return filteredPersons;
     }
 
+    @Override
+    public Predicate<Person> getFilteredPersonPredicate() {
+        return filteredPersons.getPredicate();
+    }
+
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (filteredPersons.getPredicate() == predicate) {
+            // the filtered list already follows every change to the persons, so filtering again changes nothing
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Collection<Person> matchingPersons) {
+        requireAllNonNull(predicate, matchingPersons);
+        filteredPersons.setPredicate(predicate, matchingPersons);
+    }
+
     //=========== Viewed Person List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of currently viewed person.
      */
     @Override
-    public ObservableList<Person> getViewSchedulePerson() {
+    public PersonListView getViewSchedulePerson() {
         return viewedPerson;
     }
 
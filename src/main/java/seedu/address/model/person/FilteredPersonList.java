@@ -0,0 +1,182 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * An unmodifiable view of the persons of a source {@code PersonListView} that match a predicate, in the order of the
+ * source list.
+ *
+ * The view follows every change to the source list by testing only the persons added by the change, rather than
+ * every person in the source list, and reports each change that affects the matching persons to its own listeners
+ * as one {@code PersonListChange}.
+ */
+public class FilteredPersonList extends AbstractList<Person> implements PersonListView, RandomAccess {
+
+    private final PersonListView source;
+    private final List<Consumer<PersonListChange>> listeners = new CopyOnWriteArrayList<>();
+    private final List<Person> matches = new ArrayList<>();
+    /** Positions in the source list of the persons in {@code matches}, in increasing order. */
+    private final List<Integer> sourcePositions = new ArrayList<>();
+    private Predicate<Person> predicate;
+
+    /**
+     * Creates a view of the persons of {@code source} that match {@code predicate}.
+     */
+    public FilteredPersonList(PersonListView source, Predicate<Person> predicate) {
+        requireAllNonNull(source, predicate);
+        this.source = source;
+        this.predicate = predicate;
+        filter(source, 0, matches, sourcePositions);
+        source.addListener(this::onSourceChanged);
+    }
+
+    public Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the persons of the source list that match {@code predicate} instead, as a single change.
+     */
+    public void setPredicate(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        List<Person> removed = new ArrayList<>(matches);
+        matches.clear();
+        sourcePositions.clear();
+        filter(source, 0, matches, sourcePositions);
+        fireChange(0, removed, new ArrayList<>(matches));
+    }
+
+    /**
+     * Shows the persons of the source list that match {@code predicate} instead, as a single change, given that they
+     * are exactly the persons in {@code matchingPersons}.
+     * Only the given persons are looked up in the source list, rather than every person in it being tested, and later
+     * changes to the source list are followed by testing the persons they add against {@code predicate}.
+     * Persons in {@code matchingPersons} that are not in the source list are ignored.
+     */
+    public void setPredicate(Predicate<Person> predicate, Collection<Person> matchingPersons) {
+        requireAllNonNull(predicate, matchingPersons);
+        int[] positions = new int[matchingPersons.size()];
+        int count = 0;
+        for (Person person : matchingPersons) {
+            int position = source.indexOf(person);
+            if (position != -1) {
+                positions[count++] = position;
+            }
+        }
+        Arrays.sort(positions, 0, count);
+
+        this.predicate = predicate;
+        List<Person> removed = new ArrayList<>(matches);
+        matches.clear();
+        sourcePositions.clear();
+        for (int i = 0; i < count; i++) {
+            if (i > 0 && positions[i] == positions[i - 1]) {
+                continue;
+            }
+            matches.add(source.get(positions[i]));
+            sourcePositions.add(positions[i]);
+        }
+        fireChange(0, removed, new ArrayList<>(matches));
+    }
+
+    @Override
+    public Person get(int index) {
+        return matches.get(index);
+    }
+
+    @Override
+    public int size() {
+        return matches.size();
+    }
+
+    @Override
+    public void addListener(Consumer<PersonListChange> listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(Consumer<PersonListChange> listener) {
+        listeners.remove(listener);
+    }
+
+    private void onSourceChanged(PersonListChange change) {
+        int from = change.getFrom();
+        int removedCount = change.getRemoved().size();
+        int shift = change.getAdded().size() - removedCount;
+
+        // the matching persons that were in the replaced part of the source list
+        int start = firstPositionNotBefore(from);
+        int end = firstPositionNotBefore(from + removedCount);
+        List<Person> removed = new ArrayList<>(matches.subList(start, end));
+        matches.subList(start, end).clear();
+        sourcePositions.subList(start, end).clear();
+
+        if (shift != 0) {
+            for (int i = start; i < sourcePositions.size(); i++) {
+                sourcePositions.set(i, sourcePositions.get(i) + shift);
+            }
+        }
+
+        List<Person> added = new ArrayList<>();
+        List<Integer> addedPositions = new ArrayList<>();
+        filter(change.getAdded(), from, added, addedPositions);
+        matches.addAll(start, added);
+        sourcePositions.addAll(start, addedPositions);
+
+        fireChange(start, removed, added);
+    }
+
+    /**
+     * Adds the persons of {@code persons} that match the predicate to {@code found}, and their positions, counting
+     * from {@code firstPosition}, to {@code foundPositions}.
+     */
+    private void filter(List<Person> persons, int firstPosition, List<Person> found, List<Integer> foundPositions) {
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            if (predicate.test(person)) {
+                found.add(person);
+                foundPositions.add(firstPosition + i);
+            }
+        }
+    }
+
+    /**
+     * Returns the index in {@code sourcePositions} of the first position that is not before {@code sourcePosition}.
+     */
+    private int firstPositionNotBefore(int sourcePosition) {
+        int low = 0;
+        int high = sourcePositions.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sourcePositions.get(mid) < sourcePosition) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void fireChange(int from, List<Person> removed, List<Person> added) {
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+        PersonListChange change = new PersonListChange(from, removed, added);
+        for (Consumer<PersonListChange> listener : listeners) {
+            listener.accept(change);
+        }
+    }
+}
@@ -17,6 +17,10 @@ public class IsTagInPersonPredicate implements Predicate<Person> {
         this.tag = tag;
     }
 
+    public Tag getTag() {
+        return tag;
+    }
+
     @Override
     public boolean test(Person person) {
         Set<Tag> tagSet = person.getTags();
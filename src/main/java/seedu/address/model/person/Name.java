@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +23,7 @@ public class Name {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]{0,29}";
 
     public final String value;
+    private final List<String> words;
 
     /**
      * Constructs a {@code Name}.
@@ -29,6 +34,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         value = name;
+        words = Collections.unmodifiableList(Arrays.asList(name.toLowerCase().split(" +")));
     }
 
     /**
@@ -38,6 +44,14 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the words of the name in lower case, in the order that they appear in it.
+     * The words are split once when the name is created, so that names can be searched by word without splitting
+     * them again.
+     */
+    public List<String> getWords() {
+        return words;
+    }
 
     @Override
     public String toString() {
@@ -53,7 +67,8 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        // names are compared case-insensitively
+        return value.toLowerCase().hashCode();
     }
 
 }
@@ -1,24 +1,54 @@
 package seedu.address.model.person;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
-
-import seedu.address.commons.util.StringUtil;
+import java.util.stream.Collectors;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final Set<String> lowerCaseKeywords;
 
+    /**
+     * Creates a predicate that matches the names that contain any of {@code keywords} as a whole word.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream().map(String::toLowerCase).collect(Collectors.toSet());
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns a predicate that matches the names that contain a word starting with any of the keywords, so that a
+     * keyword that is still being typed already matches the names with it.
+     */
+    public Predicate<Person> toPrefixPredicate() {
+        return person -> {
+            for (String word : person.getName().getWords()) {
+                for (String keyword : lowerCaseKeywords) {
+                    if (word.startsWith(keyword)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        };
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().value, keyword));
+        for (String word : person.getName().getWords()) {
+            if (lowerCaseKeywords.contains(word)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
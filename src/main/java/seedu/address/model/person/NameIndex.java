@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index from each word of a {@code Name}, in lower case, to the persons whose names contain it, so that the
+ * persons with a name word, or with a name word that starts with a prefix, can be found without checking the name
+ * of every person.
+ * The words are kept in order, so the words with a prefix are found in O(log w + m) time for w words, m of which
+ * have the prefix.
+ * The index is kept up to date by whoever owns the persons, by adding and removing every person that they add and
+ * remove.
+ */
+public class NameIndex {
+
+    private final NavigableMap<String, Set<Person>> personsByWord = new TreeMap<>();
+
+    /**
+     * Adds {@code person} to the persons of each word of their name.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String word : person.getName().getWords()) {
+            personsByWord.computeIfAbsent(word, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the persons of each word of their name.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String word : person.getName().getWords()) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByWord.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    public void clear() {
+        personsByWord.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons whose names contain {@code word}, ignoring case, which is empty
+     * if no name does.
+     * The view is only meant to be used until the index is next changed.
+     */
+    public Set<Person> getPersonsWithWord(String word) {
+        requireNonNull(word);
+        Set<Person> persons = personsByWord.get(word.toLowerCase());
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+
+    /**
+     * Returns the persons whose names contain a word that starts with {@code prefix}, ignoring case.
+     */
+    public Set<Person> getPersonsWithWordPrefix(String prefix) {
+        requireNonNull(prefix);
+        String lowerCasePrefix = prefix.toLowerCase();
+        Set<Person> persons = new HashSet<>();
+        // every word with the prefix sorts between the prefix and the prefix followed by the largest character
+        for (Set<Person> personsWithWord
+                : personsByWord.subMap(lowerCasePrefix, true, lowerCasePrefix + Character.MAX_VALUE, true).values()) {
+            persons.addAll(personsWithWord);
+        }
+        return persons;
+    }
+}
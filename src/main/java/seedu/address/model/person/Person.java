@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import seedu.address.model.schedule.Schedule;
 
@@ -24,9 +25,12 @@ public class Person {
     private final GitHub github;
     private final Email email;
     private final Address address;
-    private final Schedule schedule;
     private final Set<Tag> tags = new HashSet<>();
 
+    // The schedule is loaded by scheduleLoader on first use, after which the loader is dropped.
+    private volatile Schedule schedule;
+    private Supplier<Schedule> scheduleLoader;
+
     /**
      * Every field must be present and not null.
      */
@@ -43,6 +47,23 @@ public class Person {
         this.tags.addAll(tags);
     }
 
+    /**
+     * Creates a person whose schedule is only loaded, by {@code scheduleLoader}, when it is first needed.
+     * Every field must be present and not null.
+     */
+    public Person(Name name, Phone phone, Telegram telegram, GitHub github, Email email,
+                  Address address, Supplier<Schedule> scheduleLoader, Set<Tag> tags) {
+        requireAllNonNull(name, phone, email, address, scheduleLoader, tags);
+        this.name = name;
+        this.phone = phone;
+        this.telegram = telegram;
+        this.github = github;
+        this.email = email;
+        this.address = address;
+        this.scheduleLoader = scheduleLoader;
+        this.tags.addAll(tags);
+    }
+
     public Name getName() {
         return name;
     }
@@ -76,14 +97,24 @@ public class Person {
     }
 
     public Schedule getSchedule() {
-        return schedule;
+        Schedule loadedSchedule = schedule;
+        if (loadedSchedule != null) {
+            return loadedSchedule;
+        }
+        synchronized (this) {
+            if (scheduleLoader != null) {
+                schedule = scheduleLoader.get();
+                scheduleLoader = null;
+            }
+            return schedule;
+        }
     }
 
     /**
      * Returns a schedule containing upcoming events that are happening in the next {@code daysForward} days.
      */
     public Schedule getUpcomingSchedule(int daysForward) {
-        return schedule.getUpcomingSchedule(daysForward);
+        return getSchedule().getUpcomingSchedule(daysForward);
     }
 
     /**
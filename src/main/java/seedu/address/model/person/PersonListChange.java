@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A change to a {@code PersonListView}, in which the persons from position {@code from} on were replaced: the
+ * {@code removed} persons were taken out, and the {@code added} persons now take up the positions from {@code from}.
+ *
+ * A change that adds, removes or replaces many persons at once, such as replacing the whole list, is a single change
+ * rather than one change per person.
+ */
+public class PersonListChange {
+
+    private final int from;
+    private final List<Person> removed;
+    private final List<Person> added;
+
+    /**
+     * Creates a change that replaced {@code removed} at position {@code from} with {@code added}.
+     * The lists are not copied, and must not be modified afterwards.
+     */
+    public PersonListChange(int from, List<Person> removed, List<Person> added) {
+        requireAllNonNull(removed, added);
+        if (from < 0) {
+            throw new IllegalArgumentException("Position of a change cannot be negative: " + from);
+        }
+        this.from = from;
+        this.removed = Collections.unmodifiableList(removed);
+        this.added = Collections.unmodifiableList(added);
+    }
+
+    /**
+     * Returns a change that added {@code person} at position {@code from}.
+     */
+    public static PersonListChange addition(int from, Person person) {
+        requireNonNull(person);
+        return new PersonListChange(from, Collections.emptyList(), Collections.singletonList(person));
+    }
+
+    /**
+     * Returns a change that removed {@code person} from position {@code from}.
+     */
+    public static PersonListChange removal(int from, Person person) {
+        requireNonNull(person);
+        return new PersonListChange(from, Collections.singletonList(person), Collections.emptyList());
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public List<Person> getRemoved() {
+        return removed;
+    }
+
+    public List<Person> getAdded() {
+        return added;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonListChange // instanceof handles nulls
+                && from == ((PersonListChange) other).from
+                && removed.equals(((PersonListChange) other).removed)
+                && added.equals(((PersonListChange) other).added)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, removed, added);
+    }
+
+    @Override
+    public String toString() {
+        return "at " + from + " removed " + removed + " added " + added;
+    }
+}
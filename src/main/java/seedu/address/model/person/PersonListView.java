@@ -0,0 +1,23 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * An unmodifiable list of persons that tells its listeners about every change to it.
+ *
+ * Listeners are called on the thread that changed the list, after the change, with one {@code PersonListChange} per
+ * change.
+ */
+public interface PersonListView extends List<Person> {
+
+    /**
+     * Adds a listener that is called with every later change to this list.
+     */
+    void addListener(Consumer<PersonListChange> listener);
+
+    /**
+     * Removes a listener added with {@code addListener}, if it has not been removed already.
+     */
+    void removeListener(Consumer<PersonListChange> listener);
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from each {@code Tag} to the persons with it, so that the persons with a tag can be found
+ * without checking the tags of every person.
+ * The index is kept up to date by whoever owns the persons, by adding and removing every person that they add and
+ * remove.
+ */
+public class TagIndex {
+
+    private final Map<Tag, Set<Person>> personsByTag = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the persons of each of their tags.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            personsByTag.computeIfAbsent(tag, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the persons of each of their tags.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            Set<Person> persons = personsByTag.get(tag);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByTag.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    public void clear() {
+        personsByTag.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons with {@code tag}, which is empty if no person has it.
+     * The view is only meant to be used until the index is next changed.
+     */
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        Set<Person> persons = personsByTag.get(tag);
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+}
@@ -3,11 +3,20 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -19,21 +28,28 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Persons are also indexed by their identity, so that finding, adding and replacing a person takes constant time,
+ * and inserting or removing a person only updates the positions of the persons after it, which move anyway.
+ * Every operation that changes the list is reported to the listeners of {@code asUnmodifiableList()} as one
+ * {@code PersonListChange}.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Person> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private List<Person> internalList = new ArrayList<>();
+    private final PersonListView internalUnmodifiableList = new UnmodifiableView();
+    private final List<Consumer<PersonListChange>> listeners = new CopyOnWriteArrayList<>();
+    private final Map<Identity, Person> personsByIdentity = new HashMap<>();
+    /** Positions of persons in {@code internalList}; only the persons that move are updated when persons move. */
+    private final Map<Identity, Integer> positionsByIdentity = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByIdentity.containsKey(new Identity(toCheck));
     }
 
     /**
@@ -45,7 +61,11 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        Identity identity = new Identity(toAdd);
+        personsByIdentity.put(identity, toAdd);
+        positionsByIdentity.put(identity, internalList.size());
         internalList.add(toAdd);
+        fireChange(PersonListChange.addition(internalList.size() - 1, toAdd));
     }
 
     /**
@@ -58,6 +78,9 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(index, toInsert);
+        personsByIdentity.put(new Identity(toInsert), toInsert);
+        updatePositionsFrom(index);
+        fireChange(PersonListChange.addition(index, toInsert));
     }
 
     /**
@@ -68,7 +91,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -77,7 +100,15 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Identity targetIdentity = new Identity(target);
+        Identity editedIdentity = new Identity(editedPerson);
+        personsByIdentity.remove(targetIdentity);
+        personsByIdentity.put(editedIdentity, editedPerson);
+        positionsByIdentity.remove(targetIdentity);
+        positionsByIdentity.put(editedIdentity, index);
+        Person replaced = internalList.set(index, editedPerson);
+        fireChange(new PersonListChange(index, Collections.singletonList(replaced),
+                Collections.singletonList(editedPerson)));
     }
 
     /**
@@ -86,14 +117,25 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Identity identity = new Identity(toRemove);
+        personsByIdentity.remove(identity);
+        positionsByIdentity.remove(identity);
+        Person removed = internalList.remove(index);
+        updatePositionsFrom(index);
+        fireChange(PersonListChange.removal(index, removed));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        personsByIdentity.clear();
+        personsByIdentity.putAll(replacement.personsByIdentity);
+        positionsByIdentity.clear();
+        positionsByIdentity.putAll(replacement.positionsByIdentity);
+        replaceAll(replacement.internalList);
     }
 
     /**
@@ -106,13 +148,21 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        personsByIdentity.clear();
+        positionsByIdentity.clear();
+        for (Person person : persons) {
+            Identity identity = new Identity(person);
+            personsByIdentity.put(identity, person);
+            positionsByIdentity.put(identity, positionsByIdentity.size());
+        }
+        replaceAll(persons);
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the backing list as an unmodifiable {@code PersonListView}, whose listeners are told about every change
+     * to this list.
      */
-    public ObservableList<Person> asUnmodifiableObservableList() {
+    public PersonListView asUnmodifiableList() {
         return internalUnmodifiableList;
     }
 
@@ -133,17 +183,130 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.hashCode();
     }
 
+    /**
+     * Replaces every person in the list with {@code persons}, as a single change.
+     */
+    private void replaceAll(List<Person> persons) {
+        List<Person> removed = internalList;
+        internalList = new ArrayList<>(persons);
+        fireChange(new PersonListChange(0, removed, new ArrayList<>(persons)));
+    }
+
+    private void fireChange(PersonListChange change) {
+        for (Consumer<PersonListChange> listener : listeners) {
+            listener.accept(change);
+        }
+    }
+
+    /**
+     * Returns the position of the person equal to {@code person} in the list, or -1 if there is no such person.
+     */
+    private int indexOf(Person person) {
+        Identity identity = new Identity(person);
+        Person personWithSameIdentity = personsByIdentity.get(identity);
+        if (personWithSameIdentity == null || !personWithSameIdentity.equals(person)) {
+            return -1;
+        }
+        return positionsByIdentity.get(identity);
+    }
+
+    /**
+     * Updates the positions of the persons from {@code index} to the end of the list, which have just moved.
+     * This takes as long as moving them did.
+     */
+    private void updatePositionsFrom(int index) {
+        for (int i = index; i < internalList.size(); i++) {
+            positionsByIdentity.put(new Identity(internalList.get(i)), i);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Identity> identities = new HashSet<>();
+        for (Person person : persons) {
+            if (!identities.add(new Identity(person))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * The view of the backing list returned by {@code asUnmodifiableList()}.
+     */
+    private class UnmodifiableView extends AbstractList<Person> implements PersonListView, RandomAccess {
+        @Override
+        public Person get(int index) {
+            return internalList.get(index);
+        }
+
+        @Override
+        public int size() {
+            return internalList.size();
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return o instanceof Person ? UniquePersonList.this.indexOf((Person) o) : -1;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return indexOf(o) != -1;
+        }
+
+        @Override
+        public void addListener(Consumer<PersonListChange> listener) {
+            requireNonNull(listener);
+            listeners.add(listener);
+        }
+
+        @Override
+        public void removeListener(Consumer<PersonListChange> listener) {
+            listeners.remove(listener);
+        }
+    }
+
+    /**
+     * The fields that {@code Person#isSamePerson(Person)} compares, usable as a hash key.
+     */
+    public static class Identity {
+        private final Name name;
+        private final Phone phone;
+
+        /**
+         * Creates the identity of {@code person}.
+         */
+        public Identity(Person person) {
+            this(person.getName(), person.getPhone());
+        }
+
+        /**
+         * Creates the identity of a person with the given {@code name} and {@code phone}.
+         */
+        public Identity(Name name, Phone phone) {
+            this.name = requireNonNull(name);
+            this.phone = requireNonNull(phone);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Identity // instanceof handles nulls
+                    && name.equals(((Identity) other).name)
+                    && phone.equals(((Identity) other).phone)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, phone);
+        }
+
+        @Override
+        public String toString() {
+            return name + " (" + phone + ")";
+        }
+    }
 }
@@ -0,0 +1,186 @@
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.schedule.BusyIntervalIndex.MINUTES_PER_DAY;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * Represents how many of a group of schedules are busy in each fixed-length time slot of a range of days.
+ * A schedule is busy in a slot if any of its events occupies any minute of it, and is counted once however many
+ * of its events do.
+ *
+ * A histogram can also count the schedules that are busy at some point of a window of several slots, for each slot
+ * that the window can start at. Windows that would end after the range only count the slots within it.
+ */
+public class BusyHistogram {
+
+    private final LocalDate startDate;
+    private final int dayCount;
+    private final int slotMinutes;
+    private final int slotsPerDay;
+    private final int windowSlots;
+    private final int[] counts;
+    private int scheduleCount;
+
+    /**
+     * Creates a histogram of every day from {@code startDate} to {@code endDate} (both inclusive) in which no
+     * schedule has been counted yet.
+     */
+    public BusyHistogram(LocalDate startDate, LocalDate endDate, int slotMinutes) {
+        this(startDate, endDate, slotMinutes, 1);
+    }
+
+    /**
+     * Creates a histogram of every day from {@code startDate} to {@code endDate} (both inclusive) that counts the
+     * schedules that are busy in windows of {@code windowSlots} slots, in which no schedule has been counted yet.
+     */
+    public BusyHistogram(LocalDate startDate, LocalDate endDate, int slotMinutes, int windowSlots) {
+        requireAllNonNull(startDate, endDate);
+        checkArgument(!endDate.isBefore(startDate));
+        checkArgument(DayOccupancy.isValidSlotMinutes(slotMinutes), DayOccupancy.MESSAGE_CONSTRAINTS);
+        checkArgument(windowSlots > 0);
+        this.startDate = startDate;
+        this.dayCount = Math.toIntExact(endDate.toEpochDay() - startDate.toEpochDay() + 1);
+        this.slotMinutes = slotMinutes;
+        this.slotsPerDay = MINUTES_PER_DAY / slotMinutes;
+        this.windowSlots = windowSlots;
+        this.counts = new int[dayCount * slotsPerDay];
+    }
+
+    /**
+     * Returns the histogram of {@code schedules} from {@code startDate} to {@code endDate} (both inclusive).
+     *
+     * The schedules are counted in parallel: each worker of the common fork-join pool counts its share of the
+     * schedules into a histogram of its own, and the histograms are then summed.
+     */
+    public static BusyHistogram of(Collection<Schedule> schedules, LocalDate startDate, LocalDate endDate,
+            int slotMinutes) {
+        return of(schedules, startDate, endDate, slotMinutes, 1);
+    }
+
+    /**
+     * Returns the histogram of {@code schedules} from {@code startDate} to {@code endDate} (both inclusive) that
+     * counts the schedules that are busy in windows of {@code windowSlots} slots.
+     * The schedules are counted in parallel, as in {@link #of(Collection, LocalDate, LocalDate, int)}.
+     */
+    public static BusyHistogram of(Collection<Schedule> schedules, LocalDate startDate, LocalDate endDate,
+            int slotMinutes, int windowSlots) {
+        requireAllNonNull(schedules, startDate, endDate);
+        // an array-backed list splits evenly between the workers, unlike most views of the persons list
+        return new ArrayList<>(schedules).parallelStream().collect(() ->
+                new BusyHistogram(startDate, endDate, slotMinutes, windowSlots), BusyHistogram::addSchedule,
+                BusyHistogram::addHistogram);
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return startDate.plusDays(dayCount - 1);
+    }
+
+    public int getDayCount() {
+        return dayCount;
+    }
+
+    public int getSlotMinutes() {
+        return slotMinutes;
+    }
+
+    public int getSlotsPerDay() {
+        return slotsPerDay;
+    }
+
+    public int getWindowSlots() {
+        return windowSlots;
+    }
+
+    /**
+     * Returns true if a window that starts at the slot at {@code slot} of the day at {@code day} ends within the
+     * range of days.
+     */
+    public boolean isWindowInRange(int day, int slot) {
+        checkArgument(day >= 0 && day < dayCount && slot >= 0 && slot < slotsPerDay);
+        return day * slotsPerDay + slot + windowSlots <= counts.length;
+    }
+
+    /**
+     * Returns the number of schedules that have been counted.
+     */
+    public int getScheduleCount() {
+        return scheduleCount;
+    }
+
+    /**
+     * Returns the number of schedules that are busy in the window that starts at the slot at {@code slot} of the
+     * day at {@code day}, where the first day of the histogram is at 0.
+     */
+    public int getBusyCount(int day, int slot) {
+        checkArgument(day >= 0 && day < dayCount && slot >= 0 && slot < slotsPerDay);
+        return counts[day * slotsPerDay + slot];
+    }
+
+    /**
+     * Counts {@code schedule} in every window in which it is busy.
+     */
+    public void addSchedule(Schedule schedule) {
+        requireNonNull(schedule);
+        long rangeStart = startDate.toEpochDay() * MINUTES_PER_DAY;
+        EventOccurrences occurrences = new EventOccurrences(rangeStart,
+                rangeStart + (long) dayCount * MINUTES_PER_DAY);
+        occurrences.addSchedule(schedule);
+
+        // the windows in which this schedule alone is busy, so that windows occupied by several of its events are
+        // counted once. A window is busy if its sliding sum of busy slots is positive, which are exactly the windows
+        // starting from windowSlots - 1 slots before a busy run until the end of it.
+        BitSet busySlots = new BitSet(counts.length);
+        for (int i = 0; i < occurrences.size(); i++) {
+            int fromSlot = (int) Math.max(0,
+                    (occurrences.getStart(i) - rangeStart) / slotMinutes - (windowSlots - 1));
+            int toSlot = (int) ((occurrences.getEnd(i) - rangeStart + slotMinutes - 1) / slotMinutes);
+            busySlots.set(fromSlot, toSlot);
+        }
+        for (int slot = busySlots.nextSetBit(0); slot >= 0; slot = busySlots.nextSetBit(slot + 1)) {
+            counts[slot]++;
+        }
+        scheduleCount++;
+    }
+
+    /**
+     * Adds the counts of {@code other}, which covers the same days and slots, to this histogram.
+     */
+    public void addHistogram(BusyHistogram other) {
+        requireNonNull(other);
+        checkArgument(startDate.equals(other.startDate) && dayCount == other.dayCount
+                && slotMinutes == other.slotMinutes && windowSlots == other.windowSlots);
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        scheduleCount += other.scheduleCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BusyHistogram // instanceof handles nulls
+                && startDate.equals(((BusyHistogram) other).startDate)
+                && dayCount == ((BusyHistogram) other).dayCount
+                && slotMinutes == ((BusyHistogram) other).slotMinutes
+                && windowSlots == ((BusyHistogram) other).windowSlots
+                && scheduleCount == ((BusyHistogram) other).scheduleCount
+                && Arrays.equals(counts, ((BusyHistogram) other).counts)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * startDate.hashCode() + Arrays.hashCode(counts);
+    }
+}
@@ -0,0 +1,196 @@
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An immutable interval index over the occurrences of the {@code Event}s in a {@code Schedule}.
+ * Every point in time is expressed in epoch minutes (minutes since 1970-01-01T00:00).
+ *
+ * Non-recurring events are stored as absolute intervals. Recurring events are stored as intervals within
+ * their recurrence period (the phase), so that an occurrence covering any point in time can be found by
+ * reducing that point modulo the period. As every period is a whole number of days, the phase of every
+ * event with the same {@code RecurFrequency} is measured from the same origin.
+ *
+ * Queries do not allocate and take logarithmic time in the number of events.
+ */
+public class BusyIntervalIndex {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final RecurFrequency[] FREQUENCIES = RecurFrequency.values();
+
+    private final long[] periods = new long[FREQUENCIES.length];
+    private final IntervalTree[] trees = new IntervalTree[FREQUENCIES.length];
+
+    /**
+     * Builds the index over every occurrence of {@code events}.
+     */
+    public BusyIntervalIndex(List<Event> events) {
+        this(new PackedEvents(requireNonNull(events)));
+    }
+
+    /**
+     * Builds the index over every occurrence of {@code events}.
+     */
+    public BusyIntervalIndex(PackedEvents events) {
+        requireNonNull(events);
+        List<List<long[]>> intervalsByFrequency = new ArrayList<>();
+        for (RecurFrequency frequency : FREQUENCIES) {
+            periods[frequency.ordinal()] = (long) frequency.getPeriodInDays() * MINUTES_PER_DAY;
+            intervalsByFrequency.add(new ArrayList<>());
+        }
+
+        for (int i = 0; i < events.size(); i++) {
+            int ordinal = events.getRecurFrequency(i).ordinal();
+            addIntervals(intervalsByFrequency.get(ordinal), events.getStart(i), events.getDurationInMinutes(i),
+                    periods[ordinal]);
+        }
+
+        for (int i = 0; i < FREQUENCIES.length; i++) {
+            trees[i] = new IntervalTree(intervalsByFrequency.get(i));
+        }
+    }
+
+    /**
+     * Returns the number of minutes between 1970-01-01T00:00 and {@code time} on {@code date}.
+     */
+    public static long toEpochMinute(LocalDate date, LocalTime time) {
+        return date.toEpochDay() * MINUTES_PER_DAY + time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * Returns true if any occurrence of an event is ongoing at {@code time} on {@code date}.
+     * An occurrence is ongoing from its start time (inclusive) to its end time (exclusive).
+     */
+    public boolean isBusyAt(LocalDate date, LocalTime time) {
+        return isBusyAt(toEpochMinute(date, time));
+    }
+
+    /**
+     * Returns true if any occurrence of an event is ongoing at the given epoch minute.
+     */
+    public boolean isBusyAt(long epochMinute) {
+        for (int i = 0; i < trees.length; i++) {
+            long phase = periods[i] == 0 ? epochMinute : Math.floorMod(epochMinute, periods[i]);
+            if (trees[i].stab(phase, epochMinute)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the intervals covered by the event starting at the epoch minute {@code start} to {@code intervals}.
+     * Each interval is stored as {@code {start, end, activation}}, where {@code activation} is the earliest
+     * epoch minute at which the interval may be used.
+     */
+    private static void addIntervals(List<long[]> intervals, long start, long duration, long period) {
+        if (duration <= 0) {
+            return;
+        }
+
+        if (period == 0) {
+            intervals.add(new long[] {start, start + duration, start});
+            return;
+        }
+
+        // an event cannot last longer than its period; treat it as ongoing at all times once it has started
+        duration = Math.min(duration, period);
+        long phaseStart = Math.floorMod(start, period);
+        long phaseEnd = phaseStart + duration;
+        if (phaseEnd <= period) {
+            intervals.add(new long[] {phaseStart, phaseEnd, start});
+        } else {
+            // the occurrence wraps into the next period, which can only happen after the first period boundary
+            intervals.add(new long[] {phaseStart, period, start});
+            intervals.add(new long[] {0, phaseEnd - period, start + period - phaseStart});
+        }
+    }
+
+    /**
+     * A static, augmented interval tree laid out implicitly over intervals sorted by their start.
+     * The root of the range {@code [from, to)} is at its midpoint, and each root records the largest end
+     * and the earliest activation within its range so that whole subtrees can be skipped.
+     */
+    private static class IntervalTree {
+        private final long[] starts;
+        private final long[] ends;
+        private final long[] activations;
+        private final long[] maxEnds;
+        private final long[] minActivations;
+
+        IntervalTree(List<long[]> intervals) {
+            long[][] sorted = intervals.toArray(new long[0][]);
+            Arrays.sort(sorted, Comparator.comparingLong(interval -> interval[0]));
+
+            int size = sorted.length;
+            starts = new long[size];
+            ends = new long[size];
+            activations = new long[size];
+            maxEnds = new long[size];
+            minActivations = new long[size];
+            for (int i = 0; i < size; i++) {
+                starts[i] = sorted[i][0];
+                ends[i] = sorted[i][1];
+                activations[i] = sorted[i][2];
+            }
+            augment(0, size);
+        }
+
+        private void augment(int from, int to) {
+            if (from >= to) {
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            augment(from, mid);
+            augment(mid + 1, to);
+
+            long maxEnd = ends[mid];
+            long minActivation = activations[mid];
+            if (from < mid) {
+                int left = (from + mid) >>> 1;
+                maxEnd = Math.max(maxEnd, maxEnds[left]);
+                minActivation = Math.min(minActivation, minActivations[left]);
+            }
+            if (mid + 1 < to) {
+                int right = (mid + 1 + to) >>> 1;
+                maxEnd = Math.max(maxEnd, maxEnds[right]);
+                minActivation = Math.min(minActivation, minActivations[right]);
+            }
+            maxEnds[mid] = maxEnd;
+            minActivations[mid] = minActivation;
+        }
+
+        /**
+         * Returns true if an interval contains {@code point} and has been activated by {@code epochMinute}.
+         */
+        boolean stab(long point, long epochMinute) {
+            return stab(0, starts.length, point, epochMinute);
+        }
+
+        private boolean stab(int from, int to, long point, long epochMinute) {
+            if (from >= to) {
+                return false;
+            }
+            int mid = (from + to) >>> 1;
+            if (maxEnds[mid] <= point || minActivations[mid] > epochMinute) {
+                return false;
+            }
+            if (starts[mid] <= point && point < ends[mid] && activations[mid] <= epochMinute) {
+                return true;
+            }
+            if (stab(from, mid, point, epochMinute)) {
+                return true;
+            }
+            // every interval to the right starts at or after this one
+            return starts[mid] <= point && stab(mid + 1, to, point, epochMinute);
+        }
+    }
+}
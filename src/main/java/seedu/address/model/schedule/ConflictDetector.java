@@ -0,0 +1,204 @@
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.schedule.BusyIntervalIndex.MINUTES_PER_DAY;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Finds the events of a {@code Schedule} that overlap each other.
+ *
+ * The occurrences of every event within a horizon are expanded, sorted by their start, and swept from the earliest
+ * to the latest while keeping the occurrences that are still ongoing in a heap ordered by their end. Each
+ * occurrence overlaps exactly the ongoing occurrences when it starts, so every overlapping pair of occurrences is
+ * visited once, in O(n log n + p) time for n occurrences and p overlapping pairs of occurrences. Two events that
+ * overlap repeatedly, such as two weekly events at the same time, are visited at each of their overlaps although
+ * they are only reported at the first.
+ */
+public class ConflictDetector {
+
+    /**
+     * The number of days after the latest start of any event within which every conflict with a new event recurs.
+     * Events recur at most every 14 days and last at most 14 days, so two recurring events that overlap at all
+     * overlap within 28 days of both having started.
+     */
+    public static final int DEFAULT_HORIZON_DAYS = 28;
+
+    private ConflictDetector() {}
+
+    /**
+     * Returns the pairs of events in {@code schedule} with occurrences that overlap between the start of
+     * {@code startDate} and the end of {@code endDate}, ordered by when they first overlap.
+     * Each pair is only reported once, at its first overlap.
+     */
+    public static List<Conflict> findConflicts(Schedule schedule, LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(schedule, startDate, endDate);
+        checkArgument(!endDate.isBefore(startDate));
+
+        EventOccurrences occurrences = new EventOccurrences(startDate.toEpochDay() * MINUTES_PER_DAY,
+                (endDate.toEpochDay() + 1) * MINUTES_PER_DAY);
+        occurrences.addSchedule(schedule);
+        Integer[] order = new Integer[occurrences.size()];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, (first, second) -> Long.compare(occurrences.getStart(first),
+                occurrences.getStart(second)));
+
+        List<Conflict> conflicts = new ArrayList<>();
+        Set<Long> conflictingPairs = new HashSet<>();
+        PriorityQueue<Integer> ongoing = new PriorityQueue<>((first, second) -> Long.compare(
+                occurrences.getEnd(first), occurrences.getEnd(second)));
+        for (int current : order) {
+            long start = occurrences.getStart(current);
+            while (!ongoing.isEmpty() && occurrences.getEnd(ongoing.peek()) <= start) {
+                ongoing.poll();
+            }
+
+            int currentEvent = occurrences.getEventIndex(current);
+            for (int other : ongoing) {
+                int otherEvent = occurrences.getEventIndex(other);
+                if (otherEvent == currentEvent) {
+                    continue;
+                }
+                int firstEvent = Math.min(currentEvent, otherEvent);
+                int secondEvent = Math.max(currentEvent, otherEvent);
+                if (conflictingPairs.add(((long) firstEvent << Integer.SIZE) | secondEvent)) {
+                    long end = Math.min(occurrences.getEnd(current), occurrences.getEnd(other));
+                    conflicts.add(new Conflict(schedule, firstEvent, secondEvent, start, end));
+                }
+            }
+            ongoing.add(current);
+        }
+        return conflicts;
+    }
+
+    /**
+     * Returns the conflicts between the event at {@code eventIndex} in {@code schedule} and the other events.
+     * Every conflict that the event has at any time is found.
+     */
+    public static List<Conflict> findConflictsWith(Schedule schedule, int eventIndex) {
+        requireNonNull(schedule);
+        PackedEvents events = schedule.getPackedEvents();
+        checkArgument(eventIndex >= 0 && eventIndex < events.size());
+
+        // the event cannot conflict with anything before it starts, and its conflicts recur after the horizon
+        long startEpochDay = Math.floorDiv(events.getStart(eventIndex), MINUTES_PER_DAY);
+        long latestStartEpochDay = startEpochDay;
+        for (int i = 0; i < events.size(); i++) {
+            latestStartEpochDay = Math.max(latestStartEpochDay, Math.floorDiv(events.getStart(i), MINUTES_PER_DAY));
+        }
+        return findConflicts(schedule, LocalDate.ofEpochDay(startEpochDay),
+                LocalDate.ofEpochDay(latestStartEpochDay + DEFAULT_HORIZON_DAYS)).stream()
+                .filter(conflict -> conflict.involves(eventIndex))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Represents two events in a schedule with occurrences that overlap.
+     */
+    public static class Conflict {
+        private static final DateTimeFormatter OVERLAP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+        private final int firstEventIndex;
+        private final int secondEventIndex;
+        private final Event firstEvent;
+        private final Event secondEvent;
+        private final long overlapStart;
+        private final long overlapEnd;
+
+        /**
+         * Creates a conflict between the events at {@code firstEventIndex} and {@code secondEventIndex} in
+         * {@code schedule}, which overlap from the epoch minute {@code overlapStart} to {@code overlapEnd}.
+         */
+        Conflict(Schedule schedule, int firstEventIndex, int secondEventIndex, long overlapStart, long overlapEnd) {
+            this.firstEventIndex = firstEventIndex;
+            this.secondEventIndex = secondEventIndex;
+            this.firstEvent = schedule.getEvent(firstEventIndex);
+            this.secondEvent = schedule.getEvent(secondEventIndex);
+            this.overlapStart = overlapStart;
+            this.overlapEnd = overlapEnd;
+        }
+
+        /**
+         * Returns the zero-based index of the earlier of the two events in the schedule.
+         */
+        public int getFirstEventIndex() {
+            return firstEventIndex;
+        }
+
+        /**
+         * Returns the zero-based index of the later of the two events in the schedule.
+         */
+        public int getSecondEventIndex() {
+            return secondEventIndex;
+        }
+
+        public Event getFirstEvent() {
+            return firstEvent;
+        }
+
+        public Event getSecondEvent() {
+            return secondEvent;
+        }
+
+        /**
+         * Returns true if the event at {@code eventIndex} is one of the two events.
+         */
+        public boolean involves(int eventIndex) {
+            return firstEventIndex == eventIndex || secondEventIndex == eventIndex;
+        }
+
+        /**
+         * Returns when the events first overlap.
+         */
+        public LocalDateTime getOverlapStart() {
+            return toLocalDateTime(overlapStart);
+        }
+
+        /**
+         * Returns when the first overlap of the events ends.
+         */
+        public LocalDateTime getOverlapEnd() {
+            return toLocalDateTime(overlapEnd);
+        }
+
+        private static LocalDateTime toLocalDateTime(long epochMinute) {
+            return LocalDate.ofEpochDay(Math.floorDiv(epochMinute, MINUTES_PER_DAY)).atStartOfDay()
+                    .plusMinutes(Math.floorMod(epochMinute, MINUTES_PER_DAY));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Conflict // instanceof handles nulls
+                    && firstEventIndex == ((Conflict) other).firstEventIndex
+                    && secondEventIndex == ((Conflict) other).secondEventIndex
+                    && firstEvent.equals(((Conflict) other).firstEvent)
+                    && secondEvent.equals(((Conflict) other).secondEvent)
+                    && overlapStart == ((Conflict) other).overlapStart
+                    && overlapEnd == ((Conflict) other).overlapEnd); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * firstEventIndex + secondEventIndex) + Long.hashCode(overlapStart);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d. %s and %d. %s overlap from %s to %s", firstEventIndex + 1, firstEvent,
+                    secondEventIndex + 1, secondEvent, getOverlapStart().format(OVERLAP_FORMATTER),
+                    getOverlapEnd().format(OVERLAP_FORMATTER));
+        }
+    }
+}
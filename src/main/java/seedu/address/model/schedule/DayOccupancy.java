@@ -0,0 +1,330 @@
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.schedule.BusyIntervalIndex.MINUTES_PER_DAY;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Represents which parts of a single day are occupied, as a bitset of fixed-length time slots.
+ * A slot is busy if any event occupies any minute of it.
+ */
+public class DayOccupancy {
+
+    public static final int DEFAULT_SLOT_MINUTES = 30;
+    public static final String MESSAGE_CONSTRAINTS =
+            "Slot length should be a positive number of minutes that divides a day evenly";
+
+    private static final int WORD_SIZE = Long.SIZE;
+
+    private final LocalDate date;
+    private final int slotMinutes;
+    private final int slotCount;
+    private final long[] words;
+
+    /**
+     * Creates an occupancy for {@code date} with every slot free.
+     */
+    public DayOccupancy(LocalDate date, int slotMinutes) {
+        requireNonNull(date);
+        checkArgument(isValidSlotMinutes(slotMinutes), MESSAGE_CONSTRAINTS);
+        this.date = date;
+        this.slotMinutes = slotMinutes;
+        this.slotCount = MINUTES_PER_DAY / slotMinutes;
+        this.words = new long[(slotCount + WORD_SIZE - 1) / WORD_SIZE];
+    }
+
+    /**
+     * Returns true if a day can be divided into slots of {@code slotMinutes} minutes.
+     */
+    public static boolean isValidSlotMinutes(int slotMinutes) {
+        return slotMinutes > 0 && MINUTES_PER_DAY % slotMinutes == 0;
+    }
+
+    /**
+     * Returns the occupancy of every day from {@code startDate} to {@code endDate} (both inclusive) in which a
+     * slot is busy if any of {@code schedules} is busy during it.
+     *
+     * Each schedule is expanded into its occurrences within the whole range once, and the days are then filled
+     * in parallel, each from only the occurrences that overlap it.
+     */
+    public static List<DayOccupancy> ofDateRange(Collection<Schedule> schedules, LocalDate startDate,
+            LocalDate endDate, int slotMinutes) {
+        requireAllNonNull(schedules, startDate, endDate);
+        checkArgument(!endDate.isBefore(startDate));
+        checkArgument(isValidSlotMinutes(slotMinutes), MESSAGE_CONSTRAINTS);
+
+        long rangeStart = startDate.toEpochDay() * MINUTES_PER_DAY;
+        int dayCount = (int) (endDate.toEpochDay() - startDate.toEpochDay() + 1);
+        long rangeEnd = rangeStart + (long) dayCount * MINUTES_PER_DAY;
+        EventOccurrences occurrences = new EventOccurrences(rangeStart, rangeEnd);
+        for (Schedule schedule : schedules) {
+            occurrences.addSchedule(schedule);
+        }
+
+        // bucket the occurrences by the days they overlap, laid out contiguously as in a CSR matrix
+        int[] dayOffsets = new int[dayCount + 1];
+        for (int i = 0; i < occurrences.size(); i++) {
+            int lastDay = lastDay(occurrences, i, rangeStart);
+            for (int day = firstDay(occurrences, i, rangeStart); day <= lastDay; day++) {
+                dayOffsets[day + 1]++;
+            }
+        }
+        for (int day = 0; day < dayCount; day++) {
+            dayOffsets[day + 1] += dayOffsets[day];
+        }
+        int[] occurrencesByDay = new int[dayOffsets[dayCount]];
+        int[] nextFreeIndex = Arrays.copyOf(dayOffsets, dayCount);
+        for (int i = 0; i < occurrences.size(); i++) {
+            int lastDay = lastDay(occurrences, i, rangeStart);
+            for (int day = firstDay(occurrences, i, rangeStart); day <= lastDay; day++) {
+                occurrencesByDay[nextFreeIndex[day]++] = i;
+            }
+        }
+
+        return IntStream.range(0, dayCount).parallel().mapToObj(day -> {
+            DayOccupancy occupancy = new DayOccupancy(startDate.plusDays(day), slotMinutes);
+            long dayStart = rangeStart + (long) day * MINUTES_PER_DAY;
+            for (int j = dayOffsets[day]; j < dayOffsets[day + 1]; j++) {
+                int i = occurrencesByDay[j];
+                occupancy.markBusy(occurrences.getStart(i) - dayStart, occurrences.getEnd(i) - dayStart);
+            }
+            return occupancy;
+        }).collect(Collectors.toList());
+    }
+
+    private static int firstDay(EventOccurrences occurrences, int index, long rangeStart) {
+        return (int) ((occurrences.getStart(index) - rangeStart) / MINUTES_PER_DAY);
+    }
+
+    private static int lastDay(EventOccurrences occurrences, int index, long rangeStart) {
+        return (int) ((occurrences.getEnd(index) - 1 - rangeStart) / MINUTES_PER_DAY);
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public int getSlotMinutes() {
+        return slotMinutes;
+    }
+
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    /**
+     * Marks every slot occupied by an event in {@code schedule} as busy.
+     */
+    public void addSchedule(Schedule schedule) {
+        requireNonNull(schedule);
+        // the schedule caches its events at each date, which are also what the schedule card shows
+        for (Event event : schedule.getScheduleAt(date).getEvents()) {
+            long startMinute = event.getTime().toSecondOfDay() / 60;
+            markBusy(startMinute, startMinute + event.getDuration().toMinutes());
+        }
+    }
+
+    /**
+     * Marks every slot occupied by an occurrence of {@code event} as busy.
+     */
+    public void addEvent(Event event) {
+        requireNonNull(event);
+        long dayStart = date.toEpochDay() * MINUTES_PER_DAY;
+        EventOccurrences occurrences = new EventOccurrences(dayStart, dayStart + MINUTES_PER_DAY);
+        occurrences.addEvent(event);
+        for (int i = 0; i < occurrences.size(); i++) {
+            markBusy(occurrences.getStart(i) - dayStart, occurrences.getEnd(i) - dayStart);
+        }
+    }
+
+    /**
+     * Marks the slots covering minutes {@code startMinute} (inclusive) to {@code endMinute} (exclusive) of the
+     * day as busy. Minutes outside the day are ignored.
+     */
+    public void markBusy(long startMinute, long endMinute) {
+        int from = (int) Math.max(0, startMinute);
+        int to = (int) Math.min(MINUTES_PER_DAY, endMinute);
+        if (from >= to) {
+            return;
+        }
+        setSlots(from / slotMinutes, (to + slotMinutes - 1) / slotMinutes);
+    }
+
+    /**
+     * Marks every slot that is busy in {@code other} as busy in this occupancy.
+     */
+    public void addOccupancy(DayOccupancy other) {
+        requireNonNull(other);
+        checkArgument(date.equals(other.date) && slotMinutes == other.slotMinutes);
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    /**
+     * Marks every slot as free.
+     */
+    public void clear() {
+        Arrays.fill(words, 0);
+    }
+
+    /**
+     * Returns true if the slot at {@code slot} is busy.
+     */
+    public boolean isBusy(int slot) {
+        checkArgument(slot >= 0 && slot < slotCount);
+        return (words[slot / WORD_SIZE] & (1L << slot)) != 0;
+    }
+
+    /**
+     * Returns true if no slot is busy.
+     */
+    public boolean isWholeDayFree() {
+        return nextSlot(0, true) == slotCount;
+    }
+
+    /**
+     * Returns true if every slot is busy.
+     */
+    public boolean isWholeDayBusy() {
+        return nextSlot(0, false) == slotCount;
+    }
+
+    /**
+     * Returns the maximal runs of free slots in the day, in chronological order.
+     */
+    public List<FreeRange> getFreeRanges() {
+        List<FreeRange> freeRanges = new ArrayList<>();
+        int freeStart = nextSlot(0, false);
+        while (freeStart < slotCount) {
+            int freeEnd = nextSlot(freeStart, true);
+            freeRanges.add(new FreeRange(freeStart * slotMinutes, freeEnd * slotMinutes));
+            freeStart = nextSlot(freeEnd, false);
+        }
+        return freeRanges;
+    }
+
+    private void setSlots(int from, int to) {
+        int firstWord = from / WORD_SIZE;
+        int lastWord = (to - 1) / WORD_SIZE;
+        // shifts only use the lowest 6 bits of the distance, which is the position within the word
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (firstWord == lastWord) {
+            words[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        words[firstWord] |= firstMask;
+        Arrays.fill(words, firstWord + 1, lastWord, -1L);
+        words[lastWord] |= lastMask;
+    }
+
+    /**
+     * Returns the first slot at or after {@code from} that is busy if {@code busy} is true, or free otherwise.
+     * Returns the number of slots if there is no such slot.
+     */
+    private int nextSlot(int from, boolean busy) {
+        if (from >= slotCount) {
+            return slotCount;
+        }
+        int index = from / WORD_SIZE;
+        long word = (busy ? words[index] : ~words[index]) & (-1L << from);
+        while (word == 0) {
+            index++;
+            if (index == words.length) {
+                return slotCount;
+            }
+            word = busy ? words[index] : ~words[index];
+        }
+        return Math.min(slotCount, index * WORD_SIZE + Long.numberOfTrailingZeros(word));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DayOccupancy // instanceof handles nulls
+                && date.equals(((DayOccupancy) other).date)
+                && slotMinutes == ((DayOccupancy) other).slotMinutes
+                && Arrays.equals(words, ((DayOccupancy) other).words)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * date.hashCode() + Arrays.hashCode(words);
+    }
+
+    /**
+     * Represents a free period within a day, in minutes since the start of the day.
+     */
+    public static class FreeRange {
+        private final int startMinute;
+        private final int endMinute;
+
+        /**
+         * Creates a free period from {@code startMinute} (inclusive) to {@code endMinute} (exclusive).
+         */
+        public FreeRange(int startMinute, int endMinute) {
+            checkArgument(0 <= startMinute && startMinute < endMinute && endMinute <= MINUTES_PER_DAY);
+            this.startMinute = startMinute;
+            this.endMinute = endMinute;
+        }
+
+        public int getStartMinute() {
+            return startMinute;
+        }
+
+        public int getEndMinute() {
+            return endMinute;
+        }
+
+        public int getLengthInMinutes() {
+            return endMinute - startMinute;
+        }
+
+        public LocalTime getStartTime() {
+            return LocalTime.MIDNIGHT.plusMinutes(startMinute);
+        }
+
+        /**
+         * Returns true if the free period lasts until the end of the day.
+         */
+        public boolean isUntilEndOfDay() {
+            return endMinute == MINUTES_PER_DAY;
+        }
+
+        /**
+         * Returns the end time of the free period, which is midnight if it lasts until the end of the day.
+         */
+        public LocalTime getEndTime() {
+            return LocalTime.MIDNIGHT.plusMinutes(endMinute);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof FreeRange // instanceof handles nulls
+                    && startMinute == ((FreeRange) other).startMinute
+                    && endMinute == ((FreeRange) other).endMinute); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * startMinute + endMinute;
+        }
+
+        @Override
+        public String toString() {
+            return getStartTime() + "-" + getEndTime();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.schedule;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.schedule.BusyIntervalIndex.MINUTES_PER_DAY;
 
 import java.time.Duration;
 import java.time.LocalDate;
@@ -93,51 +94,40 @@ public class Event implements Comparable<Event> {
      * @return the closest start date of event that is still ongoing or has already occurred
      */
     public LocalDate getClosestStartDate(LocalDate relativeDate) {
-        long dateDiff = ChronoUnit.DAYS.between(this.date, relativeDate);
-        // event has not started compared to date given.
-        if (dateDiff <= 0) {
-            return date;
+        return toLocalDate(getClosestStartEpochDay(relativeDate.toEpochDay()));
+    }
+
+    /**
+     * Returns the epoch day of {@link #getClosestStartDate} at the epoch day {@code relativeEpochDay}.
+     * Only primitive arithmetic is used, so nothing is allocated.
+     */
+    public long getClosestStartEpochDay(long relativeEpochDay) {
+        return getClosestStartEpochDay(getStartEpochMinute(), duration.toMinutes(),
+                recurFrequency.getPeriodInDays(), relativeEpochDay);
+    }
+
+    /**
+     * Returns {@link #getClosestStartEpochDay(long)} of an event that first starts at the epoch minute {@code start},
+     * lasts {@code durationInMinutes} and recurs every {@code periodInDays} days, or never if it is 0.
+     */
+    static long getClosestStartEpochDay(long start, long durationInMinutes, int periodInDays,
+                                        long relativeEpochDay) {
+        long startEpochDay = Math.floorDiv(start, MINUTES_PER_DAY);
+        long dateDiff = relativeEpochDay - startEpochDay;
+        // event has not started compared to date given, or does not recur
+        if (dateDiff <= 0 || periodInDays == 0) {
+            return startEpochDay;
         }
-        // event that has past
-        LocalDate startDate;
-        LocalDateTime endDateTime;
-        switch (recurFrequency) {
-        case NONE:
-            startDate = date;
-            break;
-        case DAILY:
-            startDate = relativeDate.minusDays(1);
-            endDateTime = LocalDateTime.of(startDate, time).plus(duration);
-            if (!endDateTime.isAfter(LocalDateTime.of(relativeDate, LocalTime.MIDNIGHT))) {
-                startDate = startDate.plusDays(1);
-            }
-            break;
-        case WEEKLY:
-            startDate = date.plusDays(dateDiff - dateDiff % 7);
-            if (dateDiff % 7 == 0) {
-                startDate = relativeDate.minusDays(7);
-            }
-            endDateTime = LocalDateTime.of(startDate, time).plus(duration);
-            if (!endDateTime.isAfter(LocalDateTime.of(relativeDate, LocalTime.MIDNIGHT))) {
-                startDate = startDate.plusDays(7);
-            }
-            break;
-        case BIWEEKLY:
-            startDate = date.plusDays(dateDiff - dateDiff % 14);
-            if (dateDiff % 14 == 0) {
-                startDate = relativeDate.minusDays(14);
-            }
-            endDateTime = LocalDateTime.of(startDate, time).plus(duration);
-            if (!endDateTime.isAfter(LocalDateTime.of(relativeDate, LocalTime.MIDNIGHT))) {
-                startDate = startDate.plusDays(14);
-            }
-            break;
-        default:
-            // case NONE and INVALID falls through to reach here
-            startDate = date;
-            logger.warning(String.format(MISSING_RECUR_FREQUENCY_CASE, recurFrequency));
+
+        // the latest occurrence that starts before the relative date
+        long closestStartEpochDay = dateDiff % periodInDays == 0
+                ? relativeEpochDay - periodInDays
+                : startEpochDay + dateDiff - dateDiff % periodInDays;
+        // the occurrence after it if that one has already ended by the start of the relative date
+        if (getEndEpochMinute(start, durationInMinutes, closestStartEpochDay) <= relativeEpochDay * MINUTES_PER_DAY) {
+            closestStartEpochDay += periodInDays;
         }
-        return startDate;
+        return closestStartEpochDay;
     }
 
     /**
@@ -147,17 +137,49 @@ public class Event implements Comparable<Event> {
      * @return the closest end date of event that is either still ongoing or has already occurred
      */
     public LocalDate getClosestEndDate(LocalDate relativeDate) {
-        long dateDiff = ChronoUnit.DAYS.between(date, relativeDate);
+        return toLocalDate(getClosestEndEpochDay(relativeDate.toEpochDay()));
+    }
+
+    /**
+     * Returns the epoch day of {@link #getClosestEndDate} at the epoch day {@code relativeEpochDay}.
+     * Only primitive arithmetic is used, so nothing is allocated.
+     */
+    public long getClosestEndEpochDay(long relativeEpochDay) {
+        return getClosestEndEpochDay(getStartEpochMinute(), duration.toMinutes(),
+                recurFrequency.getPeriodInDays(), relativeEpochDay);
+    }
+
+    /**
+     * Returns {@link #getClosestEndEpochDay(long)} of an event described as in
+     * {@link #getClosestStartEpochDay(long, long, int, long)}.
+     */
+    static long getClosestEndEpochDay(long start, long durationInMinutes, int periodInDays, long relativeEpochDay) {
+        long startEpochDay = Math.floorDiv(start, MINUTES_PER_DAY);
         // event has not started compared to date given.
-        if (dateDiff < 0) {
-            return date;
+        if (relativeEpochDay < startEpochDay) {
+            return startEpochDay;
         }
 
         // event that has past
-        LocalDate closestStartDate = getClosestStartDate(relativeDate);
-        LocalDate endDate = LocalDateTime.of(closestStartDate, time).plus(duration).toLocalDate();
+        long closestStartEpochDay = getClosestStartEpochDay(start, durationInMinutes, periodInDays, relativeEpochDay);
+        return Math.floorDiv(getEndEpochMinute(start, durationInMinutes, closestStartEpochDay), MINUTES_PER_DAY);
+    }
+
+    private long getStartEpochMinute() {
+        return BusyIntervalIndex.toEpochMinute(date, time);
+    }
 
-        return endDate;
+    /**
+     * Returns the epoch minute at which the occurrence starting on {@code startEpochDay} of an event that first
+     * starts at the epoch minute {@code start} ends.
+     */
+    private static long getEndEpochMinute(long start, long durationInMinutes, long startEpochDay) {
+        return startEpochDay * MINUTES_PER_DAY + Math.floorMod(start, MINUTES_PER_DAY) + durationInMinutes;
+    }
+
+    private LocalDate toLocalDate(long epochDay) {
+        // the date is reused when possible, as it is the answer for every event that has not started
+        return epochDay == date.toEpochDay() ? date : LocalDate.ofEpochDay(epochDay);
     }
 
     /**
@@ -231,10 +253,24 @@ public class Event implements Comparable<Event> {
             * @return true if date clashes with {@code Event}
      */
     public boolean willDateCollide(LocalDate date) {
-        LocalDate closestStartDate = getClosestStartDate(date);
-        LocalDate closestEndDate = getClosestEndDate(date);
-        return (closestStartDate.isBefore(date) || closestStartDate.isEqual(date))
-                && (closestEndDate.isAfter(date) || closestEndDate.isEqual(date));
+        return willDateCollide(date.toEpochDay());
+    }
+
+    /**
+     * Returns true if the epoch day {@code epochDay} clashes with event.
+     * Only primitive arithmetic is used, so nothing is allocated.
+     */
+    public boolean willDateCollide(long epochDay) {
+        return willDateCollide(getStartEpochMinute(), duration.toMinutes(), recurFrequency.getPeriodInDays(), epochDay);
+    }
+
+    /**
+     * Returns {@link #willDateCollide(long)} of an event described as in
+     * {@link #getClosestStartEpochDay(long, long, int, long)}.
+     */
+    static boolean willDateCollide(long start, long durationInMinutes, int periodInDays, long epochDay) {
+        return getClosestStartEpochDay(start, durationInMinutes, periodInDays, epochDay) <= epochDay
+                && getClosestEndEpochDay(start, durationInMinutes, periodInDays, epochDay) >= epochDay;
     }
 
     /**
@@ -372,12 +408,14 @@ public class Event implements Comparable<Event> {
             return false;
         }
 
+        // the cheap comparisons are made before the recurrence arithmetic
         Event otherEvent = (Event) other;
-        return otherEvent.getEventDescription().equals(getEventDescription())
-                && (otherEvent.willDateCollide(getDate()) || willDateCollide(otherEvent.getDate()))
-                && otherEvent.getTime().equals(getTime())
+        return otherEvent.getTime().equals(getTime())
                 && otherEvent.getDuration().equals(getDuration())
-                && otherEvent.getRecurFrequency().equals(getRecurFrequency());
+                && otherEvent.getRecurFrequency().equals(getRecurFrequency())
+                && otherEvent.getEventDescription().equals(getEventDescription())
+                && (otherEvent.willDateCollide(date.toEpochDay())
+                || willDateCollide(otherEvent.getDate().toEpochDay()));
     }
 
     @Override
@@ -38,7 +38,7 @@ public class EventDescription {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof EventDescription // instanceof handles nulls
-                && value.toLowerCase().equals(((EventDescription) other).value.toLowerCase())); // state check
+                && value.equalsIgnoreCase(((EventDescription) other).value)); // state check
     }
 
     @Override
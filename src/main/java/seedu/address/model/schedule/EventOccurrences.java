@@ -0,0 +1,167 @@
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.model.schedule.BusyIntervalIndex.MINUTES_PER_DAY;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * The occurrences of {@code Event}s within a fixed window of time, expanded once into primitive arrays.
+ * Every occurrence is stored as a pair of epoch minutes (see {@link BusyIntervalIndex#toEpochMinute}),
+ * clipped to the window, in the order that the events were added, together with where its event is packed.
+ */
+public class EventOccurrences {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final long windowStart;
+    private final long windowEnd;
+    private long[] starts = new long[INITIAL_CAPACITY];
+    private long[] ends = new long[INITIAL_CAPACITY];
+    private PackedEvents[] sources = new PackedEvents[INITIAL_CAPACITY];
+    private int[] sourceIndices = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Creates an empty set of occurrences within {@code windowStart} (inclusive) and {@code windowEnd} (exclusive).
+     */
+    public EventOccurrences(long windowStart, long windowEnd) {
+        checkArgument(windowStart <= windowEnd);
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+    }
+
+    public long getWindowStart() {
+        return windowStart;
+    }
+
+    public long getWindowEnd() {
+        return windowEnd;
+    }
+
+    /**
+     * Adds every occurrence of every event in {@code schedule} that overlaps the window.
+     */
+    public void addSchedule(Schedule schedule) {
+        requireNonNull(schedule);
+        addEvents(schedule.getPackedEvents());
+    }
+
+    /**
+     * Adds every occurrence of {@code event} that overlaps the window.
+     */
+    public void addEvent(Event event) {
+        requireNonNull(event);
+        addEvents(new PackedEvents(Collections.singletonList(event)));
+    }
+
+    /**
+     * Adds every occurrence of every event in {@code events} that overlaps the window.
+     */
+    public void addEvents(PackedEvents events) {
+        requireNonNull(events);
+        for (int i = 0; i < events.size(); i++) {
+            addEvent(events, i);
+        }
+    }
+
+    private void addEvent(PackedEvents events, int index) {
+        long duration = events.getDurationInMinutes(index);
+        if (duration <= 0) {
+            return;
+        }
+
+        long start = events.getStart(index);
+        long period = (long) events.getPeriodInDays(index) * MINUTES_PER_DAY;
+        if (period == 0) {
+            add(events, index, start, start + duration);
+            return;
+        }
+
+        // overlapping occurrences are no busier than back-to-back ones
+        duration = Math.min(duration, period);
+        // the first occurrence to end after the window starts
+        long occurrence = Math.max(0, Math.floorDiv(windowStart - start - duration, period) + 1);
+        for (long occurrenceStart = start + occurrence * period; occurrenceStart < windowEnd;
+                occurrenceStart += period) {
+            add(events, index, occurrenceStart, occurrenceStart + duration);
+        }
+    }
+
+    private void add(PackedEvents events, int index, long start, long end) {
+        long clippedStart = Math.max(start, windowStart);
+        long clippedEnd = Math.min(end, windowEnd);
+        if (clippedStart >= clippedEnd) {
+            return;
+        }
+        if (size == starts.length) {
+            starts = Arrays.copyOf(starts, size * 2);
+            ends = Arrays.copyOf(ends, size * 2);
+            sources = Arrays.copyOf(sources, size * 2);
+            sourceIndices = Arrays.copyOf(sourceIndices, size * 2);
+        }
+        starts[size] = clippedStart;
+        ends[size] = clippedEnd;
+        sources[size] = events;
+        sourceIndices[size] = index;
+        size++;
+    }
+
+    /**
+     * Returns the number of occurrences.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the epoch minute at which the occurrence at {@code index} starts.
+     */
+    public long getStart(int index) {
+        checkArgument(index >= 0 && index < size);
+        return starts[index];
+    }
+
+    /**
+     * Returns the epoch minute at which the occurrence at {@code index} ends.
+     */
+    public long getEnd(int index) {
+        checkArgument(index >= 0 && index < size);
+        return ends[index];
+    }
+
+    /**
+     * Returns the event that the occurrence at {@code index} is an occurrence of.
+     */
+    public Event getEvent(int index) {
+        checkArgument(index >= 0 && index < size);
+        return sources[index].getEvent(sourceIndices[index]);
+    }
+
+    /**
+     * Returns the index of the event that the occurrence at {@code index} is an occurrence of, within the schedule
+     * or {@code PackedEvents} that it was added from.
+     */
+    public int getEventIndex(int index) {
+        checkArgument(index >= 0 && index < size);
+        return sourceIndices[index];
+    }
+
+    /**
+     * Returns the description of the event that the occurrence at {@code index} is an occurrence of.
+     */
+    public EventDescription getEventDescription(int index) {
+        checkArgument(index >= 0 && index < size);
+        return sources[index].getEventDescription(sourceIndices[index]);
+    }
+
+    /**
+     * Returns the recurrence of the event that the occurrence at {@code index} is an occurrence of.
+     */
+    public RecurFrequency getRecurFrequency(int index) {
+        checkArgument(index >= 0 && index < size);
+        return sources[index].getRecurFrequency(sourceIndices[index]);
+    }
+}
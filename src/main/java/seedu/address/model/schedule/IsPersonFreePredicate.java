@@ -2,10 +2,8 @@ package seedu.address.model.schedule;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Tag;
@@ -30,21 +28,39 @@ public class IsPersonFreePredicate implements Predicate<Person> {
         this.tags = tags;
     }
 
+    public Set<Tag> getTags() {
+        return tags;
+    }
+
     @Override
     public boolean test(Person person) {
-        if (!tags.isEmpty()) {
-            boolean hasTag = person.getTags().stream().anyMatch(tag -> tags.contains(tag));
-            if (!hasTag) {
-                return false;
-            }
+        if (!tags.isEmpty() && !hasAnyTag(person)) {
+            return false;
         }
-        Schedule schedule = person.getSchedule();
-        List<Event> events = schedule.getEvents();
-        if (events.size() == 0) {
-            return true;
+        return isFree(person);
+    }
+
+    /**
+     * Returns true if {@code person} has no event at the time and date, whatever their tags.
+     */
+    public boolean isFree(Person person) {
+        return !person.getSchedule().isBusyAt(date, time);
+    }
+
+    /**
+     * Returns true if {@code person} has at least one of the tags, by looking up the smaller of the two sets of
+     * tags in the larger one.
+     */
+    private boolean hasAnyTag(Person person) {
+        Set<Tag> personTags = person.getTags();
+        Set<Tag> smaller = personTags.size() < tags.size() ? personTags : tags;
+        Set<Tag> larger = smaller == personTags ? tags : personTags;
+        for (Tag tag : smaller) {
+            if (larger.contains(tag)) {
+                return true;
+            }
         }
-        Stream<Event> eventsStream = events.stream();
-        return eventsStream.allMatch(event -> !event.willDateTimeCollideEvent(date, time));
+        return false;
     }
 
     @Override
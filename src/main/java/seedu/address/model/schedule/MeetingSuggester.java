@@ -0,0 +1,125 @@
+package seedu.address.model.schedule;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Finds the best times for a group of schedules to meet, which are the times at which the most of them are free.
+ *
+ * The number of schedules that are busy at some point of a meeting starting at each slot is counted once in a
+ * {@code BusyHistogram}, and the slots are then ranked in a single pass, keeping the best ones found so far in a
+ * priority queue that never holds more than the number of times asked for. Ranking therefore takes
+ * O(s log k) time for s slots and k times, however many schedules there are.
+ */
+public class MeetingSuggester {
+
+    /** Better meeting times have more attendees, and then start earlier. */
+    private static final Comparator<MeetingSlot> BEST_FIRST = Comparator
+            .comparingInt(MeetingSlot::getAttendance).reversed()
+            .thenComparing(MeetingSlot::getStart);
+
+    private MeetingSuggester() {}
+
+    /**
+     * Returns at most {@code maxSuggestions} of the best times from {@code startDate} to {@code endDate} (both
+     * inclusive) for a meeting of {@code duration} between {@code schedules}, best first.
+     * Meetings start at the start of a slot of {@code slotMinutes} minutes, end within the range, and only times
+     * at which at least {@code minimumAttendance} of the schedules are free for the whole meeting are suggested.
+     */
+    public static List<MeetingSlot> suggest(Collection<Schedule> schedules, LocalDate startDate, LocalDate endDate,
+            int slotMinutes, Duration duration, int minimumAttendance, int maxSuggestions) {
+        requireAllNonNull(schedules, startDate, endDate, duration);
+        checkArgument(!duration.isNegative() && !duration.isZero());
+        checkArgument(minimumAttendance > 0 && maxSuggestions > 0);
+
+        int windowSlots = Math.toIntExact((duration.toMinutes() + slotMinutes - 1) / slotMinutes);
+        BusyHistogram histogram = BusyHistogram.of(schedules, startDate, endDate, slotMinutes, windowSlots);
+
+        // the worst of the best meeting times found so far is at the head, to be replaced by any better time
+        PriorityQueue<MeetingSlot> best = new PriorityQueue<>(maxSuggestions, BEST_FIRST.reversed());
+        for (int day = 0; day < histogram.getDayCount(); day++) {
+            for (int slot = 0; slot < histogram.getSlotsPerDay(); slot++) {
+                if (!histogram.isWindowInRange(day, slot)) {
+                    break;
+                }
+                int attendance = histogram.getScheduleCount() - histogram.getBusyCount(day, slot);
+                // slots are visited in chronological order, so a later slot must have strictly more attendees
+                if (attendance < minimumAttendance
+                        || best.size() == maxSuggestions && attendance <= best.peek().getAttendance()) {
+                    continue;
+                }
+                if (best.size() == maxSuggestions) {
+                    best.poll();
+                }
+                LocalDateTime start = startDate.plusDays(day).atStartOfDay()
+                        .plusMinutes((long) slot * slotMinutes);
+                best.add(new MeetingSlot(start, start.plus(duration), attendance));
+            }
+        }
+
+        List<MeetingSlot> suggestions = new ArrayList<>(best);
+        suggestions.sort(BEST_FIRST);
+        return Collections.unmodifiableList(suggestions);
+    }
+
+    /**
+     * Represents a time for a meeting, and how many of the schedules are free for the whole of it.
+     */
+    public static class MeetingSlot {
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final int attendance;
+
+        /**
+         * Creates a meeting from {@code start} to {@code end} that {@code attendance} schedules are free for.
+         */
+        public MeetingSlot(LocalDateTime start, LocalDateTime end, int attendance) {
+            requireAllNonNull(start, end);
+            checkArgument(start.isBefore(end) && attendance >= 0);
+            this.start = start;
+            this.end = end;
+            this.attendance = attendance;
+        }
+
+        public LocalDateTime getStart() {
+            return start;
+        }
+
+        public LocalDateTime getEnd() {
+            return end;
+        }
+
+        public int getAttendance() {
+            return attendance;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof MeetingSlot // instanceof handles nulls
+                    && start.equals(((MeetingSlot) other).start)
+                    && end.equals(((MeetingSlot) other).end)
+                    && attendance == ((MeetingSlot) other).attendance); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * start.hashCode() + attendance;
+        }
+
+        @Override
+        public String toString() {
+            return start + "-" + end + " (" + attendance + ")";
+        }
+    }
+}
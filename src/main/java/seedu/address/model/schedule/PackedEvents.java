@@ -0,0 +1,173 @@
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.schedule.BusyIntervalIndex.MINUTES_PER_DAY;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list of {@code Event}s packed into primitive arrays.
+ * Each event is stored as its start in epoch minutes (see {@link BusyIntervalIndex#toEpochMinute}), its duration
+ * in minutes, its period in days and the id of its description, which is shared by every event with the same
+ * description. Events are kept to the minute, which is the precision of every event that can be entered.
+ *
+ * The packed fields are what occurrence and collision arithmetic works on; {@code Event}s are only created when
+ * they are asked for.
+ */
+public class PackedEvents {
+
+    private final long[] starts;
+    private final int[] durations;
+    private final byte[] periods;
+    private final int[] descriptionIds;
+    private final EventDescription[] descriptions;
+
+    /**
+     * Packs {@code events}, in order.
+     */
+    public PackedEvents(List<Event> events) {
+        requireNonNull(events);
+        int size = events.size();
+        starts = new long[size];
+        durations = new int[size];
+        periods = new byte[size];
+        descriptionIds = new int[size];
+
+        Map<String, Integer> idsByDescription = new HashMap<>();
+        List<EventDescription> distinctDescriptions = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Event event = events.get(i);
+            starts[i] = BusyIntervalIndex.toEpochMinute(event.getDate(), event.getTime());
+            durations[i] = (int) event.getDuration().toMinutes();
+            periods[i] = (byte) event.getRecurFrequency().getPeriodInDays();
+
+            EventDescription description = event.getEventDescription();
+            Integer id = idsByDescription.get(description.value);
+            if (id == null) {
+                id = distinctDescriptions.size();
+                idsByDescription.put(description.value, id);
+                distinctDescriptions.add(description);
+            }
+            descriptionIds[i] = id;
+        }
+        descriptions = distinctDescriptions.toArray(new EventDescription[0]);
+    }
+
+    /**
+     * Returns the number of events.
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    /**
+     * Returns the epoch minute at which the event at {@code index} starts.
+     */
+    public long getStart(int index) {
+        return starts[index];
+    }
+
+    /**
+     * Returns the duration in minutes of the event at {@code index}.
+     */
+    public int getDurationInMinutes(int index) {
+        return durations[index];
+    }
+
+    /**
+     * Returns the number of days between two occurrences of the event at {@code index}, or 0 if it does not recur.
+     */
+    public int getPeriodInDays(int index) {
+        return periods[index];
+    }
+
+    /**
+     * Returns the id of the description of the event at {@code index}.
+     * Events with the same description have the same id.
+     */
+    public int getDescriptionId(int index) {
+        return descriptionIds[index];
+    }
+
+    public EventDescription getEventDescription(int index) {
+        return descriptions[descriptionIds[index]];
+    }
+
+    public RecurFrequency getRecurFrequency(int index) {
+        return RecurFrequency.ofPeriodInDays(periods[index]);
+    }
+
+    /**
+     * Returns a new {@code Event} with the fields of the event at {@code index}.
+     */
+    public Event getEvent(int index) {
+        long start = starts[index];
+        return new Event(getEventDescription(index), LocalDate.ofEpochDay(Math.floorDiv(start, MINUTES_PER_DAY)),
+                LocalTime.ofSecondOfDay(Math.floorMod(start, MINUTES_PER_DAY) * 60L),
+                Duration.ofMinutes(durations[index]), getRecurFrequency(index));
+    }
+
+    /**
+     * Returns true if the event at {@code index} is equal to {@code event}, as in {@link Event#equals}.
+     * No {@code Event} is created.
+     */
+    public boolean isEqualEvent(int index, Event event) {
+        requireNonNull(event);
+        return isEqualEvent(starts[index], durations[index], periods[index], getEventDescription(index),
+                BusyIntervalIndex.toEpochMinute(event.getDate(), event.getTime()),
+                event.getDuration().toMinutes(), event.getRecurFrequency().getPeriodInDays(),
+                event.getEventDescription());
+    }
+
+    /**
+     * Returns true if the event at {@code index} is equal to the event at {@code otherIndex} in {@code other},
+     * as in {@link Event#equals}. No {@code Event} is created.
+     */
+    public boolean isEqualEvent(int index, PackedEvents other, int otherIndex) {
+        requireNonNull(other);
+        return isEqualEvent(starts[index], durations[index], periods[index], getEventDescription(index),
+                other.starts[otherIndex], other.durations[otherIndex], other.periods[otherIndex],
+                other.getEventDescription(otherIndex));
+    }
+
+    private static boolean isEqualEvent(long start, long duration, int period, EventDescription description,
+            long otherStart, long otherDuration, int otherPeriod, EventDescription otherDescription) {
+        // the cheap comparisons are made before the recurrence arithmetic
+        return Math.floorMod(start, MINUTES_PER_DAY) == Math.floorMod(otherStart, MINUTES_PER_DAY)
+                && duration == otherDuration
+                && period == otherPeriod
+                && description.equals(otherDescription)
+                && (Event.willDateCollide(otherStart, otherDuration, otherPeriod, Math.floorDiv(start, MINUTES_PER_DAY))
+                || Event.willDateCollide(start, duration, period, Math.floorDiv(otherStart, MINUTES_PER_DAY)));
+    }
+
+    /**
+     * Returns an unmodifiable view of the events, which creates each {@code Event} when it is read.
+     */
+    public List<Event> asList() {
+        return new EventList();
+    }
+
+    private class EventList extends AbstractList<Event> implements RandomAccess {
+        @Override
+        public Event get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return getEvent(index);
+        }
+
+        @Override
+        public int size() {
+            return starts.length;
+        }
+    }
+}
@@ -65,6 +65,38 @@ public enum RecurFrequency {
         return shortName;
     }
 
+    /**
+     * Returns the number of days between two consecutive occurrences, or 0 if the event does not recur.
+     */
+    public int getPeriodInDays() {
+        switch (this) {
+        case DAILY:
+            return 1;
+        case WEEKLY:
+            return 7;
+        case BIWEEKLY:
+            return 14;
+        default:
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the RecurFrequency whose occurrences are {@code periodInDays} days apart, or NONE if there is none.
+     */
+    public static RecurFrequency ofPeriodInDays(int periodInDays) {
+        switch (periodInDays) {
+        case 1:
+            return DAILY;
+        case 7:
+            return WEEKLY;
+        case 14:
+            return BIWEEKLY;
+        default:
+            return NONE;
+        }
+    }
+
     /**
      * Returns whether the provided String maps to a valid RecurFrequency value.
      */
@@ -1,13 +1,23 @@
 package seedu.address.model.schedule;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.schedule.BusyIntervalIndex.MINUTES_PER_DAY;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 
+/**
+ * Represents a Person's schedule of events.
+ * The events are stored as {@link PackedEvents}, and {@link #getEvents()} creates each {@code Event} when it is read.
+ * Guarantees: immutable.
+ */
 public class Schedule {
 
     public static final String MESSAGE_CONSTRAINTS =
@@ -15,14 +25,24 @@ public class Schedule {
                     + "time formats HH:MM and duration format in hours";
     public static final String MESSAGE_DUPLICATE_EVENT = "The event already exists in the schedule";
     public static final Schedule EMPTY_SCHEDULE = new Schedule(new ArrayList<>());
-    private final List<Event> events = new ArrayList<>();
+    public static final int MAX_CACHED_DATES = 31;
+    private final PackedEvents events;
+
+    /** Built on first use; a {@code Schedule} never changes, so the index never goes stale. */
+    private BusyIntervalIndex busyIntervalIndex;
+
+    /**
+     * The results of {@link #getScheduleAt} for the most recently used dates, least recently used first.
+     * Created on first use, as most schedules, such as those of a single date, are never asked for a date.
+     */
+    private Map<LocalDate, Schedule> schedulesByDate;
 
     /**
      * Every field must be present and not null.
      */
     public Schedule(List<Event> events) {
         requireAllNonNull(events);
-        this.events.addAll(events);
+        this.events = new PackedEvents(events);
     }
 
     /**
@@ -31,14 +51,41 @@ public class Schedule {
      * @return a List of Event objects in the Schedule
      */
     public List<Event> getEvents() {
-        return Collections.unmodifiableList(events);
+        return events.asList();
+    }
+
+    /**
+     * Returns the events in the Schedule in their packed form.
+     */
+    public PackedEvents getPackedEvents() {
+        return events;
     }
 
     /**
      * Returns whether the Schedule contains the given event.
      */
     public boolean hasEvent(Event event) {
-        return events.contains(event);
+        requireNonNull(event);
+        for (int i = 0; i < events.size(); i++) {
+            if (events.isEqualEvent(i, event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if any event in the Schedule is ongoing at {@code time} on {@code date}.
+     */
+    public boolean isBusyAt(LocalDate date, LocalTime time) {
+        return getBusyIntervalIndex().isBusyAt(date, time);
+    }
+
+    private BusyIntervalIndex getBusyIntervalIndex() {
+        if (busyIntervalIndex == null) {
+            busyIntervalIndex = new BusyIntervalIndex(events);
+        }
+        return busyIntervalIndex;
     }
 
     /**
@@ -46,24 +93,45 @@ public class Schedule {
      * The events in the schedule has been updated with the respective next recurring date.
      */
     public Schedule getUpcomingSchedule(int daysForward) {
-        LocalDate today = LocalDate.now();
-        LocalDate nextDaysForward = today.plusDays(daysForward);
-        List<Event> upcomingEvents = new ArrayList<>();
+        return getScheduleAt(LocalDate.now().plusDays(daysForward));
+    }
 
-        for (Event event : getEvents()) {
-            if (event.willDateCollide(nextDaysForward)) {
-                List<Event> eventsAtDate = event.getEventsAtDate(nextDaysForward);
-                for (Event e : eventsAtDate) {
-                    if (!event.getDuration().isZero()) {
-                        upcomingEvents.add(e);
-                    }
+    /**
+     * Returns a Schedule object containing the parts of the occurrences of events that happen on {@code date},
+     * in chronological order. An occurrence that spans midnight is cut at midnight.
+     */
+    public synchronized Schedule getScheduleAt(LocalDate date) {
+        requireNonNull(date);
+        if (schedulesByDate == null) {
+            schedulesByDate = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<LocalDate, Schedule> eldest) {
+                    return size() > MAX_CACHED_DATES;
                 }
-            }
+            };
         }
+        Schedule scheduleAtDate = schedulesByDate.get(date);
+        if (scheduleAtDate == null) {
+            scheduleAtDate = computeScheduleAt(date);
+            schedulesByDate.put(date, scheduleAtDate);
+        }
+        return scheduleAtDate;
+    }
 
-        Collections.sort(upcomingEvents);
-
-        return new Schedule(upcomingEvents);
+    private Schedule computeScheduleAt(LocalDate date) {
+        long dayStart = date.toEpochDay() * MINUTES_PER_DAY;
+        EventOccurrences occurrences = new EventOccurrences(dayStart, dayStart + MINUTES_PER_DAY);
+        occurrences.addSchedule(this);
+
+        List<Event> eventsAtDate = new ArrayList<>();
+        for (int i = 0; i < occurrences.size(); i++) {
+            long startMinute = occurrences.getStart(i) - dayStart;
+            Duration duration = Duration.ofMinutes(occurrences.getEnd(i) - occurrences.getStart(i));
+            eventsAtDate.add(new Event(occurrences.getEventDescription(i), date,
+                    LocalTime.MIDNIGHT.plusMinutes(startMinute), duration, occurrences.getRecurFrequency(i)));
+        }
+        Collections.sort(eventsAtDate);
+        return new Schedule(eventsAtDate);
     }
 
     /**
@@ -73,20 +141,20 @@ public class Schedule {
      * @return an Event object
      */
     public Event getEvent(int index) {
-        return events.get(index);
+        return events.getEvent(index);
     }
 
     /**
      * Returns true if the schedule is empty.
      */
     public boolean isEmpty() {
-        return getEvents().isEmpty();
+        return events.size() == 0;
     }
 
     public String getDailyScheduleFormat() {
         final StringBuilder builder = new StringBuilder();
 
-        for (Event event : events) {
+        for (Event event : getEvents()) {
             builder.append(String.format("%s\n", event.getDailyScheduleFormat()));
         }
 
@@ -106,14 +174,29 @@ public class Schedule {
             return false;
         }
 
-        Schedule otherSchedule = (Schedule) other;
-        return otherSchedule.getEvents().equals(getEvents());
+        // the packed events are compared directly, so that no Event is created
+        PackedEvents otherEvents = ((Schedule) other).events;
+        if (otherEvents.size() != events.size()) {
+            return false;
+        }
+        for (int i = 0; i < events.size(); i++) {
+            if (!events.isEqualEvent(i, otherEvents, i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(events);
+        // equal events may have different dates, so only the time of day, duration and period are hashed
+        int hash = 1;
+        for (int i = 0; i < events.size(); i++) {
+            hash = 31 * hash + Math.floorMod(events.getStart(i), MINUTES_PER_DAY);
+            hash = 31 * hash + events.getDurationInMinutes(i);
+            hash = 31 * hash + events.getPeriodInDays(i);
+        }
+        return hash;
     }
 
     @Override
@@ -121,7 +204,7 @@ public class Schedule {
         final StringBuilder builder = new StringBuilder();
 
         int counter = 1;
-        for (Event event : events) {
+        for (Event event : getEvents()) {
             builder.append(String.format("%s. %s\n", counter, event));
             counter += 1;
         }
@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a single background thread, so that the caller does not
+ * wait for the disk.
+ * Each save takes a snapshot of the persons list, which is cheap as persons are immutable. Saves requested while an
+ * earlier snapshot is being written are coalesced, so that only the latest snapshot is written next.
+ */
+public class BackgroundAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookSaver.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Consumer<IOException> failureHandler = ioe -> { };
+
+    private final Object lock = new Object();
+    // the address book and version of the latest save requested, used to skip saves of unmodified address books
+    private ReadOnlyAddressBook requestedAddressBook;
+    private long requestedVersion;
+    // the latest snapshot that has not been picked up by the writer yet, or null if there is none
+    private ReadOnlyAddressBook pendingSnapshot;
+    private boolean isWriterScheduled;
+
+    public BackgroundAddressBookSaver(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+    }
+
+    /**
+     * Sets the handler that is called, on the background thread, when a save fails.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Saves the current contents of {@code addressBook} in the background.
+     * Nothing is saved if {@code addressBook} has not been modified since the previous save.
+     */
+    public void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        long version = addressBook.getVersion();
+        synchronized (lock) {
+            if (addressBook == requestedAddressBook && version == requestedVersion) {
+                return;
+            }
+            requestedAddressBook = addressBook;
+            requestedVersion = version;
+            pendingSnapshot = new Snapshot(addressBook.getPersonList(), version);
+            if (isWriterScheduled) {
+                return;
+            }
+            isWriterScheduled = true;
+        }
+        executor.execute(this::writePendingSnapshots);
+    }
+
+    /**
+     * Waits until every save requested so far has been written, or has failed.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            logger.warning("Error waiting for saves to finish: " + ee.getCause());
+        }
+    }
+
+    private void writePendingSnapshots() {
+        while (true) {
+            ReadOnlyAddressBook snapshot;
+            synchronized (lock) {
+                snapshot = pendingSnapshot;
+                pendingSnapshot = null;
+                if (snapshot == null) {
+                    isWriterScheduled = false;
+                    return;
+                }
+            }
+
+            try {
+                addressBookStorage.saveAddressBook(snapshot);
+            } catch (IOException ioe) {
+                logger.warning("Error saving address book in the background: " + ioe);
+                synchronized (lock) {
+                    // the next save has to be written even if the address book is not modified again
+                    requestedAddressBook = null;
+                }
+                failureHandler.accept(ioe);
+            }
+        }
+    }
+
+    /**
+     * An unmodifiable copy of the persons list of an address book at some version.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final List<Person> persons;
+        private final long version;
+
+        Snapshot(List<Person> persons, long version) {
+            this.persons = Collections.unmodifiableList(new ArrayList<>(persons));
+            this.version = version;
+        }
+
+        @Override
+        public List<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+}
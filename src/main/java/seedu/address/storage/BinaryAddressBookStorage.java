@@ -0,0 +1,537 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.GitHub;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Tag;
+import seedu.address.model.person.Telegram;
+import seedu.address.model.person.UniquePersonList.Identity;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.schedule.Event;
+import seedu.address.model.schedule.EventDescription;
+import seedu.address.model.schedule.PackedEvents;
+import seedu.address.model.schedule.RecurFrequency;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk.
+ *
+ * A snapshot starts with {@link #MAGIC}, {@link #FORMAT_VERSION}, the size of its index and the {@code FileStamp} of
+ * the file it was taken from, if any. The index is made up of this header, a table of every distinct string in the
+ * address book and the persons. The index is followed by a CRC32 checksum of it, and then by the events of every
+ * person. Each person refers to its strings by their index in the table, and to its events by their offset in the
+ * events section and a CRC32 checksum of them. Each event is stored as an epoch day, a minute of the day, a duration
+ * in minutes and a recurrence ordinal, so that nothing has to be parsed when it is read.
+ *
+ * The snapshot is memory-mapped when it is read, and the persons refer to the mapped file for their schedules, which
+ * are only checked and decoded when they are first needed. Schedules that are never viewed or searched are never
+ * loaded, so reading a snapshot only touches its index. A schedule found to be corrupted when it is loaded is logged
+ * and recovered by the {@code scheduleRecovery} given when the snapshot was read, which reads it from wherever the
+ * snapshot was taken from. It is never replaced by an empty schedule, which would be saved in place of the events.
+ *
+ * The mapping lasts until the address book read is garbage collected, and a mapped file cannot be replaced on some
+ * platforms, so a snapshot that has been read should not be saved over. See {@code BinarySnapshotAddressBookStorage}.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int MAGIC = 0x55474442; // "UGDB"
+    public static final int FORMAT_VERSION = 4;
+    public static final String MESSAGE_NOT_SNAPSHOT = "File is not a binary snapshot of an address book";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary snapshot format version %1$d is not supported";
+    public static final String MESSAGE_CORRUPTED = "Binary snapshot is corrupted";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+    // magic, version, size of the index, and the size and last modified time of the file the snapshot was taken from
+    private static final int HEADER_SIZE = 3 * Integer.BYTES + 2 * Long.BYTES;
+    private static final int CHECKSUM_SIZE = Long.BYTES;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    // six strings, the number of tags, and the number, offset and checksum of the events
+    private static final int PERSON_MINIMUM_SIZE = 10 * Integer.BYTES;
+    // description, epoch day, minute of the day, duration and recurrence
+    private static final int EVENT_SIZE = 3 * Integer.BYTES + Short.BYTES + Byte.BYTES;
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A schedule found to be corrupted when it is loaded cannot be recovered, and {@code Person#getSchedule()}
+     * throws {@code IllegalStateException} instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not a valid snapshot.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        return readAddressBook(filePath, BinaryAddressBookStorage::failScheduleRecovery);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @param scheduleRecovery returns the schedule of the person with the given identity, for a person whose schedule
+     *     in the snapshot is found to be corrupted when it is loaded. Cannot be null.
+     * @throws DataConversionException if the file is not a valid snapshot.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, Function<Identity, Schedule> scheduleRecovery)
+            throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(scheduleRecovery);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary snapshot " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_CORRUPTED));
+            }
+            // the mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary snapshot " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+
+        try {
+            return Optional.of(decode(buffer, scheduleRecovery));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        saveAddressBook(addressBook, filePath, FileStamp.NONE);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The snapshot records {@code sourceStamp}, the stamp of the file that {@code addressBook} was saved to, which
+     * {@link #readSourceStamp(Path)} returns.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, FileStamp sourceStamp)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        requireNonNull(sourceStamp);
+
+        FileUtil.createIfMissing(filePath);
+        Path tempFilePath = FileUtil.getTempFilePath(filePath);
+        FileUtil.writeToFileDurably(tempFilePath, encode(addressBook, sourceStamp));
+        FileUtil.moveAtomically(tempFilePath, filePath);
+    }
+
+    /**
+     * Returns the stamp of the file that the snapshot at {@code filePath} was taken from, or {@code FileStamp.NONE}
+     * if it was not taken from a file or is not a snapshot. Only the header of the snapshot is read.
+     */
+    public static FileStamp readSourceStamp(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            int bytesRead = 0;
+            while (header.hasRemaining() && bytesRead >= 0) {
+                bytesRead = channel.read(header);
+            }
+        }
+        if (header.hasRemaining() || header.getInt(0) != MAGIC || header.getInt(Integer.BYTES) != FORMAT_VERSION) {
+            return FileStamp.NONE;
+        }
+        return new FileStamp(header.getLong(3 * Integer.BYTES), header.getLong(3 * Integer.BYTES + Long.BYTES));
+    }
+
+    /**
+     * Returns the snapshot of {@code addressBook}, which was not taken from a file.
+     */
+    static byte[] encode(ReadOnlyAddressBook addressBook) throws IOException {
+        return encode(addressBook, FileStamp.NONE);
+    }
+
+    /**
+     * Returns the snapshot of {@code addressBook}, taken from the file with the stamp {@code sourceStamp}.
+     */
+    static byte[] encode(ReadOnlyAddressBook addressBook, FileStamp sourceStamp) throws IOException {
+        // the persons are written first, as the string table is only complete once every string has been seen
+        StringTable strings = new StringTable();
+        ByteArrayOutputStream personBytes = new ByteArrayOutputStream();
+        DataOutputStream persons = new DataOutputStream(personBytes);
+        ByteArrayOutputStream eventBytes = new ByteArrayOutputStream();
+        // checksums the events of each person as they are written, so the events written before are never read again
+        CRC32 eventChecksum = new CRC32();
+        DataOutputStream events = new DataOutputStream(new CheckedOutputStream(eventBytes, eventChecksum));
+        persons.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            persons.writeInt(strings.indexOf(person.getName().value));
+            persons.writeInt(strings.indexOf(person.getPhone().value));
+            persons.writeInt(strings.indexOf(person.getTelegram().value));
+            persons.writeInt(strings.indexOf(person.getGithub().value));
+            persons.writeInt(strings.indexOf(person.getEmail().value));
+            persons.writeInt(strings.indexOf(person.getAddress().value));
+
+            persons.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                persons.writeInt(strings.indexOf(tag.tagName));
+            }
+
+            PackedEvents personEvents = person.getSchedule().getPackedEvents();
+            int eventOffset = events.size();
+            eventChecksum.reset();
+            for (int i = 0; i < personEvents.size(); i++) {
+                long start = personEvents.getStart(i);
+                events.writeInt(strings.indexOf(personEvents.getEventDescription(i).value));
+                events.writeInt((int) Math.floorDiv(start, MINUTES_PER_DAY));
+                events.writeShort(Math.floorMod(start, MINUTES_PER_DAY));
+                events.writeInt(personEvents.getDurationInMinutes(i));
+                events.writeByte(personEvents.getRecurFrequency(i).ordinal());
+            }
+            events.flush();
+            persons.writeInt(personEvents.size());
+            persons.writeInt(eventOffset);
+            persons.writeInt((int) eventChecksum.getValue());
+        }
+        persons.flush();
+
+        int indexSize = HEADER_SIZE + strings.getByteSize() + personBytes.size();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(indexSize + CHECKSUM_SIZE + eventBytes.size());
+        DataOutputStream snapshot = new DataOutputStream(bytes);
+        snapshot.writeInt(MAGIC);
+        snapshot.writeInt(FORMAT_VERSION);
+        snapshot.writeInt(indexSize);
+        snapshot.writeLong(sourceStamp.getSize());
+        snapshot.writeLong(sourceStamp.getLastModifiedNanos());
+        strings.writeTo(snapshot);
+        personBytes.writeTo(snapshot);
+        snapshot.flush();
+
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes.toByteArray(), 0, indexSize);
+        snapshot.writeLong(checksum.getValue());
+        eventBytes.writeTo(snapshot);
+        snapshot.flush();
+        return bytes.toByteArray();
+    }
+
+    private static Schedule failScheduleRecovery(Identity identity) {
+        throw new IllegalStateException(MESSAGE_CORRUPTED);
+    }
+
+    /**
+     * Returns the address book in the snapshot in {@code buffer}, whose corrupted schedules cannot be recovered.
+     *
+     * @see #decode(ByteBuffer, Function)
+     */
+    static AddressBook decode(ByteBuffer buffer) throws IllegalValueException {
+        return decode(buffer, BinaryAddressBookStorage::failScheduleRecovery);
+    }
+
+    /**
+     * Returns the address book in the snapshot in {@code buffer}.
+     * Only the index of the snapshot is checked and read. The schedules of the persons are checked and decoded from
+     * {@code buffer} when they are first needed, so {@code buffer} must not be modified afterwards. A schedule that
+     * is corrupted is loaded from {@code scheduleRecovery} instead.
+     *
+     * @throws IllegalValueException if {@code buffer} does not hold a valid snapshot.
+     */
+    static AddressBook decode(ByteBuffer buffer, Function<Identity, Schedule> scheduleRecovery)
+            throws IllegalValueException {
+        if (buffer.remaining() < HEADER_SIZE + CHECKSUM_SIZE || buffer.getInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_SNAPSHOT);
+        }
+        int version = buffer.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        int indexSize = buffer.getInt();
+        if (indexSize < HEADER_SIZE || indexSize > buffer.limit() - CHECKSUM_SIZE) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+
+        ByteBuffer index = buffer.duplicate();
+        index.position(0).limit(indexSize);
+        CRC32 checksum = new CRC32();
+        checksum.update(index);
+        if (checksum.getValue() != buffer.getLong(indexSize)) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        index.position(HEADER_SIZE);
+        ByteBuffer events = buffer.duplicate();
+        events.position(indexSize + CHECKSUM_SIZE);
+
+        try {
+            return new SnapshotReader(index, events.slice(), scheduleRecovery).readAddressBook();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                | DateTimeException e) {
+            // the checksum matched, so the snapshot was written wrongly rather than damaged afterwards
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    /**
+     * Assigns each distinct string an index, in the order that they are first seen.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indices = new HashMap<>();
+        private final List<byte[]> encodedStrings = new ArrayList<>();
+        private int byteSize;
+
+        int indexOf(String string) {
+            Integer index = indices.get(string);
+            if (index == null) {
+                index = encodedStrings.size();
+                indices.put(string, index);
+                byte[] encodedString = string.getBytes(StandardCharsets.UTF_8);
+                encodedStrings.add(encodedString);
+                byteSize += Integer.BYTES + encodedString.length;
+            }
+            return index;
+        }
+
+        /**
+         * Returns the number of bytes written by {@link #writeTo(DataOutputStream)}.
+         */
+        int getByteSize() {
+            return Integer.BYTES + byteSize;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(encodedStrings.size());
+            for (byte[] encodedString : encodedStrings) {
+                out.writeInt(encodedString.length);
+                out.write(encodedString);
+            }
+        }
+    }
+
+    /**
+     * Reads the string table and the persons of a snapshot, and creates the loaders of their schedules.
+     * Each distinct tag and event description is only validated and created once.
+     */
+    private static class SnapshotReader {
+        private final ByteBuffer buffer;
+        private final ByteBuffer eventBuffer;
+        private final Function<Identity, Schedule> scheduleRecovery;
+        private final LocalDate today = LocalDate.now();
+        private String[] strings;
+        private Tag[] tags;
+        private EventDescription[] eventDescriptions;
+        // the offsets and counts of the events of each person in the events section
+        private int[] eventOffsets;
+        private int[] eventCounts;
+
+        /**
+         * Creates a reader of the index in {@code buffer}, whose persons have their events in {@code eventBuffer}.
+         * The schedules that are corrupted are loaded from {@code scheduleRecovery} instead.
+         */
+        SnapshotReader(ByteBuffer buffer, ByteBuffer eventBuffer, Function<Identity, Schedule> scheduleRecovery) {
+            this.buffer = buffer;
+            this.eventBuffer = eventBuffer;
+            this.scheduleRecovery = scheduleRecovery;
+        }
+
+        AddressBook readAddressBook() throws IllegalValueException {
+            int stringCount = buffer.getInt();
+            checkCount(stringCount, Integer.BYTES);
+            strings = new String[stringCount];
+            for (int i = 0; i < stringCount; i++) {
+                int length = buffer.getInt();
+                checkCount(length, 1);
+                byte[] encodedString = new byte[length];
+                buffer.get(encodedString);
+                strings[i] = new String(encodedString, StandardCharsets.UTF_8);
+            }
+            tags = new Tag[stringCount];
+            eventDescriptions = new EventDescription[stringCount];
+
+            int personCount = buffer.getInt();
+            checkCount(personCount, PERSON_MINIMUM_SIZE);
+            eventOffsets = new int[personCount];
+            eventCounts = new int[personCount];
+            AddressBook addressBook = new AddressBook();
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                persons.add(readPerson(i));
+            }
+
+            if (buffer.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            for (int i = 0; i < personCount; i++) {
+                if ((long) eventOffsets[i] + (long) eventCounts[i] * EVENT_SIZE > eventBuffer.limit()) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED);
+                }
+            }
+            try {
+                addressBook.setPersons(persons);
+            } catch (DuplicatePersonException dpe) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            return addressBook;
+        }
+
+        private Person readPerson(int index) {
+            Name name = new Name(readString());
+            Phone phone = new Phone(readString());
+            String telegram = readString();
+            String github = readString();
+            String email = readString();
+            String address = readString();
+
+            int tagCount = buffer.getInt();
+            checkCount(tagCount, Integer.BYTES);
+            Set<Tag> personTags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                personTags.add(readTag());
+            }
+
+            int eventCount = buffer.getInt();
+            int eventOffset = buffer.getInt();
+            int eventChecksum = buffer.getInt();
+            if (eventCount < 0 || eventOffset < 0) {
+                throw new IllegalArgumentException(MESSAGE_CORRUPTED);
+            }
+            eventCounts[index] = eventCount;
+            eventOffsets[index] = eventOffset;
+
+            return new Person(name, phone,
+                    telegram.isEmpty() ? Telegram.EMPTY_TELEGRAM : new Telegram(telegram),
+                    github.isEmpty() ? GitHub.EMPTY_GITHUB : new GitHub(github),
+                    email.isEmpty() ? Email.EMPTY_EMAIL : new Email(email),
+                    address.isEmpty() ? Address.EMPTY_ADDRESS : new Address(address),
+                    () -> readSchedule(new Identity(name, phone), eventOffset, eventCount, eventChecksum), personTags);
+        }
+
+        /**
+         * Checks and decodes the {@code count} events at {@code offset} in the events section, or recovers the
+         * schedule of the person with {@code identity} if they do not match {@code checksum} or are invalid.
+         * The events section is never moved through, so that schedules can be loaded by any thread.
+         */
+        private Schedule readSchedule(Identity identity, int offset, int count, int checksum) {
+            ByteBuffer eventBytes = eventBuffer.duplicate();
+            eventBytes.position(offset).limit(offset + count * EVENT_SIZE);
+            CRC32 eventChecksum = new CRC32();
+            eventChecksum.update(eventBytes);
+            if ((int) eventChecksum.getValue() != checksum) {
+                logger.warning("Schedule of " + identity + " in binary snapshot is corrupted, recovering it");
+                return scheduleRecovery.apply(identity);
+            }
+
+            List<Event> events = new ArrayList<>(count);
+            try {
+                for (int i = 0; i < count; i++) {
+                    events.add(readEvent(offset + i * EVENT_SIZE));
+                }
+            } catch (IndexOutOfBoundsException | IllegalArgumentException | DateTimeException e) {
+                logger.warning("Schedule of " + identity + " in binary snapshot is invalid, recovering it: " + e);
+                return scheduleRecovery.apply(identity);
+            }
+            return new Schedule(events);
+        }
+
+        private Event readEvent(int position) {
+            int descriptionIndex = eventBuffer.getInt(position);
+            EventDescription description = eventDescriptions[descriptionIndex];
+            if (description == null) {
+                // descriptions are immutable, so a description created twice by two threads is harmless
+                description = new EventDescription(strings[descriptionIndex]);
+                eventDescriptions[descriptionIndex] = description;
+            }
+            LocalDate date = LocalDate.ofEpochDay(eventBuffer.getInt(position + Integer.BYTES));
+            int minuteOfDay = eventBuffer.getShort(position + 2 * Integer.BYTES);
+            if (minuteOfDay < 0 || minuteOfDay >= MINUTES_PER_DAY) {
+                throw new IllegalArgumentException(MESSAGE_CORRUPTED);
+            }
+            Duration duration = Duration.ofMinutes(eventBuffer.getInt(position + 2 * Integer.BYTES + Short.BYTES));
+            RecurFrequency recurFrequency = RecurFrequency.values()[eventBuffer.get(position + EVENT_SIZE - 1)];
+
+            Event event = new Event(description, date,
+                    LocalTime.ofSecondOfDay(minuteOfDay * 60L), duration, recurFrequency);
+            return event.getNextRecurringEvent(today);
+        }
+
+        private Tag readTag() {
+            int index = buffer.getInt();
+            if (tags[index] == null) {
+                tags[index] = new Tag(strings[index]);
+            }
+            return tags[index];
+        }
+
+        private String readString() {
+            return strings[buffer.getInt()];
+        }
+
+        /**
+         * Checks that {@code count} items of at least {@code minimumItemSize} bytes each could fit in the rest of
+         * the buffer, so that a corrupted count does not cause a huge allocation.
+         */
+        private void checkCount(int count, int minimumItemSize) {
+            if (count < 0 || (long) count * minimumItemSize > buffer.remaining()) {
+                throw new IllegalArgumentException(MESSAGE_CORRUPTED);
+            }
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.UniquePersonList.Identity;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * A class to access AddressBook data that is kept in another {@code AddressBookStorage}, such as the human-editable
+ * json file, together with a {@link BinaryAddressBookStorage} snapshot of the same data next to it.
+ * Every save writes both, and reads use the snapshot, which is much faster to read, as long as the data file is still
+ * the one it was taken from: the snapshot records the size and last modified time of the data file, and is only read
+ * if they have not changed. A data file that has been edited by hand is therefore still read.
+ *
+ * The data must be kept in the data file alone, as with {@code JsonAddressBookStorage}, as changes kept anywhere else,
+ * such as in the journal of a {@code JournaledAddressBookStorage}, would not be seen to make the snapshot stale.
+ *
+ * A snapshot that has been read stays memory-mapped, and a mapped file cannot be replaced on some platforms, so every
+ * save writes a new generation of the snapshot instead of replacing the last one, and then deletes the older
+ * generations that are no longer mapped.
+ *
+ * A schedule in the snapshot that is found to be corrupted is read from the data file instead, so that the events
+ * in the data file are never overwritten by a damaged snapshot.
+ */
+public class BinarySnapshotAddressBookStorage implements AddressBookStorage {
+
+    public static final String SNAPSHOT_FILE_SUFFIX = ".bin";
+    public static final String MESSAGE_JOURNAL_NOT_SUPPORTED =
+            "A binary snapshot cannot be kept of an address book with a journal";
+    public static final String MESSAGE_SCHEDULE_NOT_RECOVERED =
+            "Schedule of %1$s is corrupted in the binary snapshot and could not be read from %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(BinarySnapshotAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final BinaryAddressBookStorage snapshotStorage;
+
+    /**
+     * Creates a storage that keeps a snapshot of the data in {@code addressBookStorage}.
+     */
+    public BinarySnapshotAddressBookStorage(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        if (addressBookStorage instanceof JournaledAddressBookStorage) {
+            throw new IllegalArgumentException(MESSAGE_JOURNAL_NOT_SUPPORTED);
+        }
+        this.addressBookStorage = addressBookStorage;
+        this.snapshotStorage =
+                new BinaryAddressBookStorage(getSnapshotFilePath(addressBookStorage.getAddressBookFilePath(), 0));
+    }
+
+    /**
+     * Returns the location of generation {@code generation} of the snapshot of the data file at {@code filePath}.
+     */
+    public static Path getSnapshotFilePath(Path filePath, long generation) {
+        return filePath.resolveSibling(filePath.getFileName() + "." + generation + SNAPSHOT_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the location of the latest generation of the snapshot of the data file at {@code filePath}, if any.
+     */
+    public static Optional<Path> getLatestSnapshotFilePath(Path filePath) throws IOException {
+        List<Long> generations = getSnapshotGenerations(filePath);
+        if (generations.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(getSnapshotFilePath(filePath, generations.get(generations.size() - 1)));
+    }
+
+    /**
+     * Returns the generations of the snapshots of the data file at {@code filePath}, in increasing order.
+     */
+    private static List<Long> getSnapshotGenerations(Path filePath) throws IOException {
+        Path directory = filePath.toAbsolutePath().getParent();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return List.of();
+        }
+        Pattern snapshotFileName = Pattern.compile(Pattern.quote(filePath.getFileName().toString())
+                + "\\.(\\d{1,18})" + Pattern.quote(SNAPSHOT_FILE_SUFFIX));
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> snapshotFileName.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Long.valueOf(matcher.group(1)))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The data file is read instead of the snapshot if the snapshot is missing, was not taken from the data file as
+     * it is now, or is invalid.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<Path> snapshotFilePath = getLatestSnapshotFilePath(filePath);
+        if (snapshotFilePath.isPresent() && isUpToDate(snapshotFilePath.get(), filePath)) {
+            try {
+                return snapshotStorage.readAddressBook(snapshotFilePath.get(), new ScheduleRecovery(filePath));
+            } catch (DataConversionException dce) {
+                logger.warning("Ignoring invalid snapshot " + snapshotFilePath.get() + ": " + dce.getMessage());
+            }
+        }
+        return addressBookStorage.readAddressBook(filePath);
+    }
+
+    private static boolean isUpToDate(Path snapshotFilePath, Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        return BinaryAddressBookStorage.readSourceStamp(snapshotFilePath).equals(FileStamp.of(filePath));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The snapshot is written after the data file, and records the stamp of the data file that it was taken from.
+     * It is written as a new generation, and the older generations are then deleted where they can be.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        addressBookStorage.saveAddressBook(addressBook, filePath);
+        List<Long> olderGenerations = getSnapshotGenerations(filePath);
+        long generation = olderGenerations.isEmpty() ? 0 : olderGenerations.get(olderGenerations.size() - 1) + 1;
+        snapshotStorage.saveAddressBook(addressBook, getSnapshotFilePath(filePath, generation), FileStamp.of(filePath));
+
+        for (long olderGeneration : olderGenerations) {
+            Path olderSnapshotFilePath = getSnapshotFilePath(filePath, olderGeneration);
+            try {
+                Files.deleteIfExists(olderSnapshotFilePath);
+            } catch (IOException ioe) {
+                // it may still be mapped, and is deleted by a later save instead
+                logger.fine("Could not delete old snapshot " + olderSnapshotFilePath + ": " + ioe);
+            }
+        }
+    }
+
+    /**
+     * Reads the schedules of the persons in the data file at {@code filePath}, for the persons whose schedules in a
+     * snapshot taken from it are corrupted. The data file is read at most once.
+     */
+    private class ScheduleRecovery implements Function<Identity, Schedule> {
+        private final Path filePath;
+        private Map<Identity, Schedule> schedulesByIdentity;
+
+        ScheduleRecovery(Path filePath) {
+            this.filePath = filePath;
+        }
+
+        /**
+         * Returns the schedule of the person with {@code identity} in the data file.
+         *
+         * @throws IllegalStateException if the data file cannot be read or has no such person, as the schedule
+         *     would otherwise be lost.
+         */
+        @Override
+        public synchronized Schedule apply(Identity identity) {
+            if (schedulesByIdentity == null) {
+                schedulesByIdentity = readSchedules();
+            }
+            Schedule schedule = schedulesByIdentity.get(identity);
+            if (schedule == null) {
+                throw new IllegalStateException(String.format(MESSAGE_SCHEDULE_NOT_RECOVERED, identity, filePath));
+            }
+            return schedule;
+        }
+
+        private Map<Identity, Schedule> readSchedules() {
+            Optional<ReadOnlyAddressBook> addressBook;
+            try {
+                addressBook = addressBookStorage.readAddressBook(filePath);
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Could not read " + filePath + " to recover a schedule: " + e);
+                return Map.of();
+            }
+            Map<Identity, Schedule> schedules = new HashMap<>();
+            addressBook.ifPresent(book ->
+                    book.getPersonList().forEach(person -> schedules.put(new Identity(person), person.getSchedule())));
+            return schedules;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The size and last modified time of a file, which tell whether the file has been written since the stamp was taken.
+ * Guarantees: immutable.
+ */
+public class FileStamp {
+
+    /** The stamp of no file, which is never equal to the stamp of a file. */
+    public static final FileStamp NONE = new FileStamp(-1, -1);
+
+    private final long size;
+    private final long lastModifiedNanos;
+
+    /**
+     * Creates the stamp of a file of {@code size} bytes, last modified at {@code lastModifiedNanos} nanoseconds from
+     * the epoch.
+     */
+    public FileStamp(long size, long lastModifiedNanos) {
+        this.size = size;
+        this.lastModifiedNanos = lastModifiedNanos;
+    }
+
+    /**
+     * Returns the stamp of the file at {@code filePath}.
+     */
+    public static FileStamp of(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return new FileStamp(Files.size(filePath), Files.getLastModifiedTime(filePath).to(TimeUnit.NANOSECONDS));
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getLastModifiedNanos() {
+        return lastModifiedNanos;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FileStamp // instanceof handles nulls
+                && size == ((FileStamp) other).size
+                && lastModifiedNanos == ((FileStamp) other).lastModifiedNanos); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(size, lastModifiedNanos);
+    }
+
+    @Override
+    public String toString() {
+        return size + " bytes, last modified at " + lastModifiedNanos + "ns";
+    }
+}
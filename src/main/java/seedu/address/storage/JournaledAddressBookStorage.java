@@ -0,0 +1,401 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot on the hard disk, together with a journal of the
+ * changes made since the snapshot was written.
+ *
+ * Each save appends only the persons added and removed since the previous save to the journal, as a single line,
+ * and a save that changes nothing does not touch the disk at all. Once the journal grows too long, it is folded
+ * back into the snapshot in the background. The snapshot is an ordinary data file, so it can still be read by
+ * {@link JsonAddressBookStorage}, though without the changes that are only in the journal.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+    private static final byte LINE_SEPARATOR = '\n';
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final ExecutorService compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // the persons as of the last read or save, or null if the whole snapshot has to be written on the next save
+    private List<Person> savedPersons;
+    private Future<?> compaction = CompletableFuture.completedFuture(null);
+
+    // the state of the files on the disk, which is shared with the compaction in progress
+    private final Object fileLock = new Object();
+    private long snapshotChecksum;
+    private long snapshotSize;
+    private boolean isJournalStarted;
+    private int journalRecordCount;
+    private long journalSize;
+    // the records appended while a compaction is in progress, or null if there is no compaction in progress
+    private List<String> recordsDuringCompaction;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage that compacts the journal once it has {@code compactionThreshold} records.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        checkArgument(compactionThreshold > 0);
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the journal of the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal is only replayed if it was written for the snapshot currently at {@code filePath}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        awaitCompaction();
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        AddressBook addressBook = new AddressBook();
+        Optional<Path> journal;
+        int recordCount = 0;
+        try {
+            long checksum = checksumOf(filePath);
+            journal = findJournal(filePath, checksum);
+            if (journal.isPresent()) {
+                recordCount = replayJournal(journal.get(), persons);
+            }
+            addressBook.setPersons(persons);
+
+            if (filePath.equals(this.filePath)) {
+                synchronized (fileLock) {
+                    snapshotChecksum = checksum;
+                    snapshotSize = Files.size(filePath);
+                    isJournalStarted = journal.isPresent();
+                    journalRecordCount = recordCount;
+                    journalSize = journal.isPresent() ? Files.size(journal.get()) : 0;
+                }
+                savedPersons = persons;
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal of " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in journal of " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Illegal values found in journal of " + filePath + ": " + dpe.getMessage());
+            throw new DataConversionException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns the journal written for the snapshot with {@code snapshotChecksum} at {@code filePath}, if any.
+     * If a compaction was interrupted after its snapshot was moved into place, the new journal is moved into place
+     * too.
+     */
+    private static Optional<Path> findJournal(Path filePath, long snapshotChecksum) throws IOException {
+        Path journal = getJournalFilePath(filePath);
+        Path tempJournal = FileUtil.getTempFilePath(journal);
+        if (isJournalOf(tempJournal, snapshotChecksum)) {
+            logger.info("Completing interrupted compaction of " + journal);
+            FileUtil.moveAtomically(tempJournal, journal);
+            return Optional.of(journal);
+        }
+        if (isJournalOf(journal, snapshotChecksum)) {
+            return Optional.of(journal);
+        }
+        if (Files.exists(journal)) {
+            logger.warning("Ignoring journal " + journal + " as it was not written for the current snapshot");
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isJournalOf(Path journal, long snapshotChecksum) throws IOException {
+        if (!FileUtil.isFileExists(journal)) {
+            return false;
+        }
+        String header;
+        try (BufferedReader reader = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+            header = reader.readLine();
+        }
+        if (header == null) {
+            return false;
+        }
+        try {
+            return JsonUtil.fromJsonString(header, JsonAdaptedJournalHeader.class).getSnapshotChecksum()
+                    == snapshotChecksum;
+        } catch (IOException ioe) {
+            return false;
+        }
+    }
+
+    /**
+     * Applies the records in {@code journal} to {@code persons} and returns the number of records applied.
+     * A record without a line separator was cut off by an interrupted save, so it is discarded.
+     */
+    private static int replayJournal(Path journal, List<Person> persons) throws IOException, IllegalValueException {
+        byte[] bytes = Files.readAllBytes(journal);
+        int recordCount = 0;
+        // the first line is the header
+        int lineStart = indexOfLineSeparator(bytes, 0) + 1;
+        while (lineStart < bytes.length) {
+            int lineEnd = indexOfLineSeparator(bytes, lineStart);
+            if (lineEnd == bytes.length) {
+                logger.warning("Discarding incomplete record at the end of " + journal);
+                try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+                    channel.truncate(lineStart);
+                }
+                break;
+            }
+            String record = new String(bytes, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+            JsonUtil.fromJsonString(record, JsonAdaptedJournalRecord.class).applyTo(persons);
+            recordCount++;
+            lineStart = lineEnd + 1;
+        }
+        return recordCount;
+    }
+
+    private static int indexOfLineSeparator(byte[] bytes, int from) {
+        int index = from;
+        while (index < bytes.length && bytes[index] != LINE_SEPARATOR) {
+            index++;
+        }
+        return index;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a location other than {@link #getAddressBookFilePath()} always writes the whole address book.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        Optional<JsonAdaptedJournalRecord> record = savedPersons == null
+                ? Optional.empty()
+                : JsonAdaptedJournalRecord.of(savedPersons, persons);
+        if (!record.isPresent()) {
+            awaitCompaction();
+            compact(persons);
+            savedPersons = persons;
+            return;
+        }
+        if (record.get().isEmpty()) {
+            return;
+        }
+
+        appendRecord(JsonUtil.toCompactJsonString(record.get()));
+        savedPersons = persons;
+        if (shouldCompact()) {
+            startCompaction(persons);
+        }
+    }
+
+    private void appendRecord(String record) throws IOException {
+        Path journal = getJournalFilePath(filePath);
+        byte[] bytes = toLine(record);
+        synchronized (fileLock) {
+            if (!isJournalStarted) {
+                byte[] header = toLine(JsonUtil.toCompactJsonString(new JsonAdaptedJournalHeader(snapshotChecksum)));
+                FileUtil.writeToFileDurably(journal, header);
+                isJournalStarted = true;
+                journalRecordCount = 0;
+                journalSize = header.length;
+            }
+            try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            journalRecordCount++;
+            journalSize += bytes.length;
+            if (recordsDuringCompaction != null) {
+                recordsDuringCompaction.add(record);
+            }
+        }
+    }
+
+    private boolean shouldCompact() {
+        synchronized (fileLock) {
+            return recordsDuringCompaction == null
+                    && (journalRecordCount >= compactionThreshold || journalSize > snapshotSize);
+        }
+    }
+
+    private void startCompaction(List<Person> persons) {
+        synchronized (fileLock) {
+            recordsDuringCompaction = new ArrayList<>();
+        }
+        compaction = compactionExecutor.submit(() -> {
+            try {
+                compact(persons);
+            } catch (IOException ioe) {
+                logger.warning("Error compacting journal of " + filePath + ": " + ioe);
+                synchronized (fileLock) {
+                    recordsDuringCompaction = null;
+                }
+            }
+        });
+    }
+
+    /**
+     * Waits for the compaction in progress, if any, to finish.
+     */
+    void awaitCompaction() {
+        try {
+            compaction.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            logger.warning("Error compacting journal of " + filePath + ": " + ee.getCause());
+        }
+    }
+
+    /**
+     * Writes {@code persons} as the new snapshot, and starts a new journal with the records appended since
+     * {@code persons} were saved.
+     * The new snapshot and journal are written to temporary files first and then moved into place, so that the
+     * files on the disk always describe either the old or the new state.
+     */
+    private void compact(List<Person> persons) throws IOException {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = persons.stream().map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList());
+        byte[] snapshot = JsonUtil.toJsonString(new JsonSerializableAddressBook(jsonAdaptedPersons))
+                .getBytes(StandardCharsets.UTF_8);
+        CRC32 checksum = new CRC32();
+        checksum.update(snapshot, 0, snapshot.length);
+
+        Path tempSnapshot = FileUtil.getTempFilePath(filePath);
+        Path journal = getJournalFilePath(filePath);
+        Path tempJournal = FileUtil.getTempFilePath(journal);
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFileDurably(tempSnapshot, snapshot);
+
+        synchronized (fileLock) {
+            List<String> records = recordsDuringCompaction == null
+                    ? Collections.emptyList()
+                    : recordsDuringCompaction;
+            StringBuilder sb = new StringBuilder(
+                    JsonUtil.toCompactJsonString(new JsonAdaptedJournalHeader(checksum.getValue())));
+            for (String record : records) {
+                sb.append((char) LINE_SEPARATOR).append(record);
+            }
+            byte[] journalBytes = toLine(sb.toString());
+            FileUtil.writeToFileDurably(tempJournal, journalBytes);
+
+            FileUtil.moveAtomically(tempSnapshot, filePath);
+            FileUtil.moveAtomically(tempJournal, journal);
+            snapshotChecksum = checksum.getValue();
+            snapshotSize = snapshot.length;
+            isJournalStarted = true;
+            journalRecordCount = records.size();
+            journalSize = journalBytes.length;
+            recordsDuringCompaction = null;
+        }
+    }
+
+    private static long checksumOf(Path file) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int length = in.read(buffer); length != -1; length = in.read(buffer)) {
+                checksum.update(buffer, 0, length);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    private static byte[] toLine(String line) {
+        return (line + (char) LINE_SEPARATOR).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the first line of a journal, which identifies the snapshot that the journal applies to.
+ */
+class JsonAdaptedJournalHeader {
+
+    private final long snapshotChecksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} for the snapshot with the given checksum.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("snapshotChecksum") long snapshotChecksum) {
+        this.snapshotChecksum = snapshotChecksum;
+    }
+
+    public long getSnapshotChecksum() {
+        return snapshotChecksum;
+    }
+}
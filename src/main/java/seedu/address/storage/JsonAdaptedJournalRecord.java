@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of the changes made to a list of persons between two saves.
+ * Replaying a record removes the persons at {@code removedIndices} from the earlier list, then inserts
+ * {@code addedPersons} at {@code addedIndices}, in order, to give the later list.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_INDEX = "Journal record refers to a person that does not exist.";
+    public static final String MESSAGE_MISMATCHED_FIELDS = "Journal record has a different number of indices "
+            + "and persons.";
+
+    private final List<Integer> removedIndices = new ArrayList<>();
+    private final List<Integer> addedIndices = new ArrayList<>();
+    private final List<JsonAdaptedPerson> addedPersons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given changes.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("removedIndices") List<Integer> removedIndices,
+            @JsonProperty("addedIndices") List<Integer> addedIndices,
+            @JsonProperty("addedPersons") List<JsonAdaptedPerson> addedPersons) {
+        if (removedIndices != null) {
+            this.removedIndices.addAll(removedIndices);
+        }
+        if (addedIndices != null) {
+            this.addedIndices.addAll(addedIndices);
+        }
+        if (addedPersons != null) {
+            this.addedPersons.addAll(addedPersons);
+        }
+    }
+
+    /**
+     * Returns the changes that turn {@code previous} into {@code current}, where persons are matched by reference.
+     * Returns {@code Optional.empty()} if the persons in both lists are not in the same relative order, as a
+     * record can only describe removals and insertions.
+     */
+    public static Optional<JsonAdaptedJournalRecord> of(List<Person> previous, List<Person> current) {
+        requireAllNonNull(previous, current);
+        Set<Person> previousPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        previousPersons.addAll(previous);
+        Set<Person> currentPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        currentPersons.addAll(current);
+
+        List<Integer> removedIndices = new ArrayList<>();
+        List<Person> keptPersons = new ArrayList<>();
+        for (int i = 0; i < previous.size(); i++) {
+            if (currentPersons.contains(previous.get(i))) {
+                keptPersons.add(previous.get(i));
+            } else {
+                removedIndices.add(i);
+            }
+        }
+
+        List<Integer> addedIndices = new ArrayList<>();
+        List<JsonAdaptedPerson> addedPersons = new ArrayList<>();
+        Iterator<Person> keptPersonsIterator = keptPersons.iterator();
+        for (int i = 0; i < current.size(); i++) {
+            Person person = current.get(i);
+            if (!previousPersons.contains(person)) {
+                addedIndices.add(i);
+                addedPersons.add(new JsonAdaptedPerson(person));
+            } else if (keptPersonsIterator.next() != person) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new JsonAdaptedJournalRecord(removedIndices, addedIndices, addedPersons));
+    }
+
+    /**
+     * Returns true if the record does not change any list.
+     */
+    public boolean isEmpty() {
+        return removedIndices.isEmpty() && addedIndices.isEmpty();
+    }
+
+    /**
+     * Applies the changes in this record to {@code persons}.
+     *
+     * @throws IllegalValueException if the record does not fit {@code persons}, or if there were any data
+     *     constraints violated in the added persons.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (addedIndices.size() != addedPersons.size()) {
+            throw new IllegalValueException(MESSAGE_MISMATCHED_FIELDS);
+        }
+
+        // removing from the back keeps the earlier indices valid
+        for (int i = removedIndices.size() - 1; i >= 0; i--) {
+            int index = removedIndices.get(i);
+            if (index < 0 || index >= persons.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_INDEX);
+            }
+            persons.remove(index);
+        }
+        for (int i = 0; i < addedIndices.size(); i++) {
+            int index = addedIndices.get(i);
+            if (index < 0 || index > persons.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_INDEX);
+            }
+            persons.add(index, addedPersons.get(i).toModelType());
+        }
+    }
+}
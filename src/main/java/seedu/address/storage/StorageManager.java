@@ -2,6 +2,8 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -10,6 +12,7 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -19,6 +22,12 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    // the address book last saved, and its version and location at that time
+    private ReadOnlyAddressBook savedAddressBook;
+    private long savedVersion;
+    private Path savedFilePath;
+    // the persons of the address book last read from savedFilePath, until an address book is next written there
+    private List<Person> loadedPersons;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -61,7 +70,13 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBook(filePath);
+        if (addressBook.isPresent()) {
+            savedAddressBook = null;
+            savedFilePath = filePath;
+            loadedPersons = new ArrayList<>(addressBook.get().getPersonList());
+        }
+        return addressBook;
     }
 
     @Override
@@ -69,10 +84,59 @@ public class StorageManager implements Storage {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
     }
 
+    /**
+     * Saves {@code addressBook} to {@code filePath}.
+     * Nothing is written if the same address book has already been saved to {@code filePath}, and has not been
+     * modified since, or if it holds exactly the persons last read from {@code filePath}.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        long version = addressBook.getVersion();
+        if (filePath.equals(savedFilePath) && isUnmodified(addressBook, version)) {
+            logger.fine("No changes to write to data file: " + filePath);
+            return;
+        }
+
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        savedAddressBook = addressBook;
+        savedVersion = version;
+        savedFilePath = filePath;
+        loadedPersons = null;
+    }
+
+    /**
+     * Returns true if {@code addressBook} at {@code version} is what {@code savedFilePath} already holds.
+     */
+    private boolean isUnmodified(ReadOnlyAddressBook addressBook, long version) {
+        if (addressBook == savedAddressBook) {
+            return version == savedVersion;
+        }
+        if (loadedPersons == null || !hasSamePersons(addressBook.getPersonList(), loadedPersons)) {
+            return false;
+        }
+
+        // the address book holds the persons just read, e.g. the copy of them made by the model at startup
+        savedAddressBook = addressBook;
+        savedVersion = version;
+        loadedPersons = null;
+        return true;
+    }
+
+    /**
+     * Returns true if {@code persons} and {@code otherPersons} hold the same person objects in the same order.
+     * Persons are immutable, so this needs no field comparisons, and does not load lazily read schedules.
+     */
+    private static boolean hasSamePersons(List<Person> persons, List<Person> otherPersons) {
+        if (persons.size() != otherPersons.size()) {
+            return false;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) != otherPersons.get(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
 }
@@ -1,9 +1,11 @@
 package seedu.address.ui;
 
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -15,20 +17,36 @@ public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    /** How long typing has to pause for before the command being typed is previewed. */
+    private static final Duration PREVIEW_DELAY = Duration.millis(150);
 
     private final CommandExecutor commandExecutor;
+    private final PauseTransition previewDelay = new PauseTransition(PREVIEW_DELAY);
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which does not preview commands.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, commandText -> { });
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandPreviewer}.
+     * The command being typed is previewed whenever typing pauses, so that a burst of keystrokes is previewed once.
+     */
+    public CommandBox(CommandExecutor commandExecutor, CommandPreviewer commandPreviewer) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        previewDelay.setOnFinished(unused -> commandPreviewer.preview(commandTextField.getText()));
+        // calls #setStyleToDefault() and restarts the preview delay whenever there is a change to the text of the
+        // command box.
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            previewDelay.playFromStart();
+        });
     }
 
     /**
@@ -41,6 +59,7 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
+        previewDelay.stop();
         try {
             commandExecutor.execute(commandText);
             commandTextField.setText("");
@@ -82,4 +101,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can preview the result of commands as they are typed.
+     */
+    @FunctionalInterface
+    public interface CommandPreviewer {
+        /**
+         * Previews the result of the command, which may not be complete or valid.
+         *
+         * @see seedu.address.logic.Logic#previewFilter(String)
+         */
+        void preview(String commandText);
+    }
+
 }
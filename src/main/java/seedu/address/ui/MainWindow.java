@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -114,19 +115,22 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(new ObservablePersonList(logic.getFilteredPersonList()));
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        logic.setPreviewPublisher(Platform::runLater);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::previewFilter);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
-        viewListPanel = new ScheduleCardPanel(logic.getViewedPersonList()); //TODO: CHANGE THIS!!!!!!
+        //TODO: CHANGE THIS!!!!!!
+        viewListPanel = new ScheduleCardPanel(new ObservablePersonList(logic.getViewedPersonList()));
         viewListPanelPlaceholder.getChildren().add(viewListPanel.getRoot());
     }
 
@@ -0,0 +1,53 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.ObservableListBase;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListChange;
+import seedu.address.model.person.PersonListView;
+
+/**
+ * An {@code ObservableList} view of a {@code PersonListView}, so that JavaFX controls can show the persons of the
+ * model, which itself does not depend on JavaFX.
+ *
+ * The persons are not copied, and each {@code PersonListChange} of the source list is reported to the listeners of
+ * this list as one JavaFX change. The source list must only be changed on the JavaFX application thread.
+ */
+public class ObservablePersonList extends ObservableListBase<Person> {
+
+    private final PersonListView source;
+
+    /**
+     * Creates an {@code ObservablePersonList} that shows the persons of {@code source}.
+     */
+    public ObservablePersonList(PersonListView source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener(this::onSourceChanged);
+    }
+
+    @Override
+    public Person get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    private void onSourceChanged(PersonListChange change) {
+        int from = change.getFrom();
+        int addedCount = change.getAdded().size();
+        beginChange();
+        if (change.getRemoved().isEmpty()) {
+            nextAdd(from, from + addedCount);
+        } else if (addedCount == 0) {
+            nextRemove(from, change.getRemoved());
+        } else {
+            nextReplace(from, from + addedCount, change.getRemoved());
+        }
+        endChange();
+    }
+}
@@ -1,14 +1,21 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
+import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
+import seedu.address.commons.util.AppUtil;
 import seedu.address.model.person.Person;
 
 /**
@@ -17,6 +24,13 @@ import seedu.address.model.person.Person;
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
+    private static final double ICON_SIZE = 16;
+
+    // the icons are decoded once and shared by every card
+    private static final Image ADDRESS_ICON = AppUtil.getImage("/images/address_icon.png");
+    private static final Image EMAIL_ICON = AppUtil.getImage("/images/email_icon.png");
+    private static final Image TELEGRAM_ICON = AppUtil.getImage("/images/telegram_icon.png");
+    private static final Image GITHUB_ICON = AppUtil.getImage("/images/github_icon.png");
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -26,7 +40,7 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -49,58 +63,87 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
+    private final Label telegramLabel;
+    private final Label githubLabel;
+    private final Label emailLabel;
+    private final Label addressLabel;
 
+    /**
+     * Creates an empty {@code PersonCard}, which shows a person once one is set with {@link #setPerson}.
+     */
+    public PersonCard() {
+        super(FXML);
+        telegramLabel = addDetailRow(telegramBox, TELEGRAM_ICON);
+        githubLabel = addDetailRow(githubBox, GITHUB_ICON);
+        emailLabel = addDetailRow(emailBox, EMAIL_ICON);
+        addressLabel = addDetailRow(addressBox, ADDRESS_ICON);
+    }
 
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
-        ImageView addressIcon = new ImageView("/images/address_icon.png");
-        ImageView emailIcon = new ImageView("/images/email_icon.png");
-        ImageView telegramIcon = new ImageView("/images/telegram_icon.png");
-        ImageView githubIcon = new ImageView("/images/github_icon.png");
-        addressIcon.setFitHeight(16);
-        addressIcon.setFitWidth(16);
-        emailIcon.setFitHeight(16);
-        emailIcon.setFitWidth(16);
-        telegramIcon.setFitHeight(16);
-        telegramIcon.setFitWidth(16);
-        githubIcon.setFitHeight(16);
-        githubIcon.setFitWidth(16);
+        this();
+        setPerson(person, displayedIndex);
+    }
 
+    /**
+     * Shows {@code person} with the given index to display, in place of the person shown before, if any.
+     * The nodes of the card are reused, so a card can show many persons in turn without loading its FXML again.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        requireNonNull(person);
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().value);
         phone.setText(person.getPhone().value);
-        if (!person.getTelegram().isEmpty()) {
-            telegramBox.getChildren().add(telegramIcon);
-            Label telegramLabel = new Label(person.getTelegram().value);
-            telegramLabel.setWrapText(true);
-            telegramBox.getChildren().add(telegramLabel);
-        }
-        if (!person.getGithub().isEmpty()) {
-            githubBox.getChildren().add(githubIcon);
-            Label githubLabel = new Label(person.getGithub().value);
-            githubLabel.setWrapText(true);
-            githubBox.getChildren().add(githubLabel);
-        }
-        if (!person.getEmail().isEmpty()) {
-            emailBox.getChildren().add(emailIcon);
-            Label emailLabel = new Label(person.getEmail().value);
-            emailLabel.setWrapText(true);
-            emailBox.getChildren().add(emailLabel);
+        showDetail(telegramBox, telegramLabel, person.getTelegram().isEmpty(), person.getTelegram().value);
+        showDetail(githubBox, githubLabel, person.getGithub().isEmpty(), person.getGithub().value);
+        showDetail(emailBox, emailLabel, person.getEmail().isEmpty(), person.getEmail().value);
+        showDetail(addressBox, addressLabel, person.getAddress().isEmpty(), person.getAddress().value);
+
+        List<String> tagNames = person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList());
+        // the labels of the tags shown before are reused, and only the extra ones are added or removed
+        ObservableList<Node> tagLabels = tags.getChildren();
+        if (tagLabels.size() > tagNames.size()) {
+            tagLabels.remove(tagNames.size(), tagLabels.size());
         }
-        if (!person.getAddress().isEmpty()) {
-            addressBox.getChildren().add(addressIcon);
-            Label addressLabel = new Label(person.getAddress().value);
-            addressLabel.setWrapText(true);
-            addressBox.getChildren().add(addressLabel);
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i < tagLabels.size()) {
+                ((Label) tagLabels.get(i)).setText(tagNames.get(i));
+            } else {
+                tagLabels.add(new Label(tagNames.get(i)));
+            }
         }
+    }
 
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Adds an icon and an empty label to {@code box}, and returns the label.
+     */
+    private static Label addDetailRow(HBox box, Image icon) {
+        ImageView iconView = new ImageView(icon);
+        iconView.setFitHeight(ICON_SIZE);
+        iconView.setFitWidth(ICON_SIZE);
+        Label label = new Label();
+        label.setWrapText(true);
+        box.getChildren().addAll(iconView, label);
+        return label;
+    }
+
+    /**
+     * Shows {@code value} in {@code label}, or hides {@code box} so that it takes up no space if {@code isEmpty}.
+     */
+    private static void showDetail(HBox box, Label label, boolean isEmpty, String value) {
+        box.setVisible(!isEmpty);
+        box.setManaged(!isEmpty);
+        label.setText(value);
     }
 
     @Override
@@ -4,13 +4,18 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
 
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
 
 /**
@@ -21,8 +26,16 @@ public class ScheduleCard extends UiPart<Region> {
     private static final String FXML = "ScheduleCard.fxml";
     private static final String SCHEDULE_HEADER = "%1$s's Full Schedule";
     private static final String UPCOMING_SCHEDULE_HEADER = "%1$s's Upcoming Schedule";
-    private static final String NO_SCHEDULE_MESSAGE = "%1$s doesn't have any Schedule recorded yet.";
-    private static final String DAILY_SCHEDULE_HEADER = "%1$s, %2$s";
+    private static final String LOADING_MESSAGE = "Loading...";
+
+    // formats the schedules of the cards off the JavaFX application thread, one card at a time
+    private static final ExecutorService RENDERER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "schedule-card-renderer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Logger logger = LogsCenter.getLogger(ScheduleCard.class);
 
     public final Person person;
 
@@ -71,8 +84,14 @@ public class ScheduleCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
+    private final List<Label> dailyScheduleHeaders;
+    private final List<HBox> dailySchedules;
+    private final Task<ScheduleCardContent> renderTask;
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * The schedule of the person is shown once it has been formatted in the background, and a placeholder is
+     * shown until then.
      */
     public ScheduleCard(Person person) {
         super(FXML);
@@ -82,57 +101,54 @@ public class ScheduleCard extends UiPart<Region> {
         scheduleHeader.setText(String.format(SCHEDULE_HEADER, person.getName().value));
         upcomingScheduleHeader.setText(String.format(UPCOMING_SCHEDULE_HEADER, person.getName().value));
 
-        headerDay0.setText(String.format(DAILY_SCHEDULE_HEADER, getDayOfWeekAfter(0), getDateAfter(0)));
-        headerDay1.setText(String.format(DAILY_SCHEDULE_HEADER, getDayOfWeekAfter(1), getDateAfter(1)));
-        headerDay2.setText(String.format(DAILY_SCHEDULE_HEADER, getDayOfWeekAfter(2), getDateAfter(2)));
-        headerDay3.setText(String.format(DAILY_SCHEDULE_HEADER, getDayOfWeekAfter(3), getDateAfter(3)));
-        headerDay4.setText(String.format(DAILY_SCHEDULE_HEADER, getDayOfWeekAfter(4), getDateAfter(4)));
-        headerDay5.setText(String.format(DAILY_SCHEDULE_HEADER, getDayOfWeekAfter(5), getDateAfter(5)));
-        headerDay6.setText(String.format(DAILY_SCHEDULE_HEADER, getDayOfWeekAfter(6), getDateAfter(6)));
-
-        if ((!person.getSchedule().isEmpty())) {
-            Label scheduleLabel = new Label(person.getSchedule().toString());
-            scheduleLabel.setWrapText(true);
-            scheduleBox.getChildren().add(scheduleLabel);
-        } else {
-            Label scheduleLabel = new Label(String.format(NO_SCHEDULE_MESSAGE,
-                    person.getName().value));
-            scheduleLabel.setWrapText(true);
-            scheduleBox.getChildren().add(scheduleLabel);
-        }
-
-        List<HBox> dailySchedule = Arrays.asList(
-            scheduleDay0, scheduleDay1, scheduleDay2, scheduleDay3, scheduleDay4, scheduleDay5, scheduleDay6);
-
-        for (int i = 0; i < 7; i++) {
-            if (!person.getUpcomingSchedule(i).isEmpty()) {
-                Label upcomingScheduleLabel = new Label(person.getUpcomingSchedule(i).getDailyScheduleFormat());
-                upcomingScheduleLabel.setWrapText(true);
-                dailySchedule.get(i).getChildren().add(upcomingScheduleLabel);
-            } else {
-                Label upcomingScheduleLabel = new Label("-");
-                upcomingScheduleLabel.setWrapText(true);
-                dailySchedule.get(i).getChildren().add(upcomingScheduleLabel);
-            }
-        }
-
         person.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+
+        dailyScheduleHeaders = Arrays.asList(
+            headerDay0, headerDay1, headerDay2, headerDay3, headerDay4, headerDay5, headerDay6);
+        dailySchedules = Arrays.asList(
+            scheduleDay0, scheduleDay1, scheduleDay2, scheduleDay3, scheduleDay4, scheduleDay5, scheduleDay6);
+        dailyScheduleHeaders.forEach(header -> header.setText(""));
+        setText(scheduleBox, LOADING_MESSAGE);
+        dailySchedules.forEach(dailySchedule -> setText(dailySchedule, LOADING_MESSAGE));
+
+        LocalDate today = LocalDate.now();
+        renderTask = new Task<ScheduleCardContent>() {
+            @Override
+            protected ScheduleCardContent call() {
+                return ScheduleCardContent.of(person, today);
+            }
+        };
+        renderTask.setOnSucceeded(unused -> show(renderTask.getValue()));
+        renderTask.setOnFailed(unused -> logger.warning("Error formatting the schedule of " + person.getName()
+                + ": " + renderTask.getException()));
+        RENDERER.execute(renderTask);
     }
 
     /**
-     * Gets the string representation of DayOfWeek {@code daysForward} days after today.
+     * Stops formatting the schedule of the person in the background, if it has not finished, so that it is never
+     * shown. Called when the card is no longer shown.
      */
-    public String getDayOfWeekAfter(int daysForward) {
-        return LocalDate.now().plusDays(daysForward).getDayOfWeek().toString();
+    public void cancelRendering() {
+        renderTask.cancel();
+    }
+
+    private void show(ScheduleCardContent content) {
+        setText(scheduleBox, content.getSchedule());
+        for (int i = 0; i < ScheduleCardContent.UPCOMING_DAYS; i++) {
+            dailyScheduleHeaders.get(i).setText(content.getDailyScheduleHeader(i));
+            setText(dailySchedules.get(i), content.getDailySchedule(i));
+        }
     }
 
     /**
-     * Gets the string representation of the date of {@code daysForward} days after today.
+     * Shows {@code text} in {@code box}, in place of anything that it showed before.
      */
-    public String getDateAfter(int daysForward) {
-        return LocalDate.now().plusDays(daysForward).toString();
+    private static void setText(HBox box, String text) {
+        Label label = new Label(text);
+        label.setWrapText(true);
+        box.getChildren().setAll(label);
     }
 
     @Override
@@ -0,0 +1,77 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * The text of the schedule of a {@code Person} as shown in a {@code ScheduleCard}.
+ * It is computed without any JavaFX nodes and never changes, so it can be computed off the JavaFX application
+ * thread and shown later.
+ */
+public class ScheduleCardContent {
+
+    /** The number of days from today whose schedules are shown. */
+    public static final int UPCOMING_DAYS = 7;
+
+    private static final String NO_SCHEDULE_MESSAGE = "%1$s doesn't have any Schedule recorded yet.";
+    private static final String DAILY_SCHEDULE_HEADER = "%1$s, %2$s";
+    private static final String NO_DAILY_SCHEDULE_MESSAGE = "-";
+
+    private final String schedule;
+    private final List<String> dailyScheduleHeaders;
+    private final List<String> dailySchedules;
+
+    private ScheduleCardContent(String schedule, List<String> dailyScheduleHeaders, List<String> dailySchedules) {
+        this.schedule = schedule;
+        this.dailyScheduleHeaders = Collections.unmodifiableList(dailyScheduleHeaders);
+        this.dailySchedules = Collections.unmodifiableList(dailySchedules);
+    }
+
+    /**
+     * Returns the text of the schedule of {@code person}, with the schedules of {@link #UPCOMING_DAYS} days from
+     * {@code today}.
+     */
+    public static ScheduleCardContent of(Person person, LocalDate today) {
+        requireAllNonNull(person, today);
+        String schedule = person.getSchedule().isEmpty()
+                ? String.format(NO_SCHEDULE_MESSAGE, person.getName().value)
+                : person.getSchedule().toString();
+
+        List<String> dailyScheduleHeaders = new ArrayList<>();
+        List<String> dailySchedules = new ArrayList<>();
+        for (int i = 0; i < UPCOMING_DAYS; i++) {
+            LocalDate date = today.plusDays(i);
+            dailyScheduleHeaders.add(String.format(DAILY_SCHEDULE_HEADER, date.getDayOfWeek(), date));
+            Schedule dailySchedule = person.getSchedule().getScheduleAt(date);
+            dailySchedules.add(dailySchedule.isEmpty()
+                    ? NO_DAILY_SCHEDULE_MESSAGE
+                    : dailySchedule.getDailyScheduleFormat());
+        }
+        return new ScheduleCardContent(schedule, dailyScheduleHeaders, dailySchedules);
+    }
+
+    public String getSchedule() {
+        return schedule;
+    }
+
+    /**
+     * Returns the header of the schedule of the day {@code daysForward} days from today.
+     */
+    public String getDailyScheduleHeader(int daysForward) {
+        return dailyScheduleHeaders.get(daysForward);
+    }
+
+    /**
+     * Returns the schedule of the day {@code daysForward} days from today.
+     */
+    public String getDailySchedule(int daysForward) {
+        return dailySchedules.get(daysForward);
+    }
+}
@@ -30,18 +30,30 @@ public class ScheduleCardPanel extends UiPart<Region> {
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code ScheduleCard}.
      */
     class ViewedPersonListViewCell extends ListCell<Person> {
+        // the card of the person shown, which is only replaced when the cell shows a different person
+        private ScheduleCard scheduleCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
 
+            if (scheduleCard != null && (empty || scheduleCard.person != person)) {
+                // the schedule of a person who is no longer shown does not need to be formatted
+                scheduleCard.cancelRendering();
+                scheduleCard = null;
+            }
+
             if (empty || person == null) {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ScheduleCard(person).getRoot());
+                if (scheduleCard == null) {
+                    scheduleCard = new ScheduleCard(person);
+                }
+                setGraphic(scheduleCard.getRoot());
             }
         }
     }
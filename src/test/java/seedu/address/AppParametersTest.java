@@ -1,8 +1,11 @@
 package seedu.address;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -37,6 +40,25 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_rawParametersWithConfigPath_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        assertEquals(expected, AppParameters.parse(Arrays.asList("--headless", "--config=config.json")));
+    }
+
+    @Test
+    public void parse_rawParametersWithoutConfigPath_success() {
+        assertEquals(expected, AppParameters.parse(Arrays.asList("--script", "commands.txt")));
+    }
+
+    @Test
+    public void isNamedParameter() {
+        assertTrue(AppParameters.isNamedParameter("--config=config.json"));
+        assertFalse(AppParameters.isNamedParameter("--headless"));
+        assertFalse(AppParameters.isNamedParameter("commands=1.txt"));
+        assertFalse(AppParameters.isNamedParameter("--=config.json"));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,146 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.person.AddCommand;
+import seedu.address.logic.commands.person.ListCommand;
+import seedu.address.logic.commands.schedule.WhoIsFreeCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonUtil;
+
+public class HeadlessEngineTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private Logic logic;
+    private ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
+    @Test
+    public void run_validCommands_resultsWrittenToOutput() {
+        int status = run(PersonUtil.getAddCommand(AMY) + "\n\n" + ListCommand.COMMAND_WORD + "\n");
+
+        assertEquals(HeadlessEngine.EXIT_SUCCESS, status);
+        assertEquals(lines(String.format(AddCommand.MESSAGE_SUCCESS, AMY), ListCommand.MESSAGE_SUCCESS),
+                out.toString());
+        assertEquals("", err.toString());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_whoIsFreeCommand_freePersonsWrittenToOutput() {
+        int status = run(PersonUtil.getAddCommand(AMY) + "\n" + PersonUtil.getAddCommand(BOB) + "\n"
+                + WhoIsFreeCommand.COMMAND_WORD + " " + PREFIX_TIME + "10:00 " + PREFIX_DATE + "2022-03-14");
+
+        assertEquals(HeadlessEngine.EXIT_SUCCESS, status);
+        assertEquals(lines(String.format(AddCommand.MESSAGE_SUCCESS, AMY),
+                String.format(AddCommand.MESSAGE_SUCCESS, BOB), String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2),
+                AMY.getName().toString(), BOB.getName().toString()), out.toString());
+        assertEquals("", err.toString());
+    }
+
+    @Test
+    public void run_invalidCommand_errorWrittenAndLaterCommandsRun() {
+        int status = run("unknownCommand\n" + ListCommand.COMMAND_WORD);
+
+        assertEquals(HeadlessEngine.EXIT_COMMAND_FAILED, status);
+        assertEquals(lines(ListCommand.MESSAGE_SUCCESS), out.toString());
+        assertEquals(lines(MESSAGE_UNKNOWN_COMMAND), err.toString());
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsNotRun() {
+        int status = run(ExitCommand.COMMAND_WORD + "\n" + PersonUtil.getAddCommand(AMY));
+
+        assertEquals(HeadlessEngine.EXIT_SUCCESS, status);
+        assertEquals(lines(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), out.toString());
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_addressBookNotSaved_errorWrittenAndReturnsCommandFailed() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw new IOException("dummy exception");
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        int status = run(PersonUtil.getAddCommand(AMY));
+
+        assertEquals(HeadlessEngine.EXIT_COMMAND_FAILED, status);
+        assertEquals("", out.toString());
+        assertEquals(lines(LogicManager.FILE_OPS_ERROR_MESSAGE + new IOException("dummy exception")),
+                err.toString());
+    }
+
+    @Test
+    public void run_unreadableInput_returnsInputFailed() {
+        Reader failingReader = new Reader() {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException("dummy exception");
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        int status = new HeadlessEngine(logic, new BufferedReader(failingReader),
+                new PrintStream(out, true), new PrintStream(err, true)).run();
+
+        assertEquals(HeadlessEngine.EXIT_INPUT_FAILED, status);
+    }
+
+    private int run(String input) {
+        return new HeadlessEngine(logic, new BufferedReader(new StringReader(input)),
+                new PrintStream(out, true), new PrintStream(err, true)).run();
+    }
+
+    private static String lines(String... lines) {
+        StringBuilder sb = new StringBuilder();
+        for (String line : lines) {
+            sb.append(line).append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+}
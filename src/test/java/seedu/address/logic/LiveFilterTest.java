@@ -0,0 +1,143 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+public class LiveFilterTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final LiveFilter liveFilter = new LiveFilter(model);
+    // the updates of the filtered list handed to the publisher, which are only run when the test runs them
+    private final List<Runnable> publishedUpdates = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new LiveFilter(null));
+    }
+
+    @Test
+    public void filter_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> liveFilter.filter(null));
+    }
+
+    @Test
+    public void filter_predicate_filteredListUpdated() {
+        liveFilter.filter(preparePredicate("Meier"));
+        liveFilter.flush();
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void filter_candidates_onlyCandidatesTested() {
+        List<Person> testedPersons = new CopyOnWriteArrayList<>();
+        Predicate<Person> isMeier = person -> {
+            testedPersons.add(person);
+            return preparePredicate("Meier").test(person);
+        };
+        liveFilter.filter(isMeier, Arrays.asList(DANIEL, ALICE));
+        liveFilter.flush();
+        assertEquals(Collections.singletonList(DANIEL), model.getFilteredPersonList());
+        assertEquals(Arrays.asList(DANIEL, ALICE), testedPersons);
+    }
+
+    @Test
+    public void filter_newerFilter_olderResultDropped() {
+        liveFilter.setPublisher(publishedUpdates::add);
+        liveFilter.filter(preparePredicate("Meier"));
+        liveFilter.filter(preparePredicate("Alice"));
+        liveFilter.flush();
+        publishedUpdates.forEach(Runnable::run);
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void filter_addressBookModified_resultDropped() {
+        liveFilter.setPublisher(publishedUpdates::add);
+        liveFilter.filter(preparePredicate("Meier"));
+        liveFilter.flush();
+        model.deletePerson(ALICE);
+        publishedUpdates.forEach(Runnable::run);
+        assertEquals(getTypicalPersons().size() - 1, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void cancel_filterNotShown_resultDropped() {
+        liveFilter.setPublisher(publishedUpdates::add);
+        liveFilter.filter(preparePredicate("Meier"));
+        liveFilter.flush();
+        liveFilter.cancel();
+        publishedUpdates.forEach(Runnable::run);
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void restore_afterFilters_listBeforeFirstFilterShown() {
+        model.updateFilteredPersonList(preparePredicate("Alice"));
+        liveFilter.filter(preparePredicate("Meier"));
+        liveFilter.flush();
+        liveFilter.filter(preparePredicate("Benson"));
+        liveFilter.flush();
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+
+        liveFilter.restore();
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredPersonList());
+
+        // the list before the first filter is still the one restored to
+        liveFilter.filter(preparePredicate("Meier"));
+        liveFilter.flush();
+        liveFilter.restore();
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void restore_noFilter_listUnchanged() {
+        model.updateFilteredPersonList(preparePredicate("Alice"));
+        liveFilter.restore();
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void restore_cancelledBeforeShown_listNotRestored() {
+        liveFilter.filter(preparePredicate("Meier"));
+        liveFilter.flush();
+        liveFilter.setPublisher(publishedUpdates::add);
+        liveFilter.restore();
+        liveFilter.cancel();
+        model.updateFilteredPersonList(preparePredicate("Alice"));
+        publishedUpdates.forEach(Runnable::run);
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredPersonList());
+
+        // the list shown when the filters were cancelled is the one restored to afterwards
+        liveFilter.setPublisher(Runnable::run);
+        liveFilter.filter(preparePredicate("Meier"));
+        liveFilter.flush();
+        liveFilter.restore();
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredPersonList());
+    }
+
+    /**
+     * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
+     */
+    private NameContainsKeywordsPredicate preparePredicate(String userInput) {
+        return new NameContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
+    }
+}
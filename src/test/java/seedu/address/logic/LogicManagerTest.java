@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -9,9 +10,14 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +28,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.person.AddCommand;
 import seedu.address.logic.commands.person.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -88,6 +95,54 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_savingInBackground_addressBookSaved() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("backgroundAddressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("backgroundUserPrefs.json")));
+        logic = new LogicManager(model, storage, true);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        logic.flushSaves();
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_readOnlyFirstCommandAfterLoading_addressBookNotWritten() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("loadedAddressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("loadedUserPrefs.json")));
+        storage.saveAddressBook(getTypicalAddressBook());
+        model = new ModelManager(storage.readAddressBook().get(), new UserPrefs());
+        logic = new LogicManager(model, storage, true);
+        Files.delete(addressBookFilePath);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flushSaves();
+        assertFalse(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void execute_savingInBackgroundStorageThrowsIoException_failureReported() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage), true);
+        List<String> failureMessages = new CopyOnWriteArrayList<>();
+        logic.setSaveFailureHandler(failureMessages::add);
+
+        // the command itself succeeds
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        logic.flushSaves();
+        assertEquals(Collections.singletonList(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION),
+                failureMessages);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
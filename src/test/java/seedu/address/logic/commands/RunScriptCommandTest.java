@@ -0,0 +1,109 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILEPATH;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.person.AddCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonUtil;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code RunScriptCommand}.
+ */
+public class RunScriptCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_allCommandsSucceed_success() throws IOException {
+        Path script = writeScript(
+                "# two new contacts",
+                PersonUtil.getAddCommand(AMY),
+                "",
+                "   ",
+                PersonUtil.getAddCommand(BOB));
+        RunScriptCommand command = new RunScriptCommand(script);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.addPerson(BOB);
+
+        assertCommandSuccess(command, model, String.format(RunScriptCommand.MESSAGE_SUCCESS, 2, script, 0),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_someCommandsFail_failuresReportedAndOthersRun() throws IOException {
+        Path script = writeScript(
+                PersonUtil.getAddCommand(ALICE),
+                "unknownCommand",
+                PersonUtil.getAddCommand(AMY),
+                RunScriptCommand.COMMAND_WORD + " " + PREFIX_FILEPATH + "other.txt");
+        RunScriptCommand command = new RunScriptCommand(script);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+
+        String expectedMessage = String.format(RunScriptCommand.MESSAGE_SUCCESS, 4, script, 3)
+                + "\n" + String.format(RunScriptCommand.MESSAGE_LINE_FAILED, 1, AddCommand.MESSAGE_DUPLICATE_PERSON)
+                + "\n" + String.format(RunScriptCommand.MESSAGE_LINE_FAILED, 2, MESSAGE_UNKNOWN_COMMAND)
+                + "\n" + String.format(RunScriptCommand.MESSAGE_LINE_FAILED, 4, RunScriptCommand.MESSAGE_NESTED_SCRIPT);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        RunScriptCommand command = new RunScriptCommand(temporaryFolder.resolve("missing.txt"));
+        assertThrows(CommandException.class, () -> command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        RunScriptCommand firstCommand = new RunScriptCommand(Paths.get("first.txt"));
+        RunScriptCommand secondCommand = new RunScriptCommand(Paths.get("second.txt"));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new RunScriptCommand(Paths.get("first.txt"))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, Arrays.asList(lines));
+        return script;
+    }
+}
@@ -9,11 +9,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -22,6 +23,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListView;
+import seedu.address.model.person.Tag;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.testutil.PersonBuilder;
 
@@ -151,7 +154,27 @@ public class AddCommandTest {
         }
 
         @Override
-        public ObservableList<Person> getFilteredPersonList() {
+        public Set<Person> getPersonsWithTag(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithNameWord(String word) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithNamePrefix(String prefix) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonListView getFilteredPersonList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> getFilteredPersonPredicate() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -161,7 +184,12 @@ public class AddCommandTest {
         }
 
         @Override
-        public ObservableList<Person> getViewSchedulePerson() {
+        public void updateFilteredPersonList(Predicate<Person> predicate, Collection<Person> matchingPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonListView getViewSchedulePerson() {
             throw new AssertionError("This method should not be called.");
         }
 
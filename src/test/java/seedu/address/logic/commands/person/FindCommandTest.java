@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
@@ -12,13 +14,18 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.schedule.ClearScheduleCommand;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -74,6 +81,29 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_clearScheduleOfFoundPerson_personStillFound() throws Exception {
+        new FindCommand(preparePredicate("Kurz Elle Kunz")).execute(model);
+
+        // clearing the schedule replaces the person with a new one
+        Person elleWithoutSchedule = new PersonBuilder(ELLE).withSchedule(Schedule.EMPTY_SCHEDULE).build();
+        new ClearScheduleCommand(INDEX_SECOND_PERSON).execute(model);
+        assertEquals(Arrays.asList(CARL, elleWithoutSchedule, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void getPreview_partlyTypedKeywords_personsWithPrefixesFound() {
+        FindCommand command = new FindCommand(preparePredicate("Ku mey"));
+        assertEquals(new HashSet<>(Arrays.asList(CARL, ELLE, FIONA)),
+                new HashSet<>(command.getPreviewCandidates(model)));
+        assertTrue(command.getPreviewPredicate().test(CARL));
+        assertTrue(command.getPreviewPredicate().test(ELLE));
+        assertFalse(command.getPreviewPredicate().test(BENSON));
+
+        // the command itself only finds whole words
+        assertFalse(command.getPredicate().test(CARL));
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
@@ -2,17 +2,27 @@ package seedu.address.logic.commands.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.Arrays;
+import java.util.HashSet;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.IsTagInPersonPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Tag;
+import seedu.address.testutil.PersonBuilder;
 
 
 /**
@@ -44,4 +54,28 @@ class ViewGroupCommandTest {
         assertCommandSuccess(testCommand, model, expectedMessage, expectedModel);
         assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
     }
+
+    @Test
+    public void execute_personsEditedAfterwards_shownByTheirTags() throws Exception {
+        new ViewGroupCommand(new IsTagInPersonPredicate(new Tag("friends"))).execute(model);
+
+        Person aliceWithoutTag = new PersonBuilder(ALICE).withTags().build();
+        Person carlWithTag = new PersonBuilder(CARL).withTags("friends").build();
+        model.setPerson(ALICE, aliceWithoutTag);
+        model.setPerson(CARL, carlWithTag);
+
+        expectedModel.setPerson(ALICE, aliceWithoutTag);
+        expectedModel.setPerson(CARL, carlWithTag);
+        expectedModel.updateFilteredPersonList(new IsTagInPersonPredicate(new Tag("friends")));
+        assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
+        assertFalse(model.getFilteredPersonList().contains(aliceWithoutTag));
+        assertTrue(model.getFilteredPersonList().contains(carlWithTag));
+    }
+
+    @Test
+    public void getPreviewCandidates_tag_onlyPersonsWithTag() {
+        ViewGroupCommand command = new ViewGroupCommand(new IsTagInPersonPredicate(new Tag("friends")));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON, DANIEL)),
+                new HashSet<>(command.getPreviewCandidates(model)));
+    }
 }
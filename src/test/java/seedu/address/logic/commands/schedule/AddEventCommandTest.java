@@ -18,6 +18,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.schedule.ConflictDetector;
 import seedu.address.model.schedule.Event;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.testutil.EventBuilder;
@@ -66,4 +67,27 @@ class AddEventCommandTest {
         assertCommandFailure(addEventCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_conflictingEventRejected_failure() {
+        Event existingEvent = eventBuilder.build();
+        Person person = new PersonBuilder(firstPerson).withSchedule(new Schedule(List.of(existingEvent))).build();
+        model.setPerson(firstPerson, person);
+
+        Event toAddEvent = new EventBuilder(existingEvent).withEventDescription("Overlapping").withTime("15:00")
+                .build();
+        List<Event> events = new ArrayList<>(List.of(existingEvent, toAddEvent));
+        Collections.sort(events);
+        Schedule schedule = new Schedule(events);
+        String expectedMessage = String.format(AddEventCommand.MESSAGE_CONFLICTING_EVENT,
+                ConflictDetector.findConflictsWith(schedule, events.indexOf(toAddEvent)).get(0));
+
+        assertCommandFailure(new AddEventCommand(INDEX_FIRST_PERSON, toAddEvent, true), model, expectedMessage);
+
+        // conflicts are allowed unless they are rejected
+        Person editedPerson = new PersonBuilder(person).withSchedule(schedule).build();
+        expectedModel.setPerson(firstPerson, editedPerson);
+        assertCommandSuccess(new AddEventCommand(INDEX_FIRST_PERSON, toAddEvent), model,
+                String.format(AddEventCommand.MESSAGE_SUCCESS, toAddEvent, person.getName()), expectedModel);
+    }
+
 }
@@ -0,0 +1,71 @@
+package seedu.address.logic.commands.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TestUtil.getFilteredCopy;
+import static seedu.address.testutil.TestUtil.getModelWith;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.IsTagInPersonPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code BusyHeatmapCommand}.
+ */
+class BusyHeatmapCommandTest {
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final IsTagInPersonPredicate predicate = new IsTagInPersonPredicate(new Tag("team"));
+
+    @Test
+    public void equals() {
+        LocalDate date = LocalDate.parse("2022-03-14");
+        BusyHeatmapCommand command = new BusyHeatmapCommand(predicate, date, date);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new BusyHeatmapCommand(predicate, date, date)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new BusyHeatmapCommand(new IsTagInPersonPredicate(new Tag("mates")), date,
+                date)));
+        assertFalse(command.equals(new BusyHeatmapCommand(predicate, date, date.plusDays(1))));
+    }
+
+    @Test
+    public void execute_overlappingSchedules_countsBusyPersons() {
+        Person first = new PersonBuilder().withName("First").withPhone("91111111").withTags("team")
+                .withEvent("Standup", "2022-03-14", "09:00", "45M", "DAILY")
+                .withEvent("Overnight", "2022-03-13", "22:00", "3H", "NONE").build();
+        Person second = new PersonBuilder().withName("Second").withPhone("92222222").withTags("team")
+                .withEvent("Lecture", "2022-03-14", "09:30", "1H", "NONE").build();
+        Model teamModel = getModelWith(first, second);
+        Model expectedTeamModel = getFilteredCopy(teamModel, predicate);
+
+        String expectedMessage = String.format(BusyHeatmapCommand.MESSAGE_HEATMAP, 2, "2022-03-14", "2022-03-15")
+                + "Time | 2022-03-14 | 2022-03-15\n"
+                + "00:00-01:00 | 1 | 0\n"
+                + "01:00-09:00 | 0 | 0\n"
+                + "09:00-09:30 | 1 | 1\n"
+                + "09:30-10:00 | 2 | 1\n"
+                + "10:00-10:30 | 1 | 0\n"
+                + "10:30-23:59 | 0 | 0\n";
+        assertCommandSuccess(new BusyHeatmapCommand(predicate, LocalDate.parse("2022-03-14"),
+                LocalDate.parse("2022-03-15")), teamModel, expectedMessage, expectedTeamModel);
+    }
+
+    @Test
+    public void execute_tagNotPresent_throwsCommandException() {
+        LocalDate date = LocalDate.parse("2022-03-14");
+        assertCommandFailure(new BusyHeatmapCommand(new IsTagInPersonPredicate(new Tag("nobody")), date, date),
+                model, FindCommonTimingCommand.TAG_NOT_PRESENT_ERROR_MESSAGE);
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.logic.commands.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.ConflictDetector;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code CheckConflictsCommand}.
+ */
+public class CheckConflictsCommandTest {
+
+    private static final LocalDate START_DATE = LocalDate.parse("2022-03-14");
+    private static final LocalDate END_DATE = LocalDate.parse("2022-04-10");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noConflicts_success() throws Exception {
+        Person person = setFirstPersonSchedule(new Schedule(Arrays.asList(
+                new EventBuilder().withDate("2022-03-14").withTime("10:00").withDuration("2H").build(),
+                new EventBuilder().withDate("2022-03-14").withTime("12:00").withDuration("2H").build())));
+
+        CommandResult commandResult = new CheckConflictsCommand(INDEX_FIRST_PERSON, START_DATE, END_DATE)
+                .execute(model);
+        assertEquals(new CommandResult(String.format(CheckConflictsCommand.MESSAGE_NO_CONFLICTS, person.getName(),
+                START_DATE, END_DATE)), commandResult);
+    }
+
+    @Test
+    public void execute_conflicts_success() throws Exception {
+        Schedule schedule = new Schedule(Arrays.asList(
+                new EventBuilder().withDate("2022-03-14").withTime("10:00").withDuration("2H").build(),
+                new EventBuilder().withDate("2022-03-21").withTime("11:00").withDuration("2H")
+                        .withRecurFrequency("NONE").build()));
+        Person person = setFirstPersonSchedule(schedule);
+
+        CommandResult commandResult = new CheckConflictsCommand(INDEX_FIRST_PERSON, START_DATE, END_DATE)
+                .execute(model);
+        String expectedMessage = String.format(CheckConflictsCommand.MESSAGE_CONFLICTS, 1, person.getName(),
+                START_DATE, END_DATE)
+                + ConflictDetector.findConflicts(schedule, START_DATE, END_DATE).get(0) + "\n";
+        assertEquals(new CommandResult(expectedMessage), commandResult);
+
+        // the schedule of the person is shown
+        assertEquals(Arrays.asList(person), model.getViewSchedulePerson());
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        CheckConflictsCommand command = new CheckConflictsCommand(outOfBoundIndex, START_DATE, END_DATE);
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        CheckConflictsCommand command = new CheckConflictsCommand(INDEX_FIRST_PERSON, START_DATE, END_DATE);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new CheckConflictsCommand(INDEX_FIRST_PERSON, START_DATE, END_DATE)));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different index -> returns false
+        assertFalse(command.equals(new CheckConflictsCommand(INDEX_SECOND_PERSON, START_DATE, END_DATE)));
+
+        // different range -> returns false
+        assertFalse(command.equals(new CheckConflictsCommand(INDEX_FIRST_PERSON, START_DATE, START_DATE)));
+    }
+
+    private Person setFirstPersonSchedule(Schedule schedule) {
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person editedPerson = new PersonBuilder(firstPerson).withSchedule(schedule).build();
+        model.setPerson(firstPerson, editedPerson);
+        return editedPerson;
+    }
+}
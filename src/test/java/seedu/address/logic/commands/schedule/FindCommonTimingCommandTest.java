@@ -2,8 +2,13 @@ package seedu.address.logic.commands.schedule;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TestUtil.getFilteredCopy;
+import static seedu.address.testutil.TestUtil.getModelWith;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.Duration;
 import java.time.LocalDate;
 
 import org.junit.jupiter.api.Test;
@@ -12,7 +17,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.IsTagInPersonPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Tag;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommonTimingCommand}.
@@ -46,6 +53,17 @@ class FindCommonTimingCommandTest {
 
         // different values -> returns false
         assertNotEquals(testCommand, secondTestCommand);
+
+        // same single date as a range -> returns true
+        assertEquals(testCommand, new FindCommonTimingCommand(testPredicate, testDate, testDate, Duration.ZERO));
+
+        // different end date -> returns false
+        assertNotEquals(testCommand, new FindCommonTimingCommand(testPredicate, testDate, secondTestDate,
+                Duration.ZERO));
+
+        // different minimum duration -> returns false
+        assertNotEquals(testCommand, new FindCommonTimingCommand(testPredicate, testDate, testDate,
+                Duration.ofHours(1)));
     }
 
     @Test
@@ -56,4 +74,87 @@ class FindCommonTimingCommandTest {
         model.updateFilteredPersonList(testPredicate);
         assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
     }
+
+    @Test
+    public void execute_overlappingSchedules_mergesBusyTimes() {
+        Person first = new PersonBuilder().withName("First").withPhone("91111111").withTags("team")
+                .withEvent("Standup", "2022-03-14", "09:00", "45M", "DAILY")
+                .withEvent("Overnight", "2022-03-13", "22:00", "3H", "NONE").build();
+        Person second = new PersonBuilder().withName("Second").withPhone("92222222").withTags("team")
+                .withEvent("Lecture", "2022-03-07", "13:00", "1H", "WEEKLY")
+                .withEvent("Dinner", "2022-03-14", "22:10", "2H", "NONE").build();
+        Model teamModel = getModelWith(first, second);
+        IsTagInPersonPredicate predicate = new IsTagInPersonPredicate(new Tag("team"));
+        Model expectedTeamModel = getFilteredCopy(teamModel, predicate);
+
+        String expectedMessage = "01:00-09:00\n10:00-13:00\n14:00-22:00\n";
+        assertCommandSuccess(new FindCommonTimingCommand(predicate, LocalDate.parse("2022-03-14")), teamModel,
+                expectedMessage, expectedTeamModel);
+
+        expectedMessage = "00:00-09:00\n10:00-13:00\n14:00-23:59\n";
+        assertCommandSuccess(new FindCommonTimingCommand(predicate, LocalDate.parse("2022-03-21")), teamModel,
+                expectedMessage, expectedTeamModel);
+    }
+
+    @Test
+    public void execute_dateRange_ranksFreeTimingsLongestFirst() {
+        Person first = new PersonBuilder().withName("First").withPhone("91111111").withTags("team")
+                .withEvent("Work", "2022-03-14", "08:00", "10H", "DAILY").build();
+        Person second = new PersonBuilder().withName("Second").withPhone("92222222").withTags("team")
+                .withEvent("Gym", "2022-03-15", "19:00", "2H", "NONE")
+                .withEvent("Trip", "2022-03-16", "00:00", "24H", "NONE").build();
+        Model teamModel = getModelWith(first, second);
+        IsTagInPersonPredicate predicate = new IsTagInPersonPredicate(new Tag("team"));
+        Model expectedTeamModel = getFilteredCopy(teamModel, predicate);
+
+        String expectedMessage = String.format(FindCommonTimingCommand.MESSAGE_RANKED_FREE_TIMINGS,
+                "2022-03-14", "2022-03-16", 4, 4)
+                + "2022-03-14 00:00-08:00\n"
+                + "2022-03-15 00:00-08:00\n"
+                + "2022-03-14 18:00-23:59\n"
+                + "2022-03-15 21:00-23:59\n";
+        assertCommandSuccess(new FindCommonTimingCommand(predicate, LocalDate.parse("2022-03-14"),
+                LocalDate.parse("2022-03-16"), Duration.ofHours(3)), teamModel, expectedMessage, expectedTeamModel);
+
+        expectedMessage = String.format(FindCommonTimingCommand.MESSAGE_RANKED_FREE_TIMINGS,
+                "2022-03-14", "2022-03-16", 2, 2)
+                + "2022-03-14 00:00-08:00\n"
+                + "2022-03-15 00:00-08:00\n";
+        assertCommandSuccess(new FindCommonTimingCommand(predicate, LocalDate.parse("2022-03-14"),
+                LocalDate.parse("2022-03-16"), Duration.ofHours(8)), teamModel, expectedMessage, expectedTeamModel);
+
+        assertCommandSuccess(new FindCommonTimingCommand(predicate, LocalDate.parse("2022-03-16"),
+                LocalDate.parse("2022-03-16"), Duration.ofMinutes(30)), teamModel,
+                FindCommonTimingCommand.MESSAGE_NO_FREE_TIMINGS, expectedTeamModel);
+    }
+
+    @Test
+    public void execute_noEvents_wholeDayFree() {
+        Person person = new PersonBuilder().withTags("team").build();
+        Model teamModel = getModelWith(person);
+        IsTagInPersonPredicate predicate = new IsTagInPersonPredicate(new Tag("team"));
+        Model expectedTeamModel = getFilteredCopy(teamModel, predicate);
+
+        assertCommandSuccess(new FindCommonTimingCommand(predicate, LocalDate.parse("2022-03-14")), teamModel,
+                FindCommonTimingCommand.MESSAGE_WHOLE_DAY_FREE, expectedTeamModel);
+    }
+
+    @Test
+    public void execute_fullDayEvent_noFreeTimings() {
+        Person person = new PersonBuilder().withTags("team")
+                .withEvent("Camp", "2022-03-13", "12:00", "48H", "NONE").build();
+        Model teamModel = getModelWith(person);
+        IsTagInPersonPredicate predicate = new IsTagInPersonPredicate(new Tag("team"));
+        Model expectedTeamModel = getFilteredCopy(teamModel, predicate);
+
+        assertCommandSuccess(new FindCommonTimingCommand(predicate, LocalDate.parse("2022-03-14")), teamModel,
+                FindCommonTimingCommand.MESSAGE_NO_FREE_TIMINGS, expectedTeamModel);
+    }
+
+    @Test
+    public void execute_tagNotPresent_throwsCommandException() {
+        IsTagInPersonPredicate predicate = new IsTagInPersonPredicate(new Tag("nobody"));
+        assertCommandFailure(new FindCommonTimingCommand(predicate, LocalDate.parse("2022-03-14")), model,
+                FindCommonTimingCommand.TAG_NOT_PRESENT_ERROR_MESSAGE);
+    }
 }
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TestUtil.getFilteredCopy;
+import static seedu.address.testutil.TestUtil.getModelWith;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.IsTagInPersonPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SuggestMeetingCommand}.
+ */
+class SuggestMeetingCommandTest {
+    private static final LocalDate DATE = LocalDate.parse("2022-03-14");
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final IsTagInPersonPredicate predicate = new IsTagInPersonPredicate(new Tag("team"));
+
+    @Test
+    public void equals() {
+        SuggestMeetingCommand command = new SuggestMeetingCommand(predicate, DATE, DATE, Duration.ofHours(1), 80);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new SuggestMeetingCommand(predicate, DATE, DATE, Duration.ofHours(1), 80)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new SuggestMeetingCommand(predicate, DATE, DATE.plusDays(1),
+                Duration.ofHours(1), 80)));
+        assertFalse(command.equals(new SuggestMeetingCommand(predicate, DATE, DATE, Duration.ofHours(2), 80)));
+        assertFalse(command.equals(new SuggestMeetingCommand(predicate, DATE, DATE, Duration.ofHours(1), 50)));
+    }
+
+    @Test
+    public void execute_quorum_suggestsBestTimes() {
+        Person first = new PersonBuilder().withName("First").withPhone("91111111").withTags("team")
+                .withEvent("Sleep", "2022-03-14", "00:00", "9H", "NONE")
+                .withEvent("Work", "2022-03-14", "11:00", "13H", "NONE").build();
+        Person second = new PersonBuilder().withName("Second").withPhone("92222222").withTags("team")
+                .withEvent("Sleep", "2022-03-14", "00:00", "10H", "NONE")
+                .withEvent("Work", "2022-03-14", "12:00", "12H", "NONE").build();
+        Person third = new PersonBuilder().withName("Third").withPhone("93333333").withTags("team")
+                .withEvent("Trip", "2022-03-13", "00:00", "72H", "NONE").build();
+        Model teamModel = getModelWith(first, second, third);
+        Model expectedTeamModel = getFilteredCopy(teamModel, predicate);
+
+        String expectedMessage = String.format(SuggestMeetingCommand.MESSAGE_SUGGESTIONS, "1h", DATE, DATE, 1)
+                + "2022-03-14 10:00-11:00 (2 of 3 contacts free)\n";
+        assertCommandSuccess(new SuggestMeetingCommand(predicate, DATE, DATE, Duration.ofHours(1), 60),
+                teamModel, expectedMessage, expectedTeamModel);
+
+        expectedMessage = String.format(SuggestMeetingCommand.MESSAGE_SUGGESTIONS, "1h30m", DATE, DATE, 4)
+                + "2022-03-14 09:00-10:30 (1 of 3 contacts free)\n"
+                + "2022-03-14 09:30-11:00 (1 of 3 contacts free)\n"
+                + "2022-03-14 10:00-11:30 (1 of 3 contacts free)\n"
+                + "2022-03-14 10:30-12:00 (1 of 3 contacts free)\n";
+        assertCommandSuccess(new SuggestMeetingCommand(predicate, DATE, DATE, Duration.ofMinutes(90),
+                SuggestMeetingCommand.NO_QUORUM), teamModel, expectedMessage, expectedTeamModel);
+
+        assertCommandSuccess(new SuggestMeetingCommand(predicate, DATE, DATE, Duration.ofHours(1), 100),
+                teamModel, SuggestMeetingCommand.MESSAGE_NO_SUGGESTIONS, expectedTeamModel);
+    }
+
+    @Test
+    public void execute_tagNotPresent_throwsCommandException() {
+        assertCommandFailure(new SuggestMeetingCommand(new IsTagInPersonPredicate(new Tag("nobody")), DATE, DATE,
+                Duration.ofHours(1), SuggestMeetingCommand.NO_QUORUM), model,
+                FindCommonTimingCommand.TAG_NOT_PRESENT_ERROR_MESSAGE);
+    }
+}
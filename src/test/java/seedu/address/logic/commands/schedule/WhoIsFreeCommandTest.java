@@ -5,12 +5,18 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalSchedule.SE_TUTORIAL;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -23,6 +29,7 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Tag;
 import seedu.address.model.schedule.IsPersonFreePredicate;
+import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 /**
@@ -113,4 +120,38 @@ class WhoIsFreeCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
     }
+
+    @Test
+    public void execute_tags_freePersonsWithAnyTagFound() throws Exception {
+        // the typical schedule of Alice has the tutorial
+        Person georgeWithTags = new PersonBuilder(GEORGE).withTags("owesMoney", "friends").build();
+        Model tagModel = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(georgeWithTags)
+                .withPerson(CARL).build(), new UserPrefs());
+        Set<Tag> tags = new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("owesMoney")));
+        IsPersonFreePredicate predicate = new IsPersonFreePredicate(SE_TUTORIAL.getTime(), SE_TUTORIAL.getDate(), tags);
+
+        new WhoIsFreeCommand(predicate).execute(tagModel);
+
+        // George has both tags but is found once, and Carl has neither tag
+        assertEquals(Arrays.asList(georgeWithTags), tagModel.getFilteredPersonList());
+
+        // persons edited afterwards are still tested
+        Person carlWithTag = new PersonBuilder(CARL).withTags("friends").build();
+        tagModel.setPerson(CARL, carlWithTag);
+        assertEquals(Arrays.asList(georgeWithTags, carlWithTag), tagModel.getFilteredPersonList());
+    }
+
+    @Test
+    public void getPreviewCandidates_tags_onlyPersonsWithAnyTag() {
+        Set<Tag> tags = new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("owesMoney")));
+        WhoIsFreeCommand command = new WhoIsFreeCommand(
+                new IsPersonFreePredicate(SE_TUTORIAL.getTime(), SE_TUTORIAL.getDate(), tags));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON, DANIEL)),
+                new HashSet<>(command.getPreviewCandidates(model)));
+
+        // without tags, every person may be free
+        WhoIsFreeCommand commandWithoutTags = new WhoIsFreeCommand(
+                new IsPersonFreePredicate(SE_TUTORIAL.getTime(), SE_TUTORIAL.getDate(), emptyTags));
+        assertEquals(model.getAddressBook().getPersonList(), commandWithoutTags.getPreviewCandidates(model));
+    }
 }
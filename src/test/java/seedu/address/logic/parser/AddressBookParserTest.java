@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FILEPATH;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
@@ -16,6 +17,7 @@ import static seedu.address.testutil.TypicalSchedule.TYPICAL_PATH;
 import static seedu.address.testutil.TypicalSchedule.TYPICAL_TIME;
 
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -27,6 +29,7 @@ import seedu.address.logic.EditUtil.EditEventDescriptor;
 import seedu.address.logic.EditUtil.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.RunScriptCommand;
 import seedu.address.logic.commands.person.AddCommand;
 import seedu.address.logic.commands.person.ClearCommand;
 import seedu.address.logic.commands.person.DeleteCommand;
@@ -37,11 +40,14 @@ import seedu.address.logic.commands.person.SetUserCommand;
 import seedu.address.logic.commands.person.ViewGroupCommand;
 import seedu.address.logic.commands.person.ViewScheduleCommand;
 import seedu.address.logic.commands.schedule.AddEventCommand;
+import seedu.address.logic.commands.schedule.BusyHeatmapCommand;
+import seedu.address.logic.commands.schedule.CheckConflictsCommand;
 import seedu.address.logic.commands.schedule.ClearScheduleCommand;
 import seedu.address.logic.commands.schedule.DeleteEventCommand;
 import seedu.address.logic.commands.schedule.EditEventCommand;
 import seedu.address.logic.commands.schedule.ExportScheduleCommand;
 import seedu.address.logic.commands.schedule.ImportScheduleCommand;
+import seedu.address.logic.commands.schedule.SuggestMeetingCommand;
 import seedu.address.logic.commands.schedule.WhoIsFreeCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.IsTagInPersonPredicate;
@@ -205,6 +211,34 @@ public class AddressBookParserTest {
         assertEquals(new ExportScheduleCommand(INDEX_FIRST_PERSON), command);
     }
 
+    @Test
+    public void parseCommand_busyHeatmap() throws Exception {
+        BusyHeatmapCommand command = (BusyHeatmapCommand) parser.parseCommand(
+                BusyHeatmapCommand.COMMAND_WORD + " " + PREFIX_TAG + "friends " + PREFIX_DATE + TYPICAL_DATE
+        );
+        assertEquals(new BusyHeatmapCommand(new IsTagInPersonPredicate(new Tag("friends")), TYPICAL_DATE,
+                TYPICAL_DATE), command);
+    }
+
+    @Test
+    public void parseCommand_suggestMeeting() throws Exception {
+        SuggestMeetingCommand command = (SuggestMeetingCommand) parser.parseCommand(
+                SuggestMeetingCommand.COMMAND_WORD + " " + PREFIX_TAG + "friends " + PREFIX_DATE + TYPICAL_DATE
+                        + " " + PREFIX_DURATION + "1h"
+        );
+        assertEquals(new SuggestMeetingCommand(new IsTagInPersonPredicate(new Tag("friends")), TYPICAL_DATE,
+                TYPICAL_DATE, Duration.ofHours(1), SuggestMeetingCommand.NO_QUORUM), command);
+    }
+
+    @Test
+    public void parseCommand_checkConflicts() throws Exception {
+        CheckConflictsCommand command = (CheckConflictsCommand) parser.parseCommand(
+                CheckConflictsCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased() + " "
+                        + PREFIX_DATE + TYPICAL_DATE + " " + PREFIX_DATE + TYPICAL_DATE
+        );
+        assertEquals(new CheckConflictsCommand(INDEX_FIRST_PERSON, TYPICAL_DATE, TYPICAL_DATE), command);
+    }
+
     @Test
     public void parseCommand_importSchedule() throws Exception {
         ImportScheduleCommand command = (ImportScheduleCommand) parser.parseCommand(
@@ -222,6 +256,14 @@ public class AddressBookParserTest {
         assertEquals(new SetUserCommand(INDEX_FIRST_PERSON), command);
     }
 
+    @Test
+    public void parseCommand_runScript() throws Exception {
+        RunScriptCommand command = (RunScriptCommand) parser.parseCommand(
+                RunScriptCommand.COMMAND_WORD + " " + PREFIX_FILEPATH + TYPICAL_PATH
+        );
+        assertEquals(new RunScriptCommand(Paths.get(TYPICAL_PATH)), command);
+    }
+
     @Test
     public void parseCommand_allLowerCase_success() throws ParseException {
         // addEvent
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -459,4 +460,19 @@ public class ParserUtilTest {
         RecurFrequency expectedRecurFrequency = RecurFrequency.BIWEEKLY;
         assertEquals(expectedRecurFrequency, ParserUtil.parseRecurFrequency(VALID_RECUR_FREQUENCY));
     }
+
+    @Test
+    public void parseFlag_flagWithValue_throwsParseException() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" nc/foo", CliSyntax.PREFIX_NO_CONFLICTS);
+        assertThrows(ParseException.class, () -> ParserUtil.parseFlag(argMultimap, CliSyntax.PREFIX_NO_CONFLICTS));
+    }
+
+    @Test
+    public void parseFlag_flagWithoutValue_returnsWhetherGiven() throws Exception {
+        ArgumentMultimap withFlag = ArgumentTokenizer.tokenize(" nc/ ", CliSyntax.PREFIX_NO_CONFLICTS);
+        assertTrue(ParserUtil.parseFlag(withFlag, CliSyntax.PREFIX_NO_CONFLICTS));
+
+        ArgumentMultimap withoutFlag = ArgumentTokenizer.tokenize(" ", CliSyntax.PREFIX_NO_CONFLICTS);
+        assertFalse(ParserUtil.parseFlag(withoutFlag, CliSyntax.PREFIX_NO_CONFLICTS));
+    }
 }
@@ -15,8 +15,10 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_DESCRIPTI
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_DURATION;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_TIME;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_RECUR_FREQUENCY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NO_CONFLICTS;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_FLAG_WITH_VALUE;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
 import org.junit.jupiter.api.Test;
@@ -49,6 +51,10 @@ class AddEventCommandParserTest {
         AddEventCommand expectedCommand = new AddEventCommand(targetIndex, event);
 
         assertParseSuccess(parser, userInput, expectedCommand);
+
+        // rejecting conflicts
+        assertParseSuccess(parser, userInput + " " + PREFIX_NO_CONFLICTS,
+                new AddEventCommand(targetIndex, event, true));
     }
 
     @Test
@@ -68,6 +74,10 @@ class AddEventCommandParserTest {
         //invalid duration
         assertParseFailure(parser, "1 " + EVENT_DESCRIPTION_DESC_CS2101 + DATE_DESC_PI_DAY + TIME_DESC_MORNING
                 + INVALID_DURATION_DESC, Event.DURATION_MESSAGE_CONSTRAINTS);
+
+        //no conflicts flag with a value
+        assertParseFailure(parser, "1 " + EVENT_DESCRIPTION_DESC_CS2101 + DATE_DESC_PI_DAY + " "
+                + PREFIX_NO_CONFLICTS + "foo", String.format(MESSAGE_FLAG_WITH_VALUE, PREFIX_NO_CONFLICTS));
     }
 
     @Test
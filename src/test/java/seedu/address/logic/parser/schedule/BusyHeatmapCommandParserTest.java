@@ -0,0 +1,59 @@
+package seedu.address.logic.parser.schedule;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.DATE_DESC_PI_DAY;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_EVENT_DATE_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_DATE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.schedule.BusyHeatmapCommand;
+import seedu.address.model.person.IsTagInPersonPredicate;
+import seedu.address.model.person.Tag;
+import seedu.address.model.schedule.Event;
+
+class BusyHeatmapCommandParserTest {
+
+    private static final String END_DATE_DESC = " " + PREFIX_DATE + "2022-03-20";
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, BusyHeatmapCommand.MESSAGE_USAGE);
+
+    private final BusyHeatmapCommandParser parser = new BusyHeatmapCommandParser();
+    private final IsTagInPersonPredicate predicate = new IsTagInPersonPredicate(new Tag(VALID_TAG_FRIEND));
+    private final LocalDate startDate = LocalDate.parse(VALID_EVENT_DATE);
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, TAG_DESC_FRIEND + DATE_DESC_PI_DAY,
+                new BusyHeatmapCommand(predicate, startDate, startDate));
+        assertParseSuccess(parser, TAG_DESC_FRIEND + DATE_DESC_PI_DAY + END_DATE_DESC,
+                new BusyHeatmapCommand(predicate, startDate, LocalDate.parse("2022-03-20")));
+    }
+
+    @Test
+    public void parse_missingOrExtraFields_failure() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, TAG_DESC_FRIEND, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, DATE_DESC_PI_DAY, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "preamble" + TAG_DESC_FRIEND + DATE_DESC_PI_DAY, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, TAG_DESC_FRIEND + DATE_DESC_PI_DAY + END_DATE_DESC + END_DATE_DESC,
+                MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, TAG_DESC_FRIEND + INVALID_EVENT_DATE_DESC, Event.DATE_MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, TAG_DESC_FRIEND + END_DATE_DESC + DATE_DESC_PI_DAY,
+                FindCommonTimingCommandParser.MESSAGE_END_DATE_BEFORE_START_DATE);
+        assertParseFailure(parser, TAG_DESC_FRIEND + DATE_DESC_PI_DAY + " " + PREFIX_DATE + "2022-03-21",
+                String.format(FindCommonTimingCommandParser.MESSAGE_RANGE_TOO_LONG,
+                        BusyHeatmapCommandParser.MAX_DAYS_IN_HEATMAP));
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.logic.parser.schedule;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.DATE_DESC_PI_DAY;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_EVENT_DATE_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.schedule.FindCommonTimingCommandParser.MAX_DAYS_IN_RANGE;
+import static seedu.address.logic.parser.schedule.FindCommonTimingCommandParser.MESSAGE_END_DATE_BEFORE_START_DATE;
+import static seedu.address.logic.parser.schedule.FindCommonTimingCommandParser.MESSAGE_RANGE_TOO_LONG;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.schedule.CheckConflictsCommand;
+import seedu.address.model.schedule.ConflictDetector;
+import seedu.address.model.schedule.Event;
+
+class CheckConflictsCommandParserTest {
+
+    private static final String END_DATE_DESC = " " + PREFIX_DATE + "2022-03-20";
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, CheckConflictsCommand.MESSAGE_USAGE);
+
+    private final CheckConflictsCommandParser parser = new CheckConflictsCommandParser();
+    private final LocalDate startDate = LocalDate.parse(VALID_EVENT_DATE);
+
+    @Test
+    public void parse_dateRange_success() {
+        assertParseSuccess(parser, "1" + DATE_DESC_PI_DAY + END_DATE_DESC,
+                new CheckConflictsCommand(INDEX_FIRST_PERSON, startDate, LocalDate.parse("2022-03-20")));
+    }
+
+    @Test
+    public void parse_startDateOnly_defaultHorizon() {
+        assertParseSuccess(parser, "1" + DATE_DESC_PI_DAY, new CheckConflictsCommand(INDEX_FIRST_PERSON, startDate,
+                startDate.plusDays(ConflictDetector.DEFAULT_HORIZON_DAYS)));
+    }
+
+    @Test
+    public void parse_invalidFields_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "0" + DATE_DESC_PI_DAY, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1" + DATE_DESC_PI_DAY + END_DATE_DESC + END_DATE_DESC, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1" + INVALID_EVENT_DATE_DESC, Event.DATE_MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_invalidRange_failure() {
+        assertParseFailure(parser, "1" + END_DATE_DESC + DATE_DESC_PI_DAY, MESSAGE_END_DATE_BEFORE_START_DATE);
+        assertParseFailure(parser, "1" + DATE_DESC_PI_DAY + " " + PREFIX_DATE
+                + startDate.plusDays(MAX_DAYS_IN_RANGE), String.format(MESSAGE_RANGE_TOO_LONG, MAX_DAYS_IN_RANGE));
+    }
+}
@@ -16,8 +16,10 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_DESCRIPTI
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_DURATION;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_TIME;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_RECUR_FREQUENCY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NO_CONFLICTS;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_FLAG_WITH_VALUE;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_EVENT;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_HENDRI;
@@ -92,6 +94,10 @@ class EditEventCommandParserTest {
         assertParseFailure(parser, "1 1" + INVALID_RECUR_FREQUENCY_DESC,
                 RecurFrequency.INVALID_RECUR_FREQUENCY_MESSAGE);
 
+        // no conflicts flag with a value
+        assertParseFailure(parser, "1 1" + DATE_DESC_PI_DAY + " " + PREFIX_NO_CONFLICTS + "foo",
+                String.format(MESSAGE_FLAG_WITH_VALUE, PREFIX_NO_CONFLICTS));
+
         // invalid event description followed by valid time
         assertParseFailure(parser, "1 1" + INVALID_EVENT_DESCRIPTION_DESC + TIME_DESC_MORNING,
                 EventDescription.MESSAGE_CONSTRAINTS);
@@ -120,6 +126,10 @@ class EditEventCommandParserTest {
         EditEventCommand expectedCommand = new EditEventCommand(targetIndex, INDEX_FIRST_EVENT, descriptor);
 
         assertParseSuccess(parser, userInput, expectedCommand);
+
+        // rejecting conflicts
+        assertParseSuccess(parser, userInput + " " + PREFIX_NO_CONFLICTS,
+                new EditEventCommand(targetIndex, INDEX_FIRST_EVENT, descriptor, true));
     }
 
     @Test
@@ -0,0 +1,77 @@
+package seedu.address.logic.parser.schedule;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.DATE_DESC_PI_DAY;
+import static seedu.address.logic.commands.CommandTestUtil.DURATION_DESC_TWO_HOURS;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_DURATION_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_EVENT_DATE_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_DATE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.schedule.FindCommonTimingCommand;
+import seedu.address.model.person.IsTagInPersonPredicate;
+import seedu.address.model.person.Tag;
+import seedu.address.model.schedule.Event;
+
+class FindCommonTimingCommandParserTest {
+
+    private static final String END_DATE_DESC = " " + PREFIX_DATE + "2022-03-20";
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommonTimingCommand.MESSAGE_USAGE);
+
+    private final FindCommonTimingCommandParser parser = new FindCommonTimingCommandParser();
+    private final IsTagInPersonPredicate predicate = new IsTagInPersonPredicate(new Tag(VALID_TAG_FRIEND));
+    private final LocalDate startDate = LocalDate.parse(VALID_EVENT_DATE);
+
+    @Test
+    public void parse_singleDate_success() {
+        assertParseSuccess(parser, TAG_DESC_FRIEND + DATE_DESC_PI_DAY,
+                new FindCommonTimingCommand(predicate, startDate));
+    }
+
+    @Test
+    public void parse_dateRange_success() {
+        LocalDate endDate = LocalDate.parse("2022-03-20");
+        assertParseSuccess(parser, TAG_DESC_FRIEND + DATE_DESC_PI_DAY + END_DATE_DESC,
+                new FindCommonTimingCommand(predicate, startDate, endDate, Duration.ZERO));
+
+        // with minimum duration
+        assertParseSuccess(parser, TAG_DESC_FRIEND + DATE_DESC_PI_DAY + END_DATE_DESC + DURATION_DESC_TWO_HOURS,
+                new FindCommonTimingCommand(predicate, startDate, endDate, Duration.ofHours(2)));
+
+        // single date with minimum duration
+        assertParseSuccess(parser, TAG_DESC_FRIEND + DATE_DESC_PI_DAY + DURATION_DESC_TWO_HOURS,
+                new FindCommonTimingCommand(predicate, startDate, startDate, Duration.ofHours(2)));
+    }
+
+    @Test
+    public void parse_missingOrExtraFields_failure() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, TAG_DESC_FRIEND, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, DATE_DESC_PI_DAY, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "preamble" + TAG_DESC_FRIEND + DATE_DESC_PI_DAY, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, TAG_DESC_FRIEND + DATE_DESC_PI_DAY + END_DATE_DESC + END_DATE_DESC,
+                MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, TAG_DESC_FRIEND + INVALID_EVENT_DATE_DESC, Event.DATE_MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, TAG_DESC_FRIEND + DATE_DESC_PI_DAY + INVALID_DURATION_DESC,
+                Event.DURATION_MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, TAG_DESC_FRIEND + END_DATE_DESC + DATE_DESC_PI_DAY,
+                FindCommonTimingCommandParser.MESSAGE_END_DATE_BEFORE_START_DATE);
+        assertParseFailure(parser, TAG_DESC_FRIEND + DATE_DESC_PI_DAY + " " + PREFIX_DATE + "2023-03-15",
+                String.format(FindCommonTimingCommandParser.MESSAGE_RANGE_TOO_LONG,
+                        FindCommonTimingCommandParser.MAX_DAYS_IN_RANGE));
+    }
+}
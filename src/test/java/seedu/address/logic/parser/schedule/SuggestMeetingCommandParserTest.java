@@ -0,0 +1,73 @@
+package seedu.address.logic.parser.schedule;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.DATE_DESC_PI_DAY;
+import static seedu.address.logic.commands.CommandTestUtil.DURATION_DESC_TWO_HOURS;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_DURATION_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_DATE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUORUM;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.schedule.SuggestMeetingCommand;
+import seedu.address.model.person.IsTagInPersonPredicate;
+import seedu.address.model.person.Tag;
+import seedu.address.model.schedule.Event;
+
+class SuggestMeetingCommandParserTest {
+
+    private static final String END_DATE_DESC = " " + PREFIX_DATE + "2022-03-20";
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SuggestMeetingCommand.MESSAGE_USAGE);
+
+    private final SuggestMeetingCommandParser parser = new SuggestMeetingCommandParser();
+    private final IsTagInPersonPredicate predicate = new IsTagInPersonPredicate(new Tag(VALID_TAG_FRIEND));
+    private final LocalDate startDate = LocalDate.parse(VALID_EVENT_DATE);
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, TAG_DESC_FRIEND + DATE_DESC_PI_DAY + DURATION_DESC_TWO_HOURS,
+                new SuggestMeetingCommand(predicate, startDate, startDate, Duration.ofHours(2),
+                        SuggestMeetingCommand.NO_QUORUM));
+
+        // with end date and quorum
+        SuggestMeetingCommand expectedCommand = new SuggestMeetingCommand(predicate, startDate,
+                LocalDate.parse("2022-03-20"), Duration.ofHours(2), 80);
+        assertParseSuccess(parser, TAG_DESC_FRIEND + DATE_DESC_PI_DAY + END_DATE_DESC + DURATION_DESC_TWO_HOURS
+                + " " + PREFIX_QUORUM + "80", expectedCommand);
+        assertParseSuccess(parser, TAG_DESC_FRIEND + DATE_DESC_PI_DAY + END_DATE_DESC + DURATION_DESC_TWO_HOURS
+                + " " + PREFIX_QUORUM + "80%", expectedCommand);
+    }
+
+    @Test
+    public void parse_missingOrExtraFields_failure() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, TAG_DESC_FRIEND + DATE_DESC_PI_DAY, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, TAG_DESC_FRIEND + DURATION_DESC_TWO_HOURS, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, DATE_DESC_PI_DAY + DURATION_DESC_TWO_HOURS, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "preamble" + TAG_DESC_FRIEND + DATE_DESC_PI_DAY + DURATION_DESC_TWO_HOURS,
+                MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, TAG_DESC_FRIEND + DATE_DESC_PI_DAY + INVALID_DURATION_DESC,
+                Event.DURATION_MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, TAG_DESC_FRIEND + END_DATE_DESC + DATE_DESC_PI_DAY + DURATION_DESC_TWO_HOURS,
+                FindCommonTimingCommandParser.MESSAGE_END_DATE_BEFORE_START_DATE);
+        assertParseFailure(parser, TAG_DESC_FRIEND + DATE_DESC_PI_DAY + DURATION_DESC_TWO_HOURS + " "
+                + PREFIX_QUORUM + "0", SuggestMeetingCommandParser.MESSAGE_INVALID_QUORUM);
+        assertParseFailure(parser, TAG_DESC_FRIEND + DATE_DESC_PI_DAY + DURATION_DESC_TWO_HOURS + " "
+                + PREFIX_QUORUM + "101%", SuggestMeetingCommandParser.MESSAGE_INVALID_QUORUM);
+        assertParseFailure(parser, TAG_DESC_FRIEND + DATE_DESC_PI_DAY + DURATION_DESC_TWO_HOURS + " "
+                + PREFIX_QUORUM + "half", SuggestMeetingCommandParser.MESSAGE_INVALID_QUORUM);
+    }
+}
@@ -4,21 +4,23 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Tag;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -78,6 +80,73 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getVersion_modifications_versionIncreases() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.insertPerson(ALICE, 0);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getVersion() > version);
+
+        // queries do not change the version
+        version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getPersonsWithTag_modifications_indexUpdated() {
+        Tag friends = new Tag("friends");
+        addressBook.addPerson(ALICE);
+        assertEquals(Collections.singleton(ALICE), addressBook.getPersonsWithTag(friends));
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(addressBook.getPersonsWithTag(friends).isEmpty());
+        assertEquals(Collections.singleton(editedAlice), addressBook.getPersonsWithTag(new Tag(VALID_TAG_HUSBAND)));
+
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.getPersonsWithTag(new Tag(VALID_TAG_HUSBAND)).isEmpty());
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook().getPersonList().stream().filter(person -> person.getTags()
+                .contains(friends)).collect(Collectors.toSet()), addressBook.getPersonsWithTag(friends));
+    }
+
+    @Test
+    public void getPersonsWithNameWord_modifications_indexUpdated() {
+        addressBook.addPerson(ALICE);
+        assertEquals(Collections.singleton(ALICE), addressBook.getPersonsWithNameWord("alice"));
+
+        Person editedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(addressBook.getPersonsWithNameWord("alice").isEmpty());
+        assertEquals(Collections.singleton(editedAlice), addressBook.getPersonsWithNameWord("BOB"));
+        assertEquals(Collections.singleton(editedAlice), addressBook.getPersonsWithNamePrefix("BO"));
+
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.getPersonsWithNameWord("bob").isEmpty());
+        assertTrue(addressBook.getPersonsWithNamePrefix("bo").isEmpty());
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Collections.singleton(ALICE), addressBook.getPersonsWithNameWord("Alice"));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -87,16 +156,21 @@ public class AddressBookTest {
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
     private static class AddressBookStub implements ReadOnlyAddressBook {
-        private final ObservableList<Person> persons = FXCollections.observableArrayList();
+        private final List<Person> persons;
 
         AddressBookStub(Collection<Person> persons) {
-            this.persons.setAll(persons);
+            this.persons = new ArrayList<>(persons);
         }
 
         @Override
-        public ObservableList<Person> getPersonList() {
+        public List<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
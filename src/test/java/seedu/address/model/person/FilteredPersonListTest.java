@@ -0,0 +1,150 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class FilteredPersonListTest {
+
+    private static final Predicate<Person> IS_MEIER = person -> person.getName().value.contains("Meier");
+
+    private final UniquePersonList source = new UniquePersonList();
+
+    @Test
+    public void constructor_existingPersons_filtered() {
+        source.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        FilteredPersonList filtered = new FilteredPersonList(source.asUnmodifiableList(), IS_MEIER);
+        assertEquals(Arrays.asList(BENSON, DANIEL), filtered);
+    }
+
+    @Test
+    public void sourceChanged_nonMatchingPersons_noChangeReported() {
+        source.setPersons(Arrays.asList(ALICE, BENSON));
+        FilteredPersonList filtered = new FilteredPersonList(source.asUnmodifiableList(), IS_MEIER);
+        List<PersonListChange> changes = new ArrayList<>();
+        filtered.addListener(changes::add);
+
+        source.add(CARL);
+        source.remove(ALICE);
+
+        assertTrue(changes.isEmpty());
+        assertEquals(Collections.singletonList(BENSON), filtered);
+    }
+
+    @Test
+    public void sourceChanged_matchingPersons_changesReportedAtFilteredPositions() {
+        source.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        FilteredPersonList filtered = new FilteredPersonList(source.asUnmodifiableList(), IS_MEIER);
+        List<PersonListChange> changes = new ArrayList<>();
+        filtered.addListener(changes::add);
+
+        source.add(DANIEL);
+        source.insert(ELLE, 0);
+        source.remove(BENSON);
+
+        assertEquals(Arrays.asList(
+                PersonListChange.addition(1, DANIEL),
+                PersonListChange.removal(0, BENSON)), changes);
+        assertEquals(Collections.singletonList(DANIEL), filtered);
+    }
+
+    @Test
+    public void setPredicate_newPredicate_oneChangeReported() {
+        source.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        FilteredPersonList filtered = new FilteredPersonList(source.asUnmodifiableList(), IS_MEIER);
+        List<PersonListChange> changes = new ArrayList<>();
+        filtered.addListener(changes::add);
+
+        Predicate<Person> isAlice = ALICE::equals;
+        filtered.setPredicate(isAlice);
+
+        assertEquals(isAlice, filtered.getPredicate());
+        assertEquals(Collections.singletonList(ALICE), filtered);
+        assertEquals(Collections.singletonList(
+                new PersonListChange(0, Arrays.asList(BENSON, DANIEL), Collections.singletonList(ALICE))), changes);
+    }
+
+    @Test
+    public void setPredicateWithMatchingPersons_personsNotTested_shownInSourceOrder() {
+        source.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        FilteredPersonList filtered = new FilteredPersonList(source.asUnmodifiableList(), IS_MEIER);
+        List<PersonListChange> changes = new ArrayList<>();
+        filtered.addListener(changes::add);
+        List<Person> testedPersons = new ArrayList<>();
+        Predicate<Person> isAliceCarlOrElle = person -> {
+            testedPersons.add(person);
+            return person.equals(ALICE) || person.equals(CARL) || person.equals(ELLE);
+        };
+
+        // out of order, repeated, and not in the source list
+        filtered.setPredicate(isAliceCarlOrElle, Arrays.asList(CARL, ALICE, CARL, ELLE));
+
+        assertTrue(testedPersons.isEmpty());
+        assertEquals(isAliceCarlOrElle, filtered.getPredicate());
+        assertEquals(Arrays.asList(ALICE, CARL), filtered);
+        assertEquals(Collections.singletonList(
+                new PersonListChange(0, Arrays.asList(BENSON, DANIEL), Arrays.asList(ALICE, CARL))), changes);
+    }
+
+    @Test
+    public void setPredicateWithMatchingPersons_sourceChanged_addedPersonsTested() {
+        source.setPersons(Arrays.asList(ALICE, BENSON));
+        FilteredPersonList filtered = new FilteredPersonList(source.asUnmodifiableList(), IS_MEIER);
+        filtered.setPredicate(IS_MEIER, Collections.singletonList(BENSON));
+
+        source.add(CARL);
+        source.add(DANIEL);
+        source.remove(BENSON);
+
+        assertEquals(Collections.singletonList(DANIEL), filtered);
+    }
+
+    @Test
+    public void sourceChanged_randomModifications_matchesFilteringAgainAndChangesReplayed() {
+        List<Person> typicalPersons = getTypicalPersons();
+        FilteredPersonList filtered = new FilteredPersonList(source.asUnmodifiableList(), IS_MEIER);
+        List<Person> replayed = new ArrayList<>();
+        filtered.addListener(change -> {
+            replayed.subList(change.getFrom(), change.getFrom() + change.getRemoved().size()).clear();
+            replayed.addAll(change.getFrom(), change.getAdded());
+        });
+
+        Random random = new Random(0);
+        for (int i = 0; i < 500; i++) {
+            Person person = typicalPersons.get(random.nextInt(typicalPersons.size()));
+            if (source.contains(person)) {
+                source.remove(person);
+            } else if (random.nextBoolean() || source.asUnmodifiableList().isEmpty()) {
+                source.add(person);
+            } else {
+                source.insert(person, random.nextInt(source.asUnmodifiableList().size()));
+            }
+
+            List<Person> expected = source.asUnmodifiableList().stream().filter(IS_MEIER).collect(Collectors.toList());
+            assertEquals(expected, filtered);
+            assertEquals(expected, replayed);
+        }
+    }
+
+    @Test
+    public void modifyList_throwsUnsupportedOperationException() {
+        FilteredPersonList filtered = new FilteredPersonList(source.asUnmodifiableList(), IS_MEIER);
+        assertThrows(UnsupportedOperationException.class, () -> filtered.add(ALICE));
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameIndexTest {
+
+    private final NameIndex nameIndex = new NameIndex();
+
+    @Test
+    public void getPersonsWithWord_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.getPersonsWithWord(null));
+    }
+
+    @Test
+    public void getPersonsWithWord_wholeWordIgnoringCase_found() {
+        nameIndex.add(BENSON);
+        nameIndex.add(DANIEL);
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)), nameIndex.getPersonsWithWord("MEIER"));
+        assertEquals(Collections.singleton(DANIEL), nameIndex.getPersonsWithWord("daniel"));
+
+        // not a whole word
+        assertTrue(nameIndex.getPersonsWithWord("Meie").isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithWordPrefix_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.getPersonsWithWordPrefix(null));
+    }
+
+    @Test
+    public void getPersonsWithWordPrefix_prefixIgnoringCase_found() {
+        Person meyer = new PersonBuilder().withName("Anna Meyer").build();
+        nameIndex.add(BENSON);
+        nameIndex.add(DANIEL);
+        nameIndex.add(meyer);
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)), nameIndex.getPersonsWithWordPrefix("MEI"));
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL, meyer)), nameIndex.getPersonsWithWordPrefix("me"));
+
+        // whole word
+        assertEquals(Collections.singleton(DANIEL), nameIndex.getPersonsWithWordPrefix("daniel"));
+
+        // no word with the prefix
+        assertTrue(nameIndex.getPersonsWithWordPrefix("meiers").isEmpty());
+        assertTrue(nameIndex.getPersonsWithWordPrefix("z").isEmpty());
+    }
+
+    @Test
+    public void remove_lastPersonWithWord_wordRemoved() {
+        nameIndex.add(BENSON);
+        nameIndex.add(DANIEL);
+        nameIndex.remove(DANIEL);
+        assertEquals(Collections.singleton(BENSON), nameIndex.getPersonsWithWord("meier"));
+        assertTrue(nameIndex.getPersonsWithWord("daniel").isEmpty());
+    }
+
+    @Test
+    public void remove_editedPerson_indexedByNewName() {
+        Person editedDaniel = new PersonBuilder(DANIEL).withName("Daniel Tan").build();
+        nameIndex.add(DANIEL);
+        nameIndex.remove(DANIEL);
+        nameIndex.add(editedDaniel);
+        assertTrue(nameIndex.getPersonsWithWord("meier").isEmpty());
+        assertEquals(Collections.singleton(editedDaniel), nameIndex.getPersonsWithWord("tan"));
+    }
+
+    @Test
+    public void clear_indexedPersons_noPersonsWithWord() {
+        nameIndex.add(BENSON);
+        nameIndex.clear();
+        assertTrue(nameIndex.getPersonsWithWord("benson").isEmpty());
+        assertTrue(nameIndex.getPersonsWithWord("meier").isEmpty());
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -38,4 +41,20 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("O".repeat(30))); // maximum length name
     }
+
+    @Test
+    public void getWords() {
+        assertEquals(Arrays.asList("peter"), new Name("Peter").getWords());
+        assertEquals(Arrays.asList("david", "roger", "jackson", "ray", "jr", "2nd"),
+                new Name("David Roger Jackson Ray Jr 2nd").getWords());
+        assertEquals(Arrays.asList("peter", "jack"), new Name("peter  JACK ").getWords()); // extra spaces
+    }
+
+    @Test
+    public void equalsAndHashCode_differentCase() {
+        Name lowerCase = new Name("peter jack");
+        Name mixedCase = new Name("Peter Jack");
+        assertTrue(lowerCase.equals(mixedCase));
+        assertEquals(lowerCase.hashCode(), mixedCase.hashCode());
+    }
 }
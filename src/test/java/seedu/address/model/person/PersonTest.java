@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
@@ -11,8 +12,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.schedule.Schedule;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -23,6 +28,29 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void getSchedule_scheduleLoader_loadedOnceOnFirstUse() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Person person = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getTelegram(), ALICE.getGithub(),
+                ALICE.getEmail(), ALICE.getAddress(), () -> {
+                    loadCount.incrementAndGet();
+                    return ALICE.getSchedule();
+                }, ALICE.getTags());
+        assertEquals(0, loadCount.get());
+
+        assertEquals(ALICE.getSchedule(), person.getSchedule());
+        assertEquals(ALICE.getSchedule(), person.getSchedule());
+        assertEquals(1, loadCount.get());
+        assertEquals(ALICE, person);
+    }
+
+    @Test
+    public void constructor_nullScheduleLoader_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Person(ALICE.getName(), ALICE.getPhone(),
+                ALICE.getTelegram(), ALICE.getGithub(), ALICE.getEmail(), ALICE.getAddress(),
+                (Supplier<Schedule>) null, ALICE.getTags()));
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
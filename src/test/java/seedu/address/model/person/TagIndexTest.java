@@ -0,0 +1,74 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    @Test
+    public void getPersonsWithTag_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tagIndex.getPersonsWithTag(null));
+    }
+
+    @Test
+    public void getPersonsWithTag_tagOfNoPerson_returnsEmptySet() {
+        tagIndex.add(ALICE);
+        assertTrue(tagIndex.getPersonsWithTag(OWES_MONEY).isEmpty());
+    }
+
+    @Test
+    public void add_personsWithTags_indexedByEachTag() {
+        tagIndex.add(ALICE);
+        tagIndex.add(BENSON);
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON)), tagIndex.getPersonsWithTag(FRIENDS));
+        assertEquals(Collections.singleton(BENSON), tagIndex.getPersonsWithTag(OWES_MONEY));
+    }
+
+    @Test
+    public void remove_lastPersonWithTag_tagRemoved() {
+        tagIndex.add(ALICE);
+        tagIndex.add(BENSON);
+        tagIndex.remove(BENSON);
+        assertEquals(Collections.singleton(ALICE), tagIndex.getPersonsWithTag(FRIENDS));
+        assertTrue(tagIndex.getPersonsWithTag(OWES_MONEY).isEmpty());
+    }
+
+    @Test
+    public void remove_editedPerson_indexedByNewTags() {
+        Person editedAlice = new PersonBuilder(ALICE).withTags("owesMoney").build();
+        tagIndex.add(ALICE);
+        tagIndex.remove(ALICE);
+        tagIndex.add(editedAlice);
+        assertTrue(tagIndex.getPersonsWithTag(FRIENDS).isEmpty());
+        assertEquals(Collections.singleton(editedAlice), tagIndex.getPersonsWithTag(OWES_MONEY));
+    }
+
+    @Test
+    public void clear_indexedPersons_noPersonsWithTag() {
+        tagIndex.add(ALICE);
+        tagIndex.clear();
+        assertTrue(tagIndex.getPersonsWithTag(FRIENDS).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithTag_modifySet_throwsUnsupportedOperationException() {
+        tagIndex.add(ALICE);
+        assertThrows(UnsupportedOperationException.class, () -> tagIndex.getPersonsWithTag(FRIENDS).clear());
+    }
+}
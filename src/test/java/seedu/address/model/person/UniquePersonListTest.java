@@ -7,8 +7,13 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -47,6 +52,13 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentlyCasedNameInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().value.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -163,8 +175,83 @@ public class UniquePersonListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+    public void insertSetAndRemove_afterPersonsMove_updatesCorrectPositions() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.insert(BOB, 0);
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(BOB, ALICE, BENSON, editedCarl), uniquePersonList.asUnmodifiableList());
+
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(DANIEL);
+        uniquePersonList.setPerson(DANIEL, ELLE);
+        uniquePersonList.remove(ELLE);
+        uniquePersonList.setPerson(BENSON, ALICE);
+        assertEquals(Arrays.asList(BOB, ALICE, editedCarl), uniquePersonList.asUnmodifiableList());
+        assertFalse(uniquePersonList.contains(BENSON));
+        assertFalse(uniquePersonList.contains(ELLE));
+        assertTrue(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void removeInsertAndSet_interleavedInMiddle_positionsStayCorrect() {
+        List<Person> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            expected.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i)).build());
+        }
+        uniquePersonList.setPersons(expected);
+
+        for (int i = 0; i < 6; i++) {
+            // the persons after a person removed or inserted in the middle move, and are then edited by their position
+            Person removed = expected.remove(expected.size() / 2);
+            uniquePersonList.remove(removed);
+            for (int index : new int[] {expected.size() / 2 - 1, expected.size() / 2, expected.size() - 1, 0}) {
+                Person edited = new PersonBuilder(expected.get(index)).withAddress("Edit " + i).build();
+                uniquePersonList.setPerson(expected.get(index), edited);
+                expected.set(index, edited);
+            }
+            uniquePersonList.insert(removed, 1);
+            expected.add(1, removed);
+            uniquePersonList.setPerson(expected.get(2), new PersonBuilder(expected.get(2)).withTags("moved").build());
+            expected.set(2, new PersonBuilder(expected.get(2)).withTags("moved").build());
+            assertEquals(expected, uniquePersonList.asUnmodifiableList());
+        }
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, uniquePersonList.asUnmodifiableList().indexOf(expected.get(i)));
+        }
+    }
+
+    @Test
+    public void asUnmodifiableList_modifications_oneChangePerModification() {
+        List<PersonListChange> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableList().addListener(changes::add);
+
+        uniquePersonList.add(ALICE);
+        uniquePersonList.insert(BENSON, 0);
+        uniquePersonList.setPerson(ALICE, CARL);
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.setPersons(Arrays.asList(DANIEL, ELLE));
+
+        assertEquals(Arrays.asList(
+                PersonListChange.addition(0, ALICE),
+                PersonListChange.addition(0, BENSON),
+                new PersonListChange(1, Collections.singletonList(ALICE), Collections.singletonList(CARL)),
+                PersonListChange.removal(0, BENSON),
+                new PersonListChange(0, Collections.singletonList(CARL), Arrays.asList(DANIEL, ELLE))), changes);
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
+    @Test
+    public void asUnmodifiableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
-            -> uniquePersonList.asUnmodifiableObservableList().remove(0));
+            -> uniquePersonList.asUnmodifiableList().remove(0));
     }
 }
@@ -0,0 +1,76 @@
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EventBuilder;
+
+public class BusyHistogramTest {
+
+    private static final LocalDate START_DATE = LocalDate.parse("2022-03-14");
+    private static final LocalDate END_DATE = LocalDate.parse("2022-03-15");
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BusyHistogram(END_DATE, START_DATE, 30));
+        assertThrows(IllegalArgumentException.class, () -> new BusyHistogram(START_DATE, END_DATE, 7));
+    }
+
+    @Test
+    public void addSchedule_overlappingEvents_countedOnce() {
+        Schedule schedule = new Schedule(Arrays.asList(
+                new EventBuilder().withDate("2022-03-14").withTime("09:00").withDuration("1H")
+                        .withRecurFrequency("DAILY").build(),
+                new EventBuilder().withEventDescription("Meeting").withDate("2022-03-14").withTime("09:45")
+                        .withDuration("20M").withRecurFrequency("NONE").build()));
+        BusyHistogram histogram = new BusyHistogram(START_DATE, END_DATE, 30);
+        histogram.addSchedule(schedule);
+        histogram.addSchedule(schedule);
+
+        assertEquals(2, histogram.getScheduleCount());
+        assertEquals(0, histogram.getBusyCount(0, 17));
+        assertEquals(2, histogram.getBusyCount(0, 18));
+        assertEquals(2, histogram.getBusyCount(0, 19));
+        // the meeting ends at 10:05, which makes the slot from 10:00 busy
+        assertEquals(2, histogram.getBusyCount(0, 20));
+        assertEquals(0, histogram.getBusyCount(0, 21));
+        assertEquals(2, histogram.getBusyCount(1, 19));
+        assertEquals(0, histogram.getBusyCount(1, 20));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getBusyCount(2, 0));
+    }
+
+    @Test
+    public void addSchedule_eventOutsideRange_notCounted() {
+        Schedule schedule = new Schedule(Collections.singletonList(new EventBuilder().withDate("2022-03-13")
+                .withTime("23:00").withDuration("2H").withRecurFrequency("NONE").build()));
+        BusyHistogram histogram = new BusyHistogram(START_DATE, START_DATE, 30);
+        histogram.addSchedule(schedule);
+
+        assertEquals(1, histogram.getBusyCount(0, 0));
+        assertEquals(1, histogram.getBusyCount(0, 1));
+        assertEquals(0, histogram.getBusyCount(0, 2));
+        assertEquals(0, histogram.getBusyCount(0, 47));
+    }
+
+    @Test
+    public void of_manySchedules_sameAsSequential() {
+        List<Schedule> schedules = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            schedules.add(new Schedule(Collections.singletonList(new EventBuilder().withDate("2022-03-14")
+                    .withTime(String.format("%02d:%02d", i % 24, (i * 7) % 60)).withDuration((i % 5 + 1) + "H")
+                    .withRecurFrequency(i % 2 == 0 ? "DAILY" : "NONE").build())));
+        }
+
+        BusyHistogram expected = new BusyHistogram(START_DATE, END_DATE, 30);
+        schedules.forEach(expected::addSchedule);
+        assertEquals(expected, BusyHistogram.of(schedules, START_DATE, END_DATE, 30));
+    }
+}
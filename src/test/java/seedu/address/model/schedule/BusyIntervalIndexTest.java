@@ -0,0 +1,97 @@
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalSchedule.getTypicalEvents;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EventBuilder;
+
+public class BusyIntervalIndexTest {
+
+    @Test
+    public void toEpochMinute() {
+        assertEquals(0, BusyIntervalIndex.toEpochMinute(LocalDate.parse("1970-01-01"), LocalTime.MIDNIGHT));
+        assertEquals(24 * 60 + 90,
+                BusyIntervalIndex.toEpochMinute(LocalDate.parse("1970-01-02"), LocalTime.parse("01:30")));
+    }
+
+    @Test
+    public void isBusyAt_emptySchedule_returnsFalse() {
+        BusyIntervalIndex index = new BusyIntervalIndex(Collections.emptyList());
+        assertFalse(index.isBusyAt(LocalDate.parse("2022-03-14"), LocalTime.parse("10:00")));
+    }
+
+    @Test
+    public void isBusyAt_nonRecurringEvent() {
+        Event event = new EventBuilder().withDate("2022-03-14").withTime("10:00").withDuration("1H")
+                .withRecurFrequency("NONE").build();
+        BusyIntervalIndex index = new BusyIntervalIndex(Collections.singletonList(event));
+        LocalDate date = LocalDate.parse("2022-03-14");
+
+        assertFalse(index.isBusyAt(date, LocalTime.parse("09:59")));
+        assertTrue(index.isBusyAt(date, LocalTime.parse("10:00")));
+        assertTrue(index.isBusyAt(date, LocalTime.parse("10:59")));
+        assertFalse(index.isBusyAt(date, LocalTime.parse("11:00")));
+        assertFalse(index.isBusyAt(date.plusDays(7), LocalTime.parse("10:30")));
+    }
+
+    @Test
+    public void isBusyAt_weeklyEventWrappingPastPeriodEnd() {
+        // 2022-03-13 is a Sunday, and the weekly phase of an event starting on it is close to the period end
+        Event event = new EventBuilder().withDate("2022-03-13").withTime("23:00").withDuration("3H")
+                .withRecurFrequency("WEEKLY").build();
+        BusyIntervalIndex index = new BusyIntervalIndex(Collections.singletonList(event));
+
+        assertTrue(index.isBusyAt(LocalDate.parse("2022-03-13"), LocalTime.parse("23:30")));
+        assertTrue(index.isBusyAt(LocalDate.parse("2022-03-14"), LocalTime.parse("01:59")));
+        assertFalse(index.isBusyAt(LocalDate.parse("2022-03-14"), LocalTime.parse("02:00")));
+        assertTrue(index.isBusyAt(LocalDate.parse("2022-03-21"), LocalTime.parse("00:30")));
+        // the week before the event starts is free
+        assertFalse(index.isBusyAt(LocalDate.parse("2022-03-07"), LocalTime.parse("00:30")));
+        assertFalse(index.isBusyAt(LocalDate.parse("2022-03-06"), LocalTime.parse("23:30")));
+    }
+
+    @Test
+    public void isBusyAt_eventLastingWholePeriod_busyOnceStarted() {
+        Event event = new EventBuilder().withDate("2022-03-14").withTime("12:00").withDuration("24H")
+                .withRecurFrequency("DAILY").build();
+        BusyIntervalIndex index = new BusyIntervalIndex(Collections.singletonList(event));
+
+        assertFalse(index.isBusyAt(LocalDate.parse("2022-03-14"), LocalTime.parse("11:59")));
+        assertTrue(index.isBusyAt(LocalDate.parse("2022-03-14"), LocalTime.parse("12:00")));
+        assertTrue(index.isBusyAt(LocalDate.parse("2022-03-20"), LocalTime.parse("03:00")));
+    }
+
+    @Test
+    public void isBusyAt_matchesEventCollisionCheck() {
+        List<Event> events = new ArrayList<>(getTypicalEvents());
+        events.addAll(Arrays.asList(
+                new EventBuilder().withEventDescription("Night shift").withDate("2022-03-15").withTime("22:00")
+                        .withDuration("10H").withRecurFrequency("DAILY").build(),
+                new EventBuilder().withEventDescription("Camp").withDate("2022-03-17").withTime("08:00")
+                        .withDuration("50H").withRecurFrequency("BIWEEKLY").build(),
+                new EventBuilder().withEventDescription("Trip").withDate("2022-03-18").withTime("18:30")
+                        .withDuration("30H").withRecurFrequency("NONE").build()));
+        BusyIntervalIndex index = new BusyIntervalIndex(events);
+
+        LocalDate startDate = LocalDate.parse("2022-03-10");
+        for (int day = 0; day < 35; day++) {
+            LocalDate date = startDate.plusDays(day);
+            for (int minute = 0; minute < BusyIntervalIndex.MINUTES_PER_DAY; minute += 15) {
+                LocalTime time = LocalTime.MIDNIGHT.plusMinutes(minute);
+                boolean expected = events.stream().anyMatch(event -> event.willDateTimeCollideEvent(date, time));
+                assertEquals(expected, index.isBusyAt(date, time), date + " " + time);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EventBuilder;
+
+public class ConflictDetectorTest {
+
+    private static final LocalDate START_DATE = LocalDate.parse("2022-03-14");
+    private static final LocalDate END_DATE = LocalDate.parse("2022-04-10");
+
+    private final Event lecture = new EventBuilder().withEventDescription("Lecture").withDate("2022-03-14")
+            .withTime("10:00").withDuration("2H").withRecurFrequency("WEEKLY").build();
+    private final Event meeting = new EventBuilder().withEventDescription("Meeting").withDate("2022-03-21")
+            .withTime("11:00").withDuration("2H").withRecurFrequency("NONE").build();
+    private final Event lunch = new EventBuilder().withEventDescription("Lunch").withDate("2022-03-14")
+            .withTime("12:00").withDuration("1H").withRecurFrequency("DAILY").build();
+
+    @Test
+    public void findConflicts_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ConflictDetector.findConflicts(
+                new Schedule(Collections.singletonList(lecture)), END_DATE, START_DATE));
+    }
+
+    @Test
+    public void findConflicts_backToBackEvents_noConflicts() {
+        // lunch starts exactly when the lecture ends
+        Schedule schedule = new Schedule(Arrays.asList(lecture, lunch));
+        assertTrue(ConflictDetector.findConflicts(schedule, START_DATE, END_DATE).isEmpty());
+    }
+
+    @Test
+    public void findConflicts_overlappingEvents_reportedOnceAtFirstOverlap() {
+        Schedule schedule = new Schedule(Arrays.asList(lecture, meeting, lunch));
+        List<ConflictDetector.Conflict> conflicts = ConflictDetector.findConflicts(schedule, START_DATE, END_DATE);
+
+        assertEquals(2, conflicts.size());
+        ConflictDetector.Conflict first = conflicts.get(0);
+        assertEquals(0, first.getFirstEventIndex());
+        assertEquals(1, first.getSecondEventIndex());
+        assertEquals(lecture, first.getFirstEvent());
+        assertEquals(meeting, first.getSecondEvent());
+        assertEquals(LocalDateTime.parse("2022-03-21T11:00"), first.getOverlapStart());
+        assertEquals(LocalDateTime.parse("2022-03-21T12:00"), first.getOverlapEnd());
+
+        ConflictDetector.Conflict second = conflicts.get(1);
+        assertEquals(1, second.getFirstEventIndex());
+        assertEquals(2, second.getSecondEventIndex());
+        assertEquals(LocalDateTime.parse("2022-03-21T12:00"), second.getOverlapStart());
+        assertEquals(LocalDateTime.parse("2022-03-21T13:00"), second.getOverlapEnd());
+        assertEquals("2. " + meeting + " and 3. " + lunch + " overlap from 2022-03-21 12:00 to 2022-03-21 13:00",
+                second.toString());
+    }
+
+    @Test
+    public void findConflicts_outsideRange_noConflicts() {
+        Schedule schedule = new Schedule(Arrays.asList(lecture, meeting));
+        assertTrue(ConflictDetector.findConflicts(schedule, START_DATE, START_DATE.plusDays(6)).isEmpty());
+        assertEquals(1, ConflictDetector.findConflicts(schedule, START_DATE, START_DATE.plusDays(7)).size());
+    }
+
+    @Test
+    public void findConflicts_recurringEvents_firstOverlapInRange() {
+        Event tutorial = new EventBuilder().withEventDescription("Tutorial").withDate("2022-03-17")
+                .withTime("11:30").withDuration("1H").withRecurFrequency("DAILY").build();
+        Schedule schedule = new Schedule(Arrays.asList(lecture, tutorial));
+
+        // the tutorial first overlaps the lecture on the first Monday after it starts
+        List<ConflictDetector.Conflict> conflicts = ConflictDetector.findConflicts(schedule, START_DATE, END_DATE);
+        assertEquals(1, conflicts.size());
+        assertEquals(LocalDateTime.parse("2022-03-21T11:30"), conflicts.get(0).getOverlapStart());
+
+        conflicts = ConflictDetector.findConflicts(schedule, LocalDate.parse("2022-03-22"), END_DATE);
+        assertEquals(LocalDateTime.parse("2022-03-28T11:30"), conflicts.get(0).getOverlapStart());
+    }
+
+    @Test
+    public void findConflictsWith_onlyConflictsOfEvent() {
+        Schedule schedule = new Schedule(Arrays.asList(lecture, meeting, lunch));
+
+        assertEquals(Collections.singletonList(new ConflictDetector.Conflict(schedule, 0, 1,
+                toEpochMinute("2022-03-21T11:00"), toEpochMinute("2022-03-21T12:00"))),
+                ConflictDetector.findConflictsWith(schedule, 0));
+        assertEquals(2, ConflictDetector.findConflictsWith(schedule, 1).size());
+        assertThrows(IllegalArgumentException.class, () -> ConflictDetector.findConflictsWith(schedule, 3));
+    }
+
+    @Test
+    public void findConflictsWith_laterRecurrence_found() {
+        // the weekly lecture only overlaps the meeting months after the lecture starts
+        Event laterMeeting = new EventBuilder(meeting).withDate("2022-09-19").build();
+        Schedule schedule = new Schedule(Arrays.asList(lecture, laterMeeting));
+
+        List<ConflictDetector.Conflict> conflicts = ConflictDetector.findConflictsWith(schedule, 0);
+        assertEquals(1, conflicts.size());
+        assertEquals(LocalDateTime.parse("2022-09-19T11:00"), conflicts.get(0).getOverlapStart());
+    }
+
+    private static long toEpochMinute(String dateTime) {
+        LocalDateTime localDateTime = LocalDateTime.parse(dateTime);
+        return BusyIntervalIndex.toEpochMinute(localDateTime.toLocalDate(), localDateTime.toLocalTime());
+    }
+}
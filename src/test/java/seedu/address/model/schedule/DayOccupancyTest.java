@@ -0,0 +1,163 @@
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.schedule.DayOccupancy.FreeRange;
+import seedu.address.testutil.EventBuilder;
+
+public class DayOccupancyTest {
+
+    private static final LocalDate DATE = LocalDate.parse("2022-03-14");
+
+    @Test
+    public void constructor_invalidSlotMinutes_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DayOccupancy(DATE, 0));
+        assertThrows(IllegalArgumentException.class, () -> new DayOccupancy(DATE, 7));
+    }
+
+    @Test
+    public void isValidSlotMinutes() {
+        assertFalse(DayOccupancy.isValidSlotMinutes(-30));
+        assertFalse(DayOccupancy.isValidSlotMinutes(0));
+        assertFalse(DayOccupancy.isValidSlotMinutes(7));
+        assertTrue(DayOccupancy.isValidSlotMinutes(1));
+        assertTrue(DayOccupancy.isValidSlotMinutes(15));
+        assertTrue(DayOccupancy.isValidSlotMinutes(1440));
+    }
+
+    @Test
+    public void getFreeRanges_emptyDay_wholeDayFree() {
+        DayOccupancy occupancy = new DayOccupancy(DATE, 1);
+        assertTrue(occupancy.isWholeDayFree());
+        assertFalse(occupancy.isWholeDayBusy());
+        assertEquals(Collections.singletonList(new FreeRange(0, 1440)), occupancy.getFreeRanges());
+    }
+
+    @Test
+    public void markBusy_partialSlots_roundedOutwards() {
+        DayOccupancy occupancy = new DayOccupancy(DATE, 30);
+        occupancy.markBusy(9 * 60 + 10, 10 * 60 + 1);
+        assertFalse(occupancy.isBusy(17));
+        assertTrue(occupancy.isBusy(18));
+        assertTrue(occupancy.isBusy(20));
+        assertFalse(occupancy.isBusy(21));
+        assertEquals(Arrays.asList(new FreeRange(0, 9 * 60), new FreeRange(10 * 60 + 30, 1440)),
+                occupancy.getFreeRanges());
+    }
+
+    @Test
+    public void markBusy_acrossWordBoundaries() {
+        DayOccupancy occupancy = new DayOccupancy(DATE, 1);
+        occupancy.markBusy(60, 200);
+        occupancy.markBusy(1400, 2000);
+        assertEquals(Arrays.asList(new FreeRange(0, 60), new FreeRange(200, 1400)), occupancy.getFreeRanges());
+
+        occupancy.markBusy(-10, 1440);
+        assertTrue(occupancy.isWholeDayBusy());
+        assertTrue(occupancy.getFreeRanges().isEmpty());
+    }
+
+    @Test
+    public void addEvent_fifteenMinuteResolution() {
+        DayOccupancy occupancy = new DayOccupancy(DATE, 15);
+        occupancy.addEvent(new EventBuilder().withDate("2022-03-14").withTime("10:15").withDuration("20M")
+                .withRecurFrequency("NONE").build());
+        assertEquals(Arrays.asList(new FreeRange(0, 615), new FreeRange(645, 1440)), occupancy.getFreeRanges());
+    }
+
+    @Test
+    public void addEvent_recurringEventsOverlappingDay() {
+        DayOccupancy occupancy = new DayOccupancy(DATE, 30);
+        // started the previous week and spills past midnight into this Monday
+        occupancy.addEvent(new EventBuilder().withDate("2022-03-06").withTime("23:00").withDuration("2H")
+                .withRecurFrequency("WEEKLY").build());
+        // the previous occurrence ends exactly as the day starts
+        occupancy.addEvent(new EventBuilder().withDate("2022-03-01").withTime("22:00").withDuration("2H")
+                .withRecurFrequency("DAILY").build());
+        // starts after the day
+        occupancy.addEvent(new EventBuilder().withDate("2022-03-21").withTime("12:00").withDuration("1H")
+                .withRecurFrequency("DAILY").build());
+        // biweekly, but not this week
+        occupancy.addEvent(new EventBuilder().withDate("2022-03-07").withTime("12:00").withDuration("1H")
+                .withRecurFrequency("BIWEEKLY").build());
+        assertEquals(Collections.singletonList(new FreeRange(60, 22 * 60)), occupancy.getFreeRanges());
+    }
+
+    @Test
+    public void addEvent_matchesEventsAtDate() {
+        Event camp = new EventBuilder().withDate("2022-03-10").withTime("08:00").withDuration("50H")
+                .withRecurFrequency("WEEKLY").build();
+        Event lecture = new EventBuilder().withDate("2022-03-01").withTime("10:20").withDuration("1H40M")
+                .withRecurFrequency("DAILY").build();
+        for (int day = 0; day < 21; day++) {
+            LocalDate date = DATE.plusDays(day);
+            DayOccupancy expected = new DayOccupancy(date, 5);
+            DayOccupancy actual = new DayOccupancy(date, 5);
+            for (Event event : Arrays.asList(camp, lecture)) {
+                for (Event eventAtDate : event.getEventsAtDate(date)) {
+                    long start = eventAtDate.getTime().toSecondOfDay() / 60;
+                    expected.markBusy(start, start + eventAtDate.getDuration().toMinutes());
+                }
+                actual.addEvent(event);
+            }
+            assertEquals(expected, actual, date.toString());
+        }
+    }
+
+    @Test
+    public void addOccupancy() {
+        DayOccupancy first = new DayOccupancy(DATE, 30);
+        first.markBusy(0, 60);
+        DayOccupancy second = new DayOccupancy(DATE, 30);
+        second.markBusy(120, 1440);
+        first.addOccupancy(second);
+        assertEquals(Collections.singletonList(new FreeRange(60, 120)), first.getFreeRanges());
+
+        first.clear();
+        assertTrue(first.isWholeDayFree());
+
+        assertThrows(IllegalArgumentException.class, () -> first.addOccupancy(new DayOccupancy(DATE, 15)));
+        assertThrows(IllegalArgumentException.class, () -> first.addOccupancy(new DayOccupancy(
+                DATE.plusDays(1), 30)));
+    }
+
+    @Test
+    public void ofDateRange_matchesSingleDayOccupancies() {
+        Schedule first = new Schedule(Arrays.asList(
+                new EventBuilder().withDate("2022-03-10").withTime("08:00").withDuration("50H")
+                        .withRecurFrequency("WEEKLY").build(),
+                new EventBuilder().withDate("2022-03-01").withTime("23:20").withDuration("1H40M")
+                        .withRecurFrequency("DAILY").build()));
+        Schedule second = new Schedule(Arrays.asList(
+                new EventBuilder().withDate("2022-03-20").withTime("12:00").withDuration("40H")
+                        .withRecurFrequency("NONE").build(),
+                new EventBuilder().withDate("2022-03-07").withTime("10:00").withDuration("90M")
+                        .withRecurFrequency("BIWEEKLY").build()));
+
+        List<DayOccupancy> occupancies = DayOccupancy.ofDateRange(Arrays.asList(first, second), DATE,
+                DATE.plusDays(29), 15);
+        assertEquals(30, occupancies.size());
+        for (int day = 0; day < 30; day++) {
+            DayOccupancy expected = new DayOccupancy(DATE.plusDays(day), 15);
+            expected.addSchedule(first);
+            expected.addSchedule(second);
+            assertEquals(expected, occupancies.get(day));
+        }
+    }
+
+    @Test
+    public void ofDateRange_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> DayOccupancy.ofDateRange(Collections.emptyList(),
+                DATE, DATE.minusDays(1), 30));
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EventBuilder;
+
+public class EventOccurrencesTest {
+
+    private static final long WINDOW_START =
+            BusyIntervalIndex.toEpochMinute(LocalDate.parse("2022-03-14"), LocalTime.MIDNIGHT);
+    private static final long WINDOW_END =
+            BusyIntervalIndex.toEpochMinute(LocalDate.parse("2022-03-17"), LocalTime.MIDNIGHT);
+
+    @Test
+    public void constructor_invalidWindow_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new EventOccurrences(WINDOW_END, WINDOW_START));
+    }
+
+    @Test
+    public void addEvent_dailyEvent_clippedToWindow() {
+        EventOccurrences occurrences = new EventOccurrences(WINDOW_START, WINDOW_END);
+        occurrences.addEvent(new EventBuilder().withDate("2022-03-01").withTime("23:00").withDuration("2H")
+                .withRecurFrequency("DAILY").build());
+
+        assertEquals(4, occurrences.size());
+        assertEquals(WINDOW_START, occurrences.getStart(0));
+        assertEquals(WINDOW_START + 60, occurrences.getEnd(0));
+        assertEquals(WINDOW_START + 23 * 60, occurrences.getStart(1));
+        assertEquals(WINDOW_START + 25 * 60, occurrences.getEnd(1));
+        assertEquals(WINDOW_END - 60, occurrences.getStart(3));
+        assertEquals(WINDOW_END, occurrences.getEnd(3));
+        assertThrows(IllegalArgumentException.class, () -> occurrences.getStart(4));
+    }
+
+    @Test
+    public void addEvent_eventsOutsideWindow_ignored() {
+        EventOccurrences occurrences = new EventOccurrences(WINDOW_START, WINDOW_END);
+        occurrences.addEvent(new EventBuilder().withDate("2022-03-13").withTime("22:00").withDuration("2H")
+                .withRecurFrequency("NONE").build());
+        occurrences.addEvent(new EventBuilder().withDate("2022-03-17").withTime("00:00").withDuration("2H")
+                .withRecurFrequency("DAILY").build());
+        occurrences.addEvent(new EventBuilder().withDate("2022-03-07").withTime("12:00").withDuration("2H")
+                .withRecurFrequency("BIWEEKLY").build());
+        assertEquals(0, occurrences.size());
+    }
+
+    @Test
+    public void addSchedule_manyEvents_growsStorage() {
+        EventOccurrences occurrences = new EventOccurrences(WINDOW_START, WINDOW_START + 30 * 24 * 60);
+        occurrences.addSchedule(new Schedule(Collections.nCopies(3, new EventBuilder()
+                .withDate("2022-03-14").withTime("09:00").withDuration("1H").withRecurFrequency("DAILY").build())));
+        assertEquals(90, occurrences.size());
+        assertEquals(WINDOW_START + 29 * 24 * 60 + 9 * 60, occurrences.getStart(89));
+    }
+}
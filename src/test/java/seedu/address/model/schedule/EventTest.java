@@ -141,6 +141,36 @@ public class EventTest {
         assertFalse(biweeklyEvent.willDateCollide(LocalDate.parse(twoWeeksBeforeToday).plusDays(1)));
     }
 
+    @Test
+    public void getClosestEpochDays_eventPastMidnight() {
+        Event weeklyEvent = new EventBuilder().withDate("2022-03-14").withRecurFrequency("WEEKLY").withTime("23:00")
+                .withDuration("3H").build();
+        long startEpochDay = LocalDate.parse("2022-03-14").toEpochDay();
+
+        // not started yet
+        assertEquals(startEpochDay, weeklyEvent.getClosestStartEpochDay(startEpochDay - 1));
+        assertEquals(startEpochDay, weeklyEvent.getClosestEndEpochDay(startEpochDay - 1));
+
+        // the occurrence on the previous week has ended before the relative date
+        assertEquals(startEpochDay + 7, weeklyEvent.getClosestStartEpochDay(startEpochDay + 7));
+        assertEquals(startEpochDay + 8, weeklyEvent.getClosestEndEpochDay(startEpochDay + 7));
+
+        // the occurrence on the previous day is still ongoing at the start of the relative date
+        assertEquals(startEpochDay + 7, weeklyEvent.getClosestStartEpochDay(startEpochDay + 8));
+        assertEquals(startEpochDay + 8, weeklyEvent.getClosestEndEpochDay(startEpochDay + 8));
+        assertTrue(weeklyEvent.willDateCollide(startEpochDay + 8));
+        assertFalse(weeklyEvent.willDateCollide(startEpochDay + 9));
+
+        // the LocalDate variants agree
+        for (long epochDay = startEpochDay - 3; epochDay < startEpochDay + 30; epochDay++) {
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            assertEquals(weeklyEvent.getClosestStartEpochDay(epochDay),
+                    weeklyEvent.getClosestStartDate(date).toEpochDay());
+            assertEquals(weeklyEvent.getClosestEndEpochDay(epochDay), weeklyEvent.getClosestEndDate(date).toEpochDay());
+            assertEquals(weeklyEvent.willDateCollide(epochDay), weeklyEvent.willDateCollide(date));
+        }
+    }
+
     @Test
     public void getNextEvent() {
         Event noneEvent = new EventBuilder().withDate("2021-01-01").withRecurFrequency("NONE").build();
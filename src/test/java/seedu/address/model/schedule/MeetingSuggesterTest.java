@@ -0,0 +1,85 @@
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.schedule.MeetingSuggester.MeetingSlot;
+import seedu.address.testutil.EventBuilder;
+
+public class MeetingSuggesterTest {
+
+    private static final LocalDate DATE = LocalDate.parse("2022-03-14");
+
+    // busy all day except from 09:00 to 11:00
+    private final Schedule morningFree = new Schedule(Arrays.asList(
+            new EventBuilder().withEventDescription("Sleep").withDate("2022-03-14").withTime("00:00")
+                    .withDuration("9H").withRecurFrequency("NONE").build(),
+            new EventBuilder().withEventDescription("Work").withDate("2022-03-14").withTime("11:00")
+                    .withDuration("13H").withRecurFrequency("NONE").build()));
+    // busy all day except from 10:00 to 12:00
+    private final Schedule lateMorningFree = new Schedule(Arrays.asList(
+            new EventBuilder().withEventDescription("Sleep").withDate("2022-03-14").withTime("00:00")
+                    .withDuration("10H").withRecurFrequency("NONE").build(),
+            new EventBuilder().withEventDescription("Work").withDate("2022-03-14").withTime("12:00")
+                    .withDuration("12H").withRecurFrequency("NONE").build()));
+
+    @Test
+    public void suggest_invalidArguments_throwsIllegalArgumentException() {
+        List<Schedule> schedules = Collections.singletonList(morningFree);
+        assertThrows(IllegalArgumentException.class, () -> MeetingSuggester.suggest(schedules, DATE, DATE, 30,
+                Duration.ZERO, 1, 5));
+        assertThrows(IllegalArgumentException.class, () -> MeetingSuggester.suggest(schedules, DATE, DATE, 30,
+                Duration.ofHours(1), 0, 5));
+        assertThrows(IllegalArgumentException.class, () -> MeetingSuggester.suggest(schedules, DATE, DATE, 30,
+                Duration.ofHours(1), 1, 0));
+    }
+
+    @Test
+    public void suggest_rankedByAttendanceThenEarliest() {
+        List<MeetingSlot> suggestions = MeetingSuggester.suggest(Arrays.asList(morningFree, lateMorningFree),
+                DATE, DATE, 30, Duration.ofHours(1), 1, 4);
+
+        assertEquals(Arrays.asList(
+                slot("2022-03-14T10:00", "2022-03-14T11:00", 2),
+                slot("2022-03-14T09:00", "2022-03-14T10:00", 1),
+                slot("2022-03-14T09:30", "2022-03-14T10:30", 1),
+                slot("2022-03-14T10:30", "2022-03-14T11:30", 1)), suggestions);
+    }
+
+    @Test
+    public void suggest_minimumAttendance_onlyTimesWithQuorum() {
+        List<MeetingSlot> suggestions = MeetingSuggester.suggest(Arrays.asList(morningFree, lateMorningFree),
+                DATE, DATE, 30, Duration.ofMinutes(45), 2, 5);
+
+        // a meeting of 45 minutes takes up two slots, so it only fits from 10:00
+        assertEquals(Collections.singletonList(slot("2022-03-14T10:00", "2022-03-14T10:45", 2)), suggestions);
+        assertTrue(MeetingSuggester.suggest(Arrays.asList(morningFree, lateMorningFree), DATE, DATE, 30,
+                Duration.ofHours(2), 2, 5).isEmpty());
+    }
+
+    @Test
+    public void suggest_meetingAcrossDays_endsWithinRange() {
+        Schedule empty = new Schedule(Collections.emptyList());
+        List<MeetingSlot> suggestions = MeetingSuggester.suggest(Collections.singletonList(empty), DATE,
+                DATE.plusDays(1), 60, Duration.ofHours(30), 1, 100);
+
+        // meetings can start from 00:00 on the first day to 18:00 on the second day
+        assertEquals(19, suggestions.size());
+        assertEquals(slot("2022-03-14T00:00", "2022-03-15T06:00", 1), suggestions.get(0));
+        assertEquals(slot("2022-03-14T18:00", "2022-03-16T00:00", 1), suggestions.get(18));
+    }
+
+    private static MeetingSlot slot(String start, String end, int attendance) {
+        return new MeetingSlot(LocalDateTime.parse(start), LocalDateTime.parse(end), attendance);
+    }
+}
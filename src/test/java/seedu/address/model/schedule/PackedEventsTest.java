@@ -0,0 +1,82 @@
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSchedule.getTypicalEvents;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EventBuilder;
+
+public class PackedEventsTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PackedEvents(null));
+    }
+
+    @Test
+    public void asList_typicalEvents_equalEventsInOrder() {
+        List<Event> events = getTypicalEvents();
+        PackedEvents packedEvents = new PackedEvents(events);
+        assertEquals(events.size(), packedEvents.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(events.get(i).toString(), packedEvents.getEvent(i).toString());
+        }
+        assertEquals(events, packedEvents.asList());
+    }
+
+    @Test
+    public void asList_modify_throwsUnsupportedOperationException() {
+        List<Event> packedEvents = new PackedEvents(getTypicalEvents()).asList();
+        assertThrows(UnsupportedOperationException.class, () -> packedEvents.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> packedEvents.add(packedEvents.get(0)));
+        assertThrows(IndexOutOfBoundsException.class, () -> packedEvents.get(packedEvents.size()));
+    }
+
+    @Test
+    public void getters_packedFields() {
+        Event event = new EventBuilder().withEventDescription("Camp").withDate("2022-03-17").withTime("08:30")
+                .withDuration("50H").withRecurFrequency("BIWEEKLY").build();
+        Event otherEvent = new EventBuilder().withEventDescription("Lunch").withRecurFrequency("NONE").build();
+        PackedEvents packedEvents = new PackedEvents(Arrays.asList(event, otherEvent, event));
+
+        assertEquals(BusyIntervalIndex.toEpochMinute(LocalDate.parse("2022-03-17"), LocalTime.parse("08:30")),
+                packedEvents.getStart(0));
+        assertEquals(50 * 60, packedEvents.getDurationInMinutes(0));
+        assertEquals(14, packedEvents.getPeriodInDays(0));
+        assertEquals(RecurFrequency.BIWEEKLY, packedEvents.getRecurFrequency(0));
+        assertEquals(0, packedEvents.getPeriodInDays(1));
+        assertEquals(RecurFrequency.NONE, packedEvents.getRecurFrequency(1));
+
+        // events with the same description share its id
+        assertEquals(packedEvents.getDescriptionId(0), packedEvents.getDescriptionId(2));
+        assertNotEquals(packedEvents.getDescriptionId(0), packedEvents.getDescriptionId(1));
+        assertEquals(new EventDescription("Lunch"), packedEvents.getEventDescription(1));
+    }
+
+    @Test
+    public void isEqualEvent_sameAsEventEquals() {
+        List<Event> events = new ArrayList<>(getTypicalEvents());
+        // equal to the first weekly occurrence, on a later date
+        events.add(new EventBuilder().withDate("2022-03-17").withRecurFrequency("WEEKLY").build());
+        events.add(new EventBuilder().withDate("2022-03-24").withRecurFrequency("WEEKLY").build());
+        events.add(new EventBuilder().withDate("2022-03-25").withRecurFrequency("WEEKLY").build());
+        PackedEvents packedEvents = new PackedEvents(events);
+
+        for (int i = 0; i < events.size(); i++) {
+            for (int j = 0; j < events.size(); j++) {
+                boolean isEqual = events.get(i).equals(events.get(j));
+                assertEquals(isEqual, packedEvents.isEqualEvent(i, events.get(j)));
+                assertEquals(isEqual, packedEvents.isEqualEvent(i, packedEvents, j));
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalSchedule.getTypicalEvents;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EventBuilder;
+
+public class ScheduleTest {
+
+    private static final LocalDate DATE = LocalDate.parse("2022-03-14");
+
+    @Test
+    public void getScheduleAt_emptySchedule_returnsEmptySchedule() {
+        assertTrue(Schedule.EMPTY_SCHEDULE.getScheduleAt(DATE).isEmpty());
+    }
+
+    @Test
+    public void getScheduleAt_matchesEventsAtDate() {
+        List<Event> events = new ArrayList<>(getTypicalEvents());
+        events.addAll(Arrays.asList(
+                new EventBuilder().withEventDescription("Night shift").withDate("2022-03-15").withTime("22:00")
+                        .withDuration("10H").withRecurFrequency("DAILY").build(),
+                new EventBuilder().withEventDescription("Camp").withDate("2022-03-17").withTime("08:00")
+                        .withDuration("50H").withRecurFrequency("BIWEEKLY").build(),
+                new EventBuilder().withEventDescription("Trip").withDate("2022-03-18").withTime("18:30")
+                        .withDuration("30H").withRecurFrequency("NONE").build()));
+        Schedule schedule = new Schedule(events);
+
+        for (int day = 0; day < 35; day++) {
+            LocalDate date = DATE.plusDays(day);
+            List<Event> expectedEvents = new ArrayList<>();
+            for (Event event : events) {
+                expectedEvents.addAll(event.getEventsAtDate(date));
+            }
+            Collections.sort(expectedEvents);
+            assertEquals(schedule.getScheduleAt(date).toString(), new Schedule(expectedEvents).toString(),
+                    date.toString());
+        }
+    }
+
+    @Test
+    public void getScheduleAt_sameDate_returnsCachedSchedule() {
+        Schedule schedule = new Schedule(getTypicalEvents());
+        Schedule scheduleAtDate = schedule.getScheduleAt(DATE);
+        assertSame(scheduleAtDate, schedule.getScheduleAt(DATE));
+        assertSame(schedule.getScheduleAt(LocalDate.now()), schedule.getUpcomingSchedule(0));
+
+        // least recently used dates are evicted once the cache is full
+        for (int day = 1; day <= Schedule.MAX_CACHED_DATES; day++) {
+            schedule.getScheduleAt(DATE.plusDays(day));
+        }
+        Schedule recomputedScheduleAtDate = schedule.getScheduleAt(DATE);
+        assertNotSame(scheduleAtDate, recomputedScheduleAtDate);
+        assertEquals(scheduleAtDate, recomputedScheduleAtDate);
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class BackgroundAddressBookSaverTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BackgroundAddressBookSaver(null));
+    }
+
+    @Test
+    public void save_null_throwsNullPointerException() {
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(new AddressBookStorageStub());
+        assertThrows(NullPointerException.class, () -> saver.save(null));
+    }
+
+    @Test
+    public void save_burstOfSaves_coalesced() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        // the first save blocks the writer, so the saves after it pile up
+        saver.save(addressBook);
+        for (int i = 0; i < 50; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withPhone("9000" + (1000 + i)).build());
+            saver.save(addressBook);
+        }
+        storage.release();
+        saver.flush();
+
+        assertTrue(storage.saved.size() <= 2);
+        assertEquals(addressBook, new AddressBook(storage.saved.get(storage.saved.size() - 1)));
+    }
+
+    @Test
+    public void save_snapshotTaken_laterModificationsNotSaved() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        storage.release();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(addressBook);
+
+        saver.save(addressBook);
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        saver.flush();
+        assertEquals(expected, new AddressBook(storage.saved.get(0)));
+    }
+
+    @Test
+    public void save_unmodifiedAddressBook_notSavedAgain() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        storage.release();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.save(addressBook);
+        saver.flush();
+        saver.save(addressBook);
+        saver.flush();
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void save_storageThrowsIoException_failureReportedAndRetried() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        storage.release();
+        storage.failure = new IOException("dummy exception");
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        List<IOException> failures = new CopyOnWriteArrayList<>();
+        saver.setFailureHandler(failures::add);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.save(addressBook);
+        saver.flush();
+        assertEquals(Collections.singletonList(storage.failure), failures);
+
+        // the same address book is saved again, as the previous save failed
+        storage.failure = null;
+        saver.save(addressBook);
+        saver.flush();
+        assertEquals(1, storage.saved.size());
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records the address books saved, and holds up saves until released.
+     */
+    private static class AddressBookStorageStub implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new CopyOnWriteArrayList<>();
+        private final CountDownLatch released = new CountDownLatch(1);
+        private volatile IOException failure;
+
+        void release() {
+            released.countDown();
+        }
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            try {
+                released.await();
+            } catch (InterruptedException ie) {
+                throw new AssertionError(ie);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            saved.add(addressBook);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList.Identity;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        assertEquals(original, storage.readAddressBook(filePath).get());
+
+        // modify data, overwrite existing file, and read back
+        original.addPerson(new PersonBuilder(HOON).withTelegram("hoon_meier").withGithub("hoonmeier")
+                .withTags("friends", "colleagues")
+                .withEvent("CS2103T Tutorial", "2022-03-16", "09:30", "1H30M", "BW").build());
+        storage.saveAddressBook(original, filePath);
+        assertEquals(original, storage.readAddressBook(filePath).get());
+
+        // save and read without specifying file path
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void decode_notSnapshot_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, BinaryAddressBookStorage.MESSAGE_NOT_SNAPSHOT, () ->
+                BinaryAddressBookStorage.decode(ByteBuffer.wrap("{ \"persons\" : [ ] }".getBytes())));
+        assertThrows(IllegalValueException.class, BinaryAddressBookStorage.MESSAGE_NOT_SNAPSHOT, () ->
+                BinaryAddressBookStorage.decode(ByteBuffer.wrap(new byte[0])));
+    }
+
+    @Test
+    public void decode_unsupportedVersion_throwsIllegalValueException() throws Exception {
+        byte[] bytes = BinaryAddressBookStorage.encode(getTypicalAddressBook());
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        assertThrows(IllegalValueException.class,
+                String.format(BinaryAddressBookStorage.MESSAGE_UNSUPPORTED_VERSION,
+                        BinaryAddressBookStorage.FORMAT_VERSION + 1), () ->
+                        BinaryAddressBookStorage.decode(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    public void decode_corruptedSnapshot_throwsIllegalValueException() throws Exception {
+        byte[] bytes = BinaryAddressBookStorage.encode(getTypicalAddressBook());
+
+        // damaged byte in the index
+        int indexSize = ByteBuffer.wrap(bytes).getInt(2 * Integer.BYTES);
+        byte[] damagedBytes = bytes.clone();
+        damagedBytes[indexSize / 2] ^= 1;
+        assertThrows(IllegalValueException.class, BinaryAddressBookStorage.MESSAGE_CORRUPTED, () ->
+                BinaryAddressBookStorage.decode(ByteBuffer.wrap(damagedBytes)));
+
+        // truncated snapshot
+        byte[] truncatedBytes = Arrays.copyOf(bytes, bytes.length - 1);
+        assertThrows(IllegalValueException.class, BinaryAddressBookStorage.MESSAGE_CORRUPTED, () ->
+                BinaryAddressBookStorage.decode(ByteBuffer.wrap(truncatedBytes)));
+    }
+
+    @Test
+    public void decode_corruptedEvent_scheduleRecoveredForItsPersonOnly() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        List<Person> originalPersons = original.getPersonList();
+        byte[] bytes = BinaryAddressBookStorage.encode(original);
+
+        // damaged last event, which belongs to the last person with any events
+        bytes[bytes.length - 1] = Byte.MAX_VALUE;
+        int damagedPerson = originalPersons.size() - 1;
+        while (originalPersons.get(damagedPerson).getSchedule().getEvents().isEmpty()) {
+            damagedPerson--;
+        }
+
+        List<Identity> recoveredIdentities = new ArrayList<>();
+        AddressBook addressBook = BinaryAddressBookStorage.decode(ByteBuffer.wrap(bytes), identity -> {
+            recoveredIdentities.add(identity);
+            return original.getPersonList().stream().filter(person -> new Identity(person).equals(identity))
+                    .findFirst().get().getSchedule();
+        });
+        assertEquals(original, addressBook);
+        addressBook.getPersonList().forEach(Person::getSchedule);
+        assertEquals(Collections.singletonList(new Identity(originalPersons.get(damagedPerson))),
+                recoveredIdentities);
+    }
+
+    @Test
+    public void decode_corruptedEventWithoutRecovery_throwsIllegalStateExceptionWhenScheduleUsed() throws Exception {
+        byte[] bytes = BinaryAddressBookStorage.encode(getTypicalAddressBook());
+        bytes[bytes.length - 1] = Byte.MAX_VALUE;
+
+        AddressBook addressBook = BinaryAddressBookStorage.decode(ByteBuffer.wrap(bytes));
+        assertEquals(getTypicalAddressBook().getPersonList().size(), addressBook.getPersonList().size());
+        assertThrows(IllegalStateException.class, BinaryAddressBookStorage.MESSAGE_CORRUPTED, () ->
+                addressBook.getPersonList().forEach(Person::getSchedule));
+    }
+
+    @Test
+    public void read_corruptedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
@@ -0,0 +1,180 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinarySnapshotAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path getFilePath() {
+        return testFolder.resolve("addressBook.json");
+    }
+
+    private Path getSnapshotFilePath() throws Exception {
+        return BinarySnapshotAddressBookStorage.getLatestSnapshotFilePath(getFilePath()).get();
+    }
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        BinarySnapshotAddressBookStorage storage =
+                new BinarySnapshotAddressBookStorage(new JsonAddressBookStorage(getFilePath()));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_bothFilesWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new BinarySnapshotAddressBookStorage(new JsonAddressBookStorage(getFilePath())).saveAddressBook(original);
+
+        assertEquals(original, new JsonAddressBookStorage(getFilePath()).readAddressBook().get());
+        assertEquals(original, new BinaryAddressBookStorage(getSnapshotFilePath()).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_snapshotRead_newGenerationWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        BinarySnapshotAddressBookStorage storage =
+                new BinarySnapshotAddressBookStorage(new JsonAddressBookStorage(getFilePath()));
+        storage.saveAddressBook(original);
+        Path firstSnapshotFilePath = getSnapshotFilePath();
+        assertEquals(BinarySnapshotAddressBookStorage.getSnapshotFilePath(getFilePath(), 0), firstSnapshotFilePath);
+
+        // the snapshot read stays mapped, and is not replaced by the next save
+        assertEquals(original, storage.readAddressBook().get());
+        AddressBook edited = getTypicalAddressBook();
+        edited.addPerson(HOON);
+        storage.saveAddressBook(edited);
+        assertEquals(BinarySnapshotAddressBookStorage.getSnapshotFilePath(getFilePath(), 1), getSnapshotFilePath());
+        assertFalse(Files.exists(firstSnapshotFilePath));
+        assertEquals(edited, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_corruptedScheduleInSnapshot_eventsInDataFileKept() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        BinarySnapshotAddressBookStorage storage =
+                new BinarySnapshotAddressBookStorage(new JsonAddressBookStorage(getFilePath()));
+        storage.saveAddressBook(original);
+
+        // damaged last event, with the snapshot still taken from the data file
+        byte[] bytes = Files.readAllBytes(getSnapshotFilePath());
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(getSnapshotFilePath(), bytes);
+
+        AddressBook edited = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, edited);
+        edited.addPerson(HOON);
+        storage.saveAddressBook(edited);
+        assertEquals(edited, new JsonAddressBookStorage(getFilePath()).readAddressBook().get());
+        assertEquals(edited, new BinaryAddressBookStorage(getSnapshotFilePath()).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedScheduleOfPersonWithSameName_ownScheduleRecovered() throws Exception {
+        Person first = new PersonBuilder(HOON).withPhone("11111111")
+                .withClosestEvent("Lecture", "2022-03-14", "09:00", "2H", "WEEKLY").build();
+        Person second = new PersonBuilder(HOON).withPhone("22222222")
+                .withClosestEvent("Lab", "2022-03-15", "14:00", "1H", "WEEKLY").build();
+        AddressBook original = new AddressBookBuilder().withPerson(first).withPerson(second).build();
+        BinarySnapshotAddressBookStorage storage =
+                new BinarySnapshotAddressBookStorage(new JsonAddressBookStorage(getFilePath()));
+        storage.saveAddressBook(original);
+
+        // damaged first event, which is the first person's, with the snapshot still taken from the data file
+        byte[] bytes = Files.readAllBytes(getSnapshotFilePath());
+        int indexSize = ByteBuffer.wrap(bytes).getInt(2 * Integer.BYTES);
+        bytes[indexSize + Long.BYTES] ^= 1;
+        Files.write(getSnapshotFilePath(), bytes);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_upToDateSnapshot_snapshotRead() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        BinarySnapshotAddressBookStorage storage =
+                new BinarySnapshotAddressBookStorage(new JsonAddressBookStorage(getFilePath()));
+        storage.saveAddressBook(original);
+
+        // the data file is not read, so a snapshot of other data taken from the same data file is read instead
+        AddressBook other = getTypicalAddressBook();
+        other.addPerson(HOON);
+        new BinaryAddressBookStorage(getSnapshotFilePath())
+                .saveAddressBook(other, getSnapshotFilePath(), FileStamp.of(getFilePath()));
+        assertEquals(other, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_dataFileEditedWithSameModifiedTime_dataFileRead() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        BinarySnapshotAddressBookStorage storage =
+                new BinarySnapshotAddressBookStorage(new JsonAddressBookStorage(getFilePath()));
+        storage.saveAddressBook(original);
+        FileTime savedTime = Files.getLastModifiedTime(getFilePath());
+
+        AddressBook edited = getTypicalAddressBook();
+        edited.addPerson(HOON);
+        new JsonAddressBookStorage(getFilePath()).saveAddressBook(edited);
+        Files.setLastModifiedTime(getFilePath(), savedTime);
+        assertEquals(edited, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_dataFileEditedAfterSnapshot_dataFileRead() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        BinarySnapshotAddressBookStorage storage =
+                new BinarySnapshotAddressBookStorage(new JsonAddressBookStorage(getFilePath()));
+        storage.saveAddressBook(original);
+
+        AddressBook edited = getTypicalAddressBook();
+        edited.addPerson(HOON);
+        new JsonAddressBookStorage(getFilePath()).saveAddressBook(edited);
+        assertEquals(edited, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_invalidSnapshot_dataFileRead() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(IDA);
+        BinarySnapshotAddressBookStorage storage =
+                new BinarySnapshotAddressBookStorage(new JsonAddressBookStorage(getFilePath()));
+        storage.saveAddressBook(original);
+
+        // damaged index, with the snapshot still taken from the data file
+        byte[] bytes = Files.readAllBytes(getSnapshotFilePath());
+        int indexSize = ByteBuffer.wrap(bytes).getInt(2 * Integer.BYTES);
+        bytes[indexSize - 1] ^= 1;
+        Files.write(getSnapshotFilePath(), bytes);
+        assertEquals(FileStamp.of(getFilePath()), BinaryAddressBookStorage.readSourceStamp(getSnapshotFilePath()));
+        assertEquals(original, storage.readAddressBook().get());
+
+        // not a snapshot
+        Files.write(getSnapshotFilePath(), new byte[] {1, 2, 3});
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void constructor_journaledStorage_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, BinarySnapshotAddressBookStorage.MESSAGE_JOURNAL_NOT_SUPPORTED,
+                () -> new BinarySnapshotAddressBookStorage(new JournaledAddressBookStorage(getFilePath())));
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path getFilePath() {
+        return testFolder.resolve("addressBook.json");
+    }
+
+    private ReadOnlyAddressBook readFromNewStorage() throws Exception {
+        return new JournaledAddressBookStorage(getFilePath()).readAddressBook().get();
+    }
+
+    @Test
+    public void constructor_invalidCompactionThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JournaledAddressBookStorage(getFilePath(), 0));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(getFilePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(getFilePath());
+
+        // first save writes the whole address book
+        storage.saveAddressBook(original);
+        assertEquals(original, readFromNewStorage());
+        assertEquals(original, new JsonAddressBookStorage(getFilePath()).readAddressBook().get());
+
+        // later saves only append to the journal
+        byte[] snapshot = Files.readAllBytes(getFilePath());
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build());
+        storage.saveAddressBook(original);
+        original.insertPerson(IDA, 0);
+        storage.saveAddressBook(original);
+        assertArrayEquals(snapshot, Files.readAllBytes(getFilePath()));
+        assertEquals(5, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(getFilePath())).size());
+
+        assertEquals(original, readFromNewStorage());
+        assertEquals(original.getPersonList(), readFromNewStorage().getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_nothingWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(getFilePath());
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Path journal = JournaledAddressBookStorage.getJournalFilePath(getFilePath());
+        byte[] snapshot = Files.readAllBytes(getFilePath());
+        byte[] journalBytes = Files.readAllBytes(journal);
+        storage.saveAddressBook(new AddressBook(original));
+        assertArrayEquals(snapshot, Files.readAllBytes(getFilePath()));
+        assertArrayEquals(journalBytes, Files.readAllBytes(journal));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherSnapshot_journalIgnored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(getFilePath());
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // the snapshot is replaced without the journal, e.g. by an older version of the app
+        AddressBook replacement = getTypicalAddressBook();
+        replacement.addPerson(IDA);
+        new JsonAddressBookStorage(getFilePath()).saveAddressBook(replacement);
+
+        assertEquals(replacement, readFromNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordDiscarded() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(getFilePath());
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Path journal = JournaledAddressBookStorage.getJournalFilePath(getFilePath());
+        Files.write(journal, "{\"removedIndices\":[0".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        JournaledAddressBookStorage newStorage = new JournaledAddressBookStorage(getFilePath());
+        assertEquals(original, newStorage.readAddressBook().get());
+
+        // records appended after the incomplete record are not lost
+        original.addPerson(IDA);
+        newStorage.saveAddressBook(original);
+        assertEquals(original, readFromNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_longJournal_journalCompacted() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(getFilePath(), 2);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+
+        // the snapshot holds every change, and the journal has only its header
+        assertEquals(original, new JsonAddressBookStorage(getFilePath()).readAddressBook().get());
+        Path journal = JournaledAddressBookStorage.getJournalFilePath(getFilePath());
+        assertEquals(1, Files.readAllLines(journal).size());
+        assertEquals(original, readFromNewStorage());
+
+        // the compacted journal is appended to as usual
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(journal).size());
+        assertEquals(original, readFromNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_wholeAddressBookWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path otherFilePath = testFolder.resolve("other.json");
+        new JournaledAddressBookStorage(getFilePath()).saveAddressBook(original, otherFilePath);
+
+        assertEquals(original, new JsonAddressBookStorage(otherFilePath).readAddressBook().get());
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(otherFilePath)));
+    }
+}
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -60,6 +61,29 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataConversionException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_duplicatePersons_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readAddressBook("duplicatePersonAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_extraFields_ignoresExtraFields() throws Exception {
+        ReadOnlyAddressBook addressBook = readAddressBook("extraFieldsAddressBook.json").get();
+        assertEquals(2, addressBook.getPersonList().size());
+        assertEquals("Alice Pauline", addressBook.getPersonList().get(0).getName().value);
+        assertEquals(1, addressBook.getPersonList().get(0).getSchedule().getEvents().size());
+        assertEquals("Benson Meier", addressBook.getPersonList().get(1).getName().value);
+    }
+
+    @Test
+    public void readAddressBook_typicalPersons_sameAsReadingWholeFile() throws Exception {
+        Path typicalPersonsFile = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalPersonsAddressBook.json");
+        AddressBook expected = JsonUtil.readJsonFile(typicalPersonsFile, JsonSerializableAddressBook.class).get()
+                .toModelType();
+        assertEquals(expected, new JsonAddressBookStorage(typicalPersonsFile).readAddressBook().get());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
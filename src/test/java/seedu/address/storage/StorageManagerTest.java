@@ -1,9 +1,13 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -60,6 +64,43 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unmodifiedAddressBook_notWrittenAgain() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        // same address book, unmodified
+        storageManager.saveAddressBook(original);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        // equal but different address book
+        storageManager.saveAddressBook(new AddressBook(original));
+        assertTrue(Files.exists(storageManager.getAddressBookFilePath()));
+
+        // same address book, modified
+        Files.delete(storageManager.getAddressBookFilePath());
+        original.addPerson(HOON);
+        storageManager.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_copyOfAddressBookJustRead_notWritten() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        AddressBook copy = new AddressBook(storageManager.readAddressBook().get());
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        // a copy holding the persons just read, e.g. the model's address book at startup
+        storageManager.saveAddressBook(copy);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        // the copy, modified
+        copy.addPerson(HOON);
+        storageManager.saveAddressBook(copy);
+        assertEquals(copy, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -4,9 +4,12 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.function.Predicate;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 
 /**
@@ -52,4 +55,25 @@ public class TestUtil {
     public static Person getPerson(Model model, Index index) {
         return model.getFilteredPersonList().get(index.getZeroBased());
     }
+
+    /**
+     * Returns a model with only {@code persons} in its address book, in the given order.
+     */
+    public static Model getModelWith(Person... persons) {
+        AddressBookBuilder addressBookBuilder = new AddressBookBuilder();
+        for (Person person : persons) {
+            addressBookBuilder.withPerson(person);
+        }
+        return new ModelManager(addressBookBuilder.build(), new UserPrefs());
+    }
+
+    /**
+     * Returns a copy of the address book of {@code model} whose filtered person list is filtered by
+     * {@code predicate}, as expected after a command that shows the persons matching {@code predicate}.
+     */
+    public static Model getFilteredCopy(Model model, Predicate<Person> predicate) {
+        Model copy = new ModelManager(model.getAddressBook(), new UserPrefs());
+        copy.updateFilteredPersonList(predicate);
+        return copy;
+    }
 }